@@ -0,0 +1,52 @@
+package spribe.task.api.core;
+
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.ConfigSnapshot;
+
+import java.util.Optional;
+
+/**
+ * player-controller endpoints known to the framework.
+ * The key matches the suffix of the corresponding endpoint.player.* property in TestConfig.
+ */
+public enum Endpoint {
+    CREATE("create"),
+    GET("get"),
+    GET_ALL("getAll"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Maps a request path template (as configured in endpoint.player.*) back to its endpoint.
+     */
+    public static Optional<Endpoint> ofPath(String path) {
+        ConfigSnapshot settings = ConfigFactoryProvider.snapshot();
+        if (path.equals(settings.endpointPlayerCreate())) {
+            return Optional.of(CREATE);
+        } else if (path.equals(settings.endpointPlayerGet())) {
+            return Optional.of(GET);
+        } else if (path.equals(settings.endpointPlayerGetAll())) {
+            return Optional.of(GET_ALL);
+        } else if (path.equals(settings.endpointPlayerUpdate())) {
+            return Optional.of(UPDATE);
+        } else if (path.equals(settings.endpointPlayerDelete())) {
+            return Optional.of(DELETE);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
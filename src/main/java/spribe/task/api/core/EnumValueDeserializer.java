@@ -0,0 +1,49 @@
+package spribe.task.api.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Binds a JSON string straight to an enum constant by its wire value, reading the parser's
+ * character buffer so no intermediate String is created. Unknown or non-string values map to
+ * the enum's UNKNOWN sentinel instead of failing deserialization.
+ */
+public final class EnumValueDeserializer<E extends Enum<E>> extends StdDeserializer<E> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Serializable, so the method reference it is given survives with the deserializer.
+     */
+    @FunctionalInterface
+    public interface CharsLookup<E> extends Serializable {
+        E find(char[] chars, int offset, int length);
+    }
+
+    private final CharsLookup<E> lookup;
+    private final E unknown;
+
+    public EnumValueDeserializer(Class<E> type, CharsLookup<E> lookup, E unknown) {
+        super(type);
+        this.lookup = lookup;
+        this.unknown = unknown;
+    }
+
+    @Override
+    public E deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            p.skipChildren();
+            return unknown;
+        }
+        return lookup.find(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+    }
+
+    @Override
+    public E getNullValue(DeserializationContext ctxt) {
+        return null;
+    }
+}
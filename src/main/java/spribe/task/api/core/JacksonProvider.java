@@ -2,6 +2,9 @@ package spribe.task.api.core;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import spribe.task.api.model.enums.Gender;
+import spribe.task.api.model.enums.Role;
 
 
 public final class JacksonProvider {
@@ -9,7 +12,12 @@ public final class JacksonProvider {
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
             .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true)
-            .configure(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS, false);
+            .configure(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS, false)
+            .registerModule(new SimpleModule("player-enums")
+                    .addDeserializer(Gender.class,
+                            new EnumValueDeserializer<>(Gender.class, Gender::fromValue, Gender.UNKNOWN))
+                    .addDeserializer(Role.class,
+                            new EnumValueDeserializer<>(Role.class, Role::fromValue, Role.UNKNOWN)));
 
     private JacksonProvider() {}
 
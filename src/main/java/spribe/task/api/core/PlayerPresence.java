@@ -0,0 +1,50 @@
+package spribe.task.api.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+
+/**
+ * Reads a get response for one player id. The status alone does not tell whether the player exists:
+ * get answers a missing player with 200 and an empty body (see issues.txt), not only with 404.
+ */
+public final class PlayerPresence {
+
+    private PlayerPresence() {
+    }
+
+    /**
+     * TRUE when the body is the player itself; FALSE on a 404 or a 200 whose body is empty, null or {};
+     * null when the answer says neither (another status, an unreadable body, a body with no or another id).
+     */
+    public static Boolean of(Response resp, int id) {
+        if (resp.statusCode() == 404) {
+            return false;
+        }
+        JsonNode body = body(resp);
+        if (body == null) {
+            return null;
+        }
+        if (body.isMissingNode() || body.isNull() || body.isObject() && body.isEmpty()) {
+            return false;
+        }
+        return body.path("id").asInt(Integer.MIN_VALUE) == id ? Boolean.TRUE : null;
+    }
+
+    /**
+     * The parsed body of a 200, a missing node when it is empty; null for other statuses or unreadable bodies.
+     */
+    public static JsonNode body(Response resp) {
+        if (resp.statusCode() != 200) {
+            return null;
+        }
+        try {
+            JsonNode body = JacksonProvider.mapper().readTree(resp.asString());
+            return body != null ? body : MissingNode.getInstance();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -10,9 +10,21 @@ import io.restassured.parsing.Parser;
 import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import spribe.task.api.core.transport.ContentEncodingFilter;
+import spribe.task.api.core.transport.Http2Transport;
 import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.support.allure.AsyncResultsWriter;
+import spribe.task.support.tracing.Tracing;
+import spribe.task.support.tracing.TracingFilter;
+import spribe.task.support.traffic.TrafficRecorder;
 
+import java.time.Duration;
 
+/**
+ * Builds the shared request specification on the first request.
+ * RestAssured parser setup and the Allure filter are created here rather than at class-load time
+ * to keep harness startup short.
+ */
 public final class RequestSpecFactory {
     private static final Logger log = LoggerFactory.getLogger(RequestSpecFactory.class);
 
@@ -25,23 +37,48 @@ public final class RequestSpecFactory {
         if (CACHED == null) {
             synchronized (RequestSpecFactory.class) {
                 if (CACHED == null) {
-                    String baseUrl = ConfigFactoryProvider.app().baseUrl();
+                    // not part of the reloadable snapshot, the spec is built once
+                    String baseUrl = ConfigFactoryProvider.config().baseUrl();
                     log.info("Initializing RequestSpecification with baseUrl={}", baseUrl);
 
                     RestAssured.defaultParser = Parser.JSON;
+                    // also covers runs without the TestNG listeners (replay, load workers, benchmarks)
+                    AsyncResultsWriter.install(ConfigFactoryProvider.config());
 
-                    RestAssuredConfig raConfig = RestAssured.config()
-                            .logConfig(LogConfig.logConfig()
-                                    .enableLoggingOfRequestAndResponseIfValidationFails());
+                    RestAssuredConfig raConfig = RestAssured.config();
+                    if (ConfigFactoryProvider.config().httpLogIfValidationFails()) {
+                        raConfig = raConfig.logConfig(LogConfig.logConfig()
+                                .enableLoggingOfRequestAndResponseIfValidationFails());
+                    }
+                    // ContentEncodingFilter decodes and meters compressed bodies instead
+                    raConfig = ContentEncodingFilter.withoutDecoders(raConfig);
+                    if (Tracing.isEnabled()) {
+                        raConfig = raConfig.httpClient(TracingFilter.httpClientConfig(raConfig.getHttpClientConfig()));
+                    }
 
-                    CACHED = new RequestSpecBuilder()
+                    RequestSpecBuilder builder = new RequestSpecBuilder()
                             .setBaseUri(baseUrl)
                             .setContentType("application/json")
                             .setAccept("application/json")
-                            .setConfig(raConfig)
-                            .addFilter(new AllureRestAssured())
-                            .log(LogDetail.URI)
-                            .build();
+                            .setConfig(raConfig);
+                    if (Tracing.isEnabled()) {
+                        builder.addFilter(TracingFilter.instance());
+                    }
+                    if (ConfigFactoryProvider.config().allureHttpAttachments()) {
+                        builder.addFilter(new AllureRestAssured());
+                    }
+                    if (ConfigFactoryProvider.config().trafficRecordEnabled()) {
+                        builder.addFilter(TrafficRecorder.instance());
+                    }
+                    builder.addFilter(new ContentEncodingFilter(ConfigFactoryProvider.config().httpAcceptEncoding()));
+                    Http2Transport.Mode transport = Http2Transport.mode(ConfigFactoryProvider.config().httpTransport());
+                    if (transport != Http2Transport.Mode.HTTP_1_1) {
+                        // sends the request itself, so it is added after every other filter
+                        builder.addFilter(new Http2Transport(transport,
+                                Duration.ofMillis(ConfigFactoryProvider.config().apiTimeout())));
+                        log.info("PlayersService requests use the {} transport", transport);
+                    }
+                    CACHED = builder.log(LogDetail.URI).build();
                 }
             }
         }
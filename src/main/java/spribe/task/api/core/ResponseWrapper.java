@@ -1,12 +1,21 @@
 package spribe.task.api.core;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.qameta.allure.Allure;
+import io.restassured.internal.RestAssuredResponseImpl;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.support.jfr.ResponseBodyEvent;
+import spribe.task.support.tracing.Tracing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongSupplier;
 
 /**
  * Wrapper around RestAssured Response with type-safe deserialization and Allure integration.
@@ -15,16 +24,26 @@ import org.testng.Assert;
 public final class ResponseWrapper<T> {
     private static final Logger log = LoggerFactory.getLogger(ResponseWrapper.class);
     private static final ObjectMapper M = JacksonProvider.mapper();
+    // read once, like the AllureRestAssured filter of the cached request spec; failure attachments are always added
+    private static final boolean HTTP_ATTACHMENTS = ConfigFactoryProvider.config().allureHttpAttachments();
 
     private final Response raw;
     private final Class<T> type;
+    private final Endpoint endpoint;
+    // time spent in Allure attachments for this response, reported with the ResponseBodyEvent
+    private long allureNanos;
 
     public ResponseWrapper(Response raw, Class<T> type) {
+        this(raw, type, null);
+    }
+
+    public ResponseWrapper(Response raw, Class<T> type, Endpoint endpoint) {
         if (raw == null) {
             throw new IllegalStateException("Response is null");
         }
         this.raw = raw;
         this.type = type;
+        this.endpoint = endpoint;
         logResponseDetails();
     }
 
@@ -58,9 +77,12 @@ public final class ResponseWrapper<T> {
 
     /**
      * Deserialize successful body to given type.
-     * Logs and attaches to Allure.
+     * Logs, and attaches to Allure when allure.http.attachments is on.
      */
     public T asBody() {
+        if (raw instanceof RestAssuredResponseImpl impl && impl.isInputStream()) {
+            return streamedBody();
+        }
         String body = raw.asString();
         if (body == null || body.isEmpty()) {
             log.error("Response body is empty");
@@ -69,14 +91,22 @@ public final class ResponseWrapper<T> {
         }
         try {
             log.info("Deserializing response body to {}", type.getSimpleName());
+            ResponseBodyEvent event = new ResponseBodyEvent();
+            event.begin();
             T result = M.readValue(body, type);
+            event.end();
             
-            try {
-                String prettyJson = M.writerWithDefaultPrettyPrinter().writeValueAsString(result);
-                Allure.addAttachment("Response Body (" + type.getSimpleName() + ")", "application/json", prettyJson);
-            } catch (Exception e) {
-                Allure.addAttachment("Response Body (raw)", body);
+            if (HTTP_ATTACHMENTS) {
+                long attachStart = System.nanoTime();
+                try {
+                    String prettyJson = M.writerWithDefaultPrettyPrinter().writeValueAsString(result);
+                    Allure.addAttachment("Response Body (" + type.getSimpleName() + ")", "application/json", prettyJson);
+                } catch (Exception e) {
+                    Allure.addAttachment("Response Body (raw)", body);
+                }
+                allureNanos += System.nanoTime() - attachStart;
             }
+            commit(event, () -> raw.asByteArray().length, false);
             
             return result;
         } catch (Exception e) {
@@ -89,6 +119,56 @@ public final class ResponseWrapper<T> {
         }
     }
 
+    /**
+     * Parses a body that no filter has read yet straight from the response stream (decompressed on the fly
+     * by ContentEncodingFilter), so large lists are never held as a String. The body is consumed by this.
+     */
+    private T streamedBody() {
+        try (InputStream in = raw.asInputStream(); JsonParser parser = M.getFactory().createParser(in)) {
+            if (parser.nextToken() == null) {
+                log.error("Response body is empty");
+                Allure.addAttachment("Error", "Response body is empty");
+                Assert.fail("Response body is empty; cannot map to " + type.getSimpleName());
+            }
+            log.info("Deserializing streamed response body to {}", type.getSimpleName());
+            ResponseBodyEvent event = new ResponseBodyEvent();
+            event.begin();
+            T result = M.readValue(parser, type);
+            event.end();
+
+            if (HTTP_ATTACHMENTS) {
+                long attachStart = System.nanoTime();
+                try {
+                    String prettyJson = M.writerWithDefaultPrettyPrinter().writeValueAsString(result);
+                    Allure.addAttachment("Response Body (" + type.getSimpleName() + ")", "application/json", prettyJson);
+                } catch (Exception e) {
+                    Allure.addAttachment("Response Body", String.valueOf(result));
+                }
+                allureNanos += System.nanoTime() - attachStart;
+            }
+            commit(event, parser.currentLocation()::getByteOffset, true);
+
+            return result;
+        } catch (IOException e) {
+            log.error("Failed to deserialize response to {}: {}", type.getSimpleName(), e.getMessage());
+            Allure.addAttachment("Deserialization Error", e.getMessage());
+            Assert.fail("Failed to deserialize streamed response to " + type.getSimpleName(), e);
+            return null;
+        }
+    }
+
+    private void commit(ResponseBodyEvent event, LongSupplier bytes, boolean streamed) {
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint != null ? endpoint.key() : null;
+            event.type = type.getSimpleName();
+            event.status = raw.statusCode();
+            event.bytes = bytes.getAsLong();
+            event.streamed = streamed;
+            event.allureOverhead = allureNanos;
+            event.commit();
+        }
+    }
+
     /**
      * Deserialize error body to provided error class.
      * Logs and attaches to Allure.
@@ -124,20 +204,26 @@ public final class ResponseWrapper<T> {
     }
 
     /**
-     * Logs basic response details (status, content type, response time).
+     * Logs basic response details (status, content type, response time), attached to Allure
+     * when allure.http.attachments is on.
      */
     private void logResponseDetails() {
         int statusCode = raw.statusCode();
         String contentType = raw.getContentType();
         long responseTime = raw.getTime();
         
-        log.info("Response received: status={}, contentType={}, time={}ms", 
-                statusCode, contentType, responseTime);
+        log.info("Response received: status={}, contentType={}, time={}ms, traceparent={}",
+                statusCode, contentType, responseTime, Tracing.lastTraceparent().orElse("n/a"));
         
+        if (!HTTP_ATTACHMENTS) {
+            return;
+        }
         // Add response metrics to Allure
+        long attachStart = System.nanoTime();
         Allure.addAttachment("Status Code", String.valueOf(statusCode));
         Allure.addAttachment("Content Type", contentType != null ? contentType : "N/A");
         Allure.addAttachment("Response Time", responseTime + " ms");
+        allureNanos += System.nanoTime() - attachStart;
     }
 
     /**
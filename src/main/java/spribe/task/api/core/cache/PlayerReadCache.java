@@ -0,0 +1,142 @@
+package spribe.task.api.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.Metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded client-side cache of successful POST /player/get and GET /player/get/all responses.
+ * Backed by Caffeine (W-TinyLFU admission, size- and TTL-based eviction).
+ * Mutations made through the owning PlayersService invalidate the affected entries.
+ * A read that was already in flight when a mutation happened is returned but not stored, as it may predate it.
+ *
+ * Hits, misses and evictions are also published as cache.* metrics.
+ */
+public final class PlayerReadCache {
+    private static final Logger log = LoggerFactory.getLogger(PlayerReadCache.class);
+
+    private static final String ALL_KEY = "getAll";
+    private static final int HTTP_OK = 200;
+
+    private final Cache<String, Response> cache;
+    // bumped by every invalidation, before the entries are removed
+    private final AtomicLong generation = new AtomicLong();
+
+    private PlayerReadCache(Cache<String, Response> cache) {
+        this.cache = cache;
+    }
+
+    public static PlayerReadCache create(long maximumSize, Duration ttl) {
+        return new PlayerReadCache(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .removalListener((String key, Response value, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        Metrics.increment("cache.eviction");
+                    }
+                })
+                .build());
+    }
+
+    /**
+     * Cache that never stores anything; every read goes to the server.
+     */
+    public static PlayerReadCache disabled() {
+        return new PlayerReadCache(null);
+    }
+
+    public static PlayerReadCache fromConfig(TestConfig config) {
+        if (!config.cacheEnabled()) {
+            return disabled();
+        }
+        log.info("Player read cache enabled: maximumSize={}, ttl={}ms", config.cacheMaximumSize(), config.cacheTtlMs());
+        return create(config.cacheMaximumSize(), Duration.ofMillis(config.cacheTtlMs()));
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    public Response getById(Integer id, Supplier<Response> loader) {
+        if (id == null) {
+            return loader.get();
+        }
+        return getOrLoad(idKey(id), loader);
+    }
+
+    public Response getAll(Supplier<Response> loader) {
+        return getOrLoad(ALL_KEY, loader);
+    }
+
+    /**
+     * A player was created: only the list is affected.
+     */
+    public void onCreate() {
+        if (cache != null) {
+            generation.incrementAndGet();
+            cache.invalidate(ALL_KEY);
+        }
+    }
+
+    /**
+     * A player was updated or deleted: both its entry and the list are affected.
+     */
+    public void onChange(Integer id) {
+        if (cache != null) {
+            generation.incrementAndGet();
+            if (id != null) {
+                cache.invalidate(idKey(id));
+            }
+            cache.invalidate(ALL_KEY);
+        }
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    private Response getOrLoad(String key, Supplier<Response> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        Response cached = cache.getIfPresent(key);
+        if (cached != null) {
+            Metrics.increment("cache.hit");
+            log.debug("Cache hit for {}", key);
+            return cached;
+        }
+        Metrics.increment("cache.miss");
+        long loadedIn = generation.get();
+        Response loaded = loader.get();
+        if (loaded != null && loaded.statusCode() == HTTP_OK) {
+            // Buffer the body so the cached response can be read by every caller
+            loaded.asByteArray();
+            // compute runs under the entry lock invalidate takes too, so a mutation either sees this entry
+            // and removes it, or has bumped the generation before and the entry is skipped
+            cache.asMap().compute(key, (k, current) -> generation.get() == loadedIn ? loaded : current);
+        }
+        return loaded;
+    }
+
+    private static String idKey(Integer id) {
+        return "get:" + id;
+    }
+}
@@ -0,0 +1,118 @@
+package spribe.task.api.core.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Primitive int-to-int hash map with open addressing and linear probing.
+ * No boxing and two flat arrays, so a million entries take about 16 MB instead of ~80 MB for HashMap.
+ * Not thread-safe; Integer.MIN_VALUE is reserved as the empty-slot marker and cannot be used as a key.
+ */
+public final class IntIntOpenHashMap {
+
+    private static final int EMPTY = Integer.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    public IntIntOpenHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * @return previous value, or {@code missing} if the key was absent
+     */
+    public int put(int key, int value, int missing) {
+        checkKey(key);
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+        int slot = slot(key);
+        if (keys[slot] == key) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        return missing;
+    }
+
+    public int get(int key, int missing) {
+        if (key == EMPTY) {
+            return missing;
+        }
+        int slot = slot(key);
+        return keys[slot] == key ? values[slot] : missing;
+    }
+
+    public boolean containsKey(int key) {
+        return key != EMPTY && keys[slot(key)] == key;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Bytes held by the backing arrays.
+     */
+    public long footprintBytes() {
+        return 2L * keys.length * Integer.BYTES;
+    }
+
+    /**
+     * Calls the consumer for every key in table order.
+     */
+    public void forEachKey(IntConsumer consumer) {
+        for (int key : keys) {
+            if (key != EMPTY) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    private int slot(int key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static void checkKey(int key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Integer.MIN_VALUE cannot be used as a key");
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package spribe.task.api.core.index;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import spribe.task.api.core.JacksonProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact, read-only index of a GET /player/get/all result, built straight from the streamed JSON.
+ *
+ * Players are packed one after another into a single (optionally direct, i.e. off-heap) ByteBuffer:
+ * id, age, then gender, login, role and screenName as length-prefixed UTF-8.
+ * A primitive {@link IntIntOpenHashMap} maps player id to its position, so membership and field
+ * lookups are O(1) without a single boxed Integer or per-player object on the heap.
+ * Reads use absolute buffer access and are safe from multiple threads once the index is built.
+ */
+public final class PlayerIndex {
+
+    private static final int NO_POSITION = -1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_STRING = 0xFFFF;
+
+    private static final int GENDER = 0;
+    private static final int LOGIN = 1;
+    private static final int ROLE = 2;
+    private static final int SCREEN_NAME = 3;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final ByteBuffer data;
+    private final int[] offsets;
+    private final int size;
+    private final IntIntOpenHashMap positionsById;
+    private final int duplicateIds;
+    private final long pojoEstimateBytes;
+
+    private PlayerIndex(Builder builder) {
+        this.data = builder.data;
+        this.offsets = builder.offsets;
+        this.size = builder.size;
+        this.positionsById = builder.positionsById;
+        this.duplicateIds = builder.duplicateIds;
+        this.pojoEstimateBytes = builder.pojoEstimateBytes;
+    }
+
+    /**
+     * Streams a get/all body ({"players":[...]}) into an index without materializing PlayerResponse objects.
+     *
+     * @param offHeap store packed player data in a direct buffer outside the Java heap
+     */
+    public static PlayerIndex read(InputStream body, boolean offHeap) throws IOException {
+        Builder builder = new Builder(offHeap);
+        try (JsonParser parser = JacksonProvider.mapper().getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON object at the start of get/all response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("players".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readPlayer(parser, builder);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new PlayerIndex(builder);
+    }
+
+    private static void readPlayer(JsonParser parser, Builder builder) throws IOException {
+        Integer id = null;
+        Integer age = null;
+        String gender = null;
+        String login = null;
+        String role = null;
+        String screenName = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id":
+                    id = parser.getValueAsInt();
+                    break;
+                case "age":
+                    age = parser.getValueAsInt();
+                    break;
+                case "gender":
+                    gender = parser.getValueAsString();
+                    break;
+                case "login":
+                    login = parser.getValueAsString();
+                    break;
+                case "role":
+                    role = parser.getValueAsString();
+                    break;
+                case "screenName":
+                    screenName = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        builder.add(id, age, gender, login, role, screenName);
+    }
+
+    // ---------- LOOKUPS BY ID ----------
+
+    public boolean contains(int id) {
+        return positionsById.containsKey(id);
+    }
+
+    /**
+     * Position of the player in response order, or -1 when absent.
+     */
+    public int positionOf(int id) {
+        return positionsById.get(id, NO_POSITION);
+    }
+
+    public Integer age(int id) {
+        int position = positionOf(id);
+        return position == NO_POSITION ? null : ageAt(position);
+    }
+
+    public String gender(int id) {
+        return field(id, GENDER);
+    }
+
+    public String login(int id) {
+        return field(id, LOGIN);
+    }
+
+    public String role(int id) {
+        return field(id, ROLE);
+    }
+
+    public String screenName(int id) {
+        return field(id, SCREEN_NAME);
+    }
+
+    // ---------- POSITIONAL ACCESS (response order) ----------
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Player id at the position, or null when the record had no id.
+     */
+    public Integer idAt(int position) {
+        int id = data.getInt(offset(position));
+        return id == NULL_INT ? null : id;
+    }
+
+    public Integer ageAt(int position) {
+        int age = data.getInt(offset(position) + Integer.BYTES);
+        return age == NULL_INT ? null : age;
+    }
+
+    public String genderAt(int position) {
+        return readString(offset(position), GENDER);
+    }
+
+    public String loginAt(int position) {
+        return readString(offset(position), LOGIN);
+    }
+
+    public String roleAt(int position) {
+        return readString(offset(position), ROLE);
+    }
+
+    public String screenNameAt(int position) {
+        return readString(offset(position), SCREEN_NAME);
+    }
+
+    /**
+     * Number of records whose id was already seen earlier in the response (the later record wins lookups).
+     */
+    public int duplicateIds() {
+        return duplicateIds;
+    }
+
+    public boolean isOffHeap() {
+        return data.isDirect();
+    }
+
+    public Footprint footprint() {
+        long indexBytes = positionsById.footprintBytes() + (long) offsets.length * Integer.BYTES + data.capacity();
+        return new Footprint(size, indexBytes, data.isDirect() ? data.capacity() : 0, pojoEstimateBytes);
+    }
+
+    private String field(int id, int field) {
+        int position = positionOf(id);
+        return position == NO_POSITION ? null : readString(offset(position), field);
+    }
+
+    private int offset(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of " + size);
+        }
+        return offsets[position];
+    }
+
+    private String readString(int recordOffset, int field) {
+        int pos = recordOffset + HEADER_BYTES;
+        for (int i = 0; i < field; i++) {
+            int len = Short.toUnsignedInt(data.getShort(pos));
+            pos += Short.BYTES + (len == NULL_STRING ? 0 : len);
+        }
+        int len = Short.toUnsignedInt(data.getShort(pos));
+        if (len == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[len];
+        data.get(pos + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Memory used by the index compared with an estimate for the equivalent List&lt;PlayerResponse&gt;.
+     */
+    public static final class Footprint {
+        private final int players;
+        private final long indexBytes;
+        private final long offHeapBytes;
+        private final long pojoBytes;
+
+        Footprint(int players, long indexBytes, long offHeapBytes, long pojoBytes) {
+            this.players = players;
+            this.indexBytes = indexBytes;
+            this.offHeapBytes = offHeapBytes;
+            this.pojoBytes = pojoBytes;
+        }
+
+        public long indexBytes() {
+            return indexBytes;
+        }
+
+        public long offHeapBytes() {
+            return offHeapBytes;
+        }
+
+        public long pojoBytes() {
+            return pojoBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("players=%d, index=%.1f KB (off-heap %.1f KB, heap %.1f KB), "
+                            + "List<PlayerResponse>~%.1f KB, ratio=%.2f",
+                    players, indexBytes / 1024.0, offHeapBytes / 1024.0, (indexBytes - offHeapBytes) / 1024.0,
+                    pojoBytes / 1024.0, pojoBytes == 0 ? 0.0 : indexBytes / (double) pojoBytes);
+        }
+    }
+
+    private static final class Builder {
+        // Rough HotSpot sizes with compressed oops: PlayerResponse (header + 7 refs),
+        // boxed Integer, String + byte[] headers, ArrayList slot.
+        private static final int POJO_OBJECT_BYTES = 40;
+        private static final int BOXED_INTEGER_BYTES = 16;
+        private static final int STRING_OVERHEAD_BYTES = 24 + 16;
+        private static final int LIST_SLOT_BYTES = 4;
+
+        private final boolean offHeap;
+        private ByteBuffer data;
+        private int[] offsets = new int[1024];
+        private int size;
+        private final IntIntOpenHashMap positionsById = new IntIntOpenHashMap(1024);
+        private int duplicateIds;
+        private long pojoEstimateBytes;
+
+        Builder(boolean offHeap) {
+            this.offHeap = offHeap;
+            this.data = allocate(64 * 1024);
+        }
+
+        void add(Integer id, Integer age, String gender, String login, String role, String screenName) {
+            byte[][] strings = {utf8(gender), utf8(login), utf8(role), utf8(screenName)};
+            int recordBytes = HEADER_BYTES;
+            for (byte[] s : strings) {
+                recordBytes += Short.BYTES + (s == null ? 0 : s.length);
+            }
+            ensureCapacity(recordBytes);
+
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size << 1);
+            }
+            offsets[size] = data.position();
+            data.putInt(id == null ? NULL_INT : id);
+            data.putInt(age == null ? NULL_INT : age);
+            for (byte[] s : strings) {
+                if (s == null) {
+                    data.putShort((short) NULL_STRING);
+                } else {
+                    data.putShort((short) s.length);
+                    data.put(s);
+                }
+            }
+            if (id != null && positionsById.put(id, size, NO_POSITION) != NO_POSITION) {
+                duplicateIds++;
+            }
+            size++;
+
+            pojoEstimateBytes += POJO_OBJECT_BYTES + LIST_SLOT_BYTES
+                    + (id == null ? 0 : BOXED_INTEGER_BYTES) + (age == null ? 0 : BOXED_INTEGER_BYTES);
+            for (byte[] s : strings) {
+                pojoEstimateBytes += s == null ? 0 : STRING_OVERHEAD_BYTES + align(s.length);
+            }
+        }
+
+        private void ensureCapacity(int extra) {
+            if (data.remaining() >= extra) {
+                return;
+            }
+            int capacity = data.capacity();
+            while (capacity - data.position() < extra) {
+                capacity <<= 1;
+            }
+            ByteBuffer grown = allocate(capacity);
+            data.flip();
+            grown.put(data);
+            data = grown;
+        }
+
+        private ByteBuffer allocate(int capacity) {
+            return offHeap ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        }
+
+        private static byte[] utf8(String value) {
+            if (value == null) {
+                return null;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length >= NULL_STRING) {
+                throw new IllegalArgumentException("Field value is too long for the index: " + bytes.length + " bytes");
+            }
+            return bytes;
+        }
+
+        private static long align(int bytes) {
+            return (bytes + 7L) & ~7L;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package spribe.task.api.core.scan;
+
+import spribe.task.api.model.response.PlayerResponse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the players of an id range one id at a time, keeping up to parallelism requests in flight,
+ * and hands them out in id order as they complete. Ids without a player (the fetch returns null) are skipped.
+ *
+ * Requests are issued as a sliding window: the next id is submitted as soon as the oldest one is handed out,
+ * so a slow id holds back the output but never more than parallelism requests.
+ * The worker threads are released when the range is exhausted, a fetch fails, or the stream is closed.
+ */
+final class FanOutScan implements Iterator<PlayerResponse>, AutoCloseable {
+
+    private static final AtomicInteger SCANS = new AtomicInteger();
+
+    private final int toId;
+    private final int parallelism;
+    private final IntFunction<PlayerResponse> fetch;
+    private final Consumer<FanOutScan> onExhausted;
+    private final ExecutorService workers;
+    private final Deque<Future<PlayerResponse>> window = new ArrayDeque<>();
+    private int nextId;
+    private int found;
+    private Integer firstId;
+    private PlayerResponse next;
+    private boolean closed;
+
+    /**
+     * @param fromId       first id, inclusive
+     * @param toId         last id, inclusive
+     * @param onExhausted  called once every id was read, not when the scan is closed or fails before
+     */
+    FanOutScan(int fromId, int toId, int parallelism, IntFunction<PlayerResponse> fetch,
+               Consumer<FanOutScan> onExhausted) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.nextId = fromId;
+        this.toId = toId;
+        this.parallelism = parallelism;
+        this.fetch = fetch;
+        this.onExhausted = onExhausted;
+        int scan = SCANS.incrementAndGet();
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "player-scan-" + scan + "-" + threads.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    Stream<PlayerResponse> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false).onClose(this::close);
+    }
+
+    /**
+     * Players handed out so far.
+     */
+    int found() {
+        return found;
+    }
+
+    /**
+     * Id of the first player handed out, null if there was none.
+     */
+    Integer firstId() {
+        return firstId;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !closed) {
+            fill();
+            Future<PlayerResponse> oldest = window.poll();
+            if (oldest == null) {
+                close();
+                onExhausted.accept(this);
+                break;
+            }
+            next = await(oldest);
+        }
+        return next != null;
+    }
+
+    @Override
+    public PlayerResponse next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PlayerResponse player = next;
+        next = null;
+        if (found++ == 0) {
+            firstId = player.getPlayerId();
+        }
+        return player;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        window.forEach(f -> f.cancel(true));
+        window.clear();
+        workers.shutdownNow();
+    }
+
+    private void fill() {
+        while (window.size() < parallelism && nextId <= toId) {
+            int id = nextId++;
+            window.add(workers.submit(() -> fetch.apply(id)));
+        }
+    }
+
+    private PlayerResponse await(Future<PlayerResponse> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Player scan failed", e.getCause());
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during player scan", e);
+        }
+    }
+}
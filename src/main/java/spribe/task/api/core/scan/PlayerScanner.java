@@ -0,0 +1,145 @@
+package spribe.task.api.core.scan;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.model.response.PlayerResponse;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Reads every player in id order with one of the {@link ScanStrategy strategies}; the requests themselves
+ * are made by the functions PlayersService passes in, so throttling and metrics apply as usual.
+ *
+ * The fan-out needs the id range. Its upper end is passed in by callers that know it, otherwise it is the highest
+ * id get/all returns. Its lower end is scan.fanout.min.id or, once a complete scan ran in this JVM, the lowest id
+ * that scan found: ids are not reused, so no player can appear below it later.
+ * In AUTO mode the stored {@link ScanModel} compares both strategies at the expected size (the player count
+ * of the last scan, or the id range when there was none); without a model AUTO reads get/all. When the upper end
+ * had to come from get/all and the model picks get/all, that read is returned rather than repeated.
+ */
+public final class PlayerScanner {
+    private static final Logger log = LoggerFactory.getLogger(PlayerScanner.class);
+
+    /**
+     * What the last complete scan of this JVM found.
+     */
+    record History(int lowestId, int players) {
+    }
+
+    private static volatile History history;
+
+    private final Supplier<List<PlayerResponse>> getAll;
+    private final IntFunction<PlayerResponse> getById;
+    private final int parallelism;
+    private final int minId;
+    private final ScanModel model;
+
+    /**
+     * @param getAll   reads GET /player/get/all
+     * @param getById  reads one player, null when the id has none
+     * @param model    cost model for AUTO, null when none was measured
+     */
+    public PlayerScanner(Supplier<List<PlayerResponse>> getAll, IntFunction<PlayerResponse> getById,
+                         int parallelism, int minId, ScanModel model) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.getAll = getAll;
+        this.getById = getById;
+        this.parallelism = parallelism;
+        this.minId = minId;
+        this.model = model;
+    }
+
+    public static PlayerScanner fromConfig(TestConfig config, Supplier<List<PlayerResponse>> getAll,
+                                           IntFunction<PlayerResponse> getById) {
+        String env = System.getProperty("env", "prod").toLowerCase();
+        Path file = ScanModel.file(config.perfDataDirectory(), env);
+        ScanModel model = null;
+        try {
+            model = ScanModel.load(file).orElse(null);
+        } catch (IOException e) {
+            log.warn("Ignoring scan model {}: {}", file.toAbsolutePath(), e.toString());
+        }
+        return new PlayerScanner(getAll, getById, config.scanFanoutParallelism(), config.scanFanoutMinId(), model);
+    }
+
+    /**
+     * Returns the players in id order. A fan-out stream owns worker threads until it is read to the end,
+     * so close it (try-with-resources) when it may be abandoned early.
+     */
+    public Stream<PlayerResponse> scan(ScanStrategy strategy) {
+        if (strategy == ScanStrategy.GET_ALL || strategy == ScanStrategy.AUTO && model == null) {
+            return scan(ScanStrategy.GET_ALL, -1);
+        }
+        List<PlayerResponse> players = getAll.get();
+        int highest = players.stream()
+                .map(PlayerResponse::getPlayerId)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(-1);
+        if (strategy == ScanStrategy.AUTO && choose(highest) == ScanStrategy.GET_ALL) {
+            Metrics.increment("scan.strategy.get_all");
+            return sorted(players);
+        }
+        return scan(ScanStrategy.FAN_OUT, highest);
+    }
+
+    /**
+     * Same as {@link #scan(ScanStrategy)} with a known upper end of the id range, so finding it costs no request.
+     */
+    public Stream<PlayerResponse> scan(ScanStrategy strategy, int highestId) {
+        if (strategy == ScanStrategy.AUTO) {
+            strategy = model == null ? ScanStrategy.GET_ALL : choose(highestId);
+        }
+        Metrics.increment("scan.strategy." + strategy.name().toLowerCase());
+        if (strategy == ScanStrategy.GET_ALL) {
+            return sorted(getAll.get());
+        }
+        return fanOut(lowestId(), highestId);
+    }
+
+    private ScanStrategy choose(int highestId) {
+        int lowestId = lowestId();
+        History last = history;
+        long ids = Math.max(0, highestId - lowestId + 1);
+        ScanStrategy strategy = model.choose(last != null ? last.players() : ids, ids);
+        log.debug("Scan of ids {}..{} ({} players last time) uses {}", lowestId, highestId,
+                last != null ? last.players() : "?", strategy);
+        return strategy;
+    }
+
+    private Stream<PlayerResponse> sorted(List<PlayerResponse> all) {
+        List<PlayerResponse> players = all.stream()
+                .sorted(Comparator.comparing(PlayerResponse::getPlayerId,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        remember(players.isEmpty() || players.get(0).getPlayerId() == null
+                ? lowestId() : players.get(0).getPlayerId(), players.size());
+        return players.stream();
+    }
+
+    private Stream<PlayerResponse> fanOut(int fromId, int toId) {
+        // an empty range proves there is no player up to toId either
+        return new FanOutScan(fromId, toId, parallelism, getById,
+                scan -> remember(scan.firstId() != null ? scan.firstId() : toId + 1, scan.found())).stream();
+    }
+
+    private int lowestId() {
+        History last = history;
+        return last != null ? Math.max(minId, last.lowestId()) : minId;
+    }
+
+    private static void remember(int lowestId, int players) {
+        history = new History(lowestId, players);
+    }
+}
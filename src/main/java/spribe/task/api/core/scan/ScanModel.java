@@ -0,0 +1,119 @@
+package spribe.task.api.core.scan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Linear cost model of both scan strategies, fitted by ScanBenchmark on one environment:
+ * GET /player/get/all grows with the number of players, the fan-out with the size of the id range
+ * (deleted ids cost a request too). {@link PlayerScanner} uses it to pick a strategy in AUTO mode.
+ *
+ * @param parallelism  fan-out parallelism the model was measured with
+ */
+public record ScanModel(Line getAll, Line fanOut, int parallelism) {
+
+    private static final String GET_ALL_FIXED = "getAll.fixedMs";
+    private static final String GET_ALL_PER_PLAYER = "getAll.perPlayerMs";
+    private static final String FAN_OUT_FIXED = "fanOut.fixedMs";
+    private static final String FAN_OUT_PER_ID = "fanOut.perIdMs";
+    private static final String PARALLELISM = "fanOut.parallelism";
+
+    /**
+     * One measurement: a scan over size players (get/all) or ids (fan-out) took millis.
+     */
+    public record Sample(long size, double millis) {
+    }
+
+    public record Line(double fixedMs, double perItemMs) {
+
+        public double at(long items) {
+            return fixedMs + perItemMs * items;
+        }
+
+        /**
+         * Least-squares fit; a single size or a falling slope (noise) gives a flat or proportional line.
+         */
+        public static Line fit(List<Sample> samples) {
+            if (samples.isEmpty()) {
+                throw new IllegalArgumentException("No samples to fit");
+            }
+            double n = samples.size();
+            double meanX = samples.stream().mapToDouble(Sample::size).sum() / n;
+            double meanY = samples.stream().mapToDouble(Sample::millis).sum() / n;
+            double sxx = 0;
+            double sxy = 0;
+            for (Sample s : samples) {
+                sxx += (s.size() - meanX) * (s.size() - meanX);
+                sxy += (s.size() - meanX) * (s.millis() - meanY);
+            }
+            if (sxx == 0) {
+                return meanX == 0 ? new Line(meanY, 0) : new Line(0, meanY / meanX);
+            }
+            double slope = sxy / sxx;
+            if (slope < 0) {
+                return new Line(meanY, 0);
+            }
+            double intercept = meanY - slope * meanX;
+            return intercept < 0 ? new Line(0, meanY / meanX) : new Line(intercept, slope);
+        }
+    }
+
+    public ScanStrategy choose(long players, long ids) {
+        return fanOut.at(ids) < getAll.at(players) ? ScanStrategy.FAN_OUT : ScanStrategy.GET_ALL;
+    }
+
+    /**
+     * Number of players from which the fan-out wins on a range without gaps, or -1 if get/all stays at least
+     * as fast for large datasets.
+     */
+    public long crossover() {
+        double slopes = getAll.perItemMs() - fanOut.perItemMs();
+        if (slopes <= 0) {
+            return -1;
+        }
+        return Math.max(0, (long) Math.ceil((fanOut.fixedMs() - getAll.fixedMs()) / slopes));
+    }
+
+    public static Path file(String perfDataDirectory, String env) {
+        return Path.of(perfDataDirectory, "scan-model", env + ".properties");
+    }
+
+    public static Optional<ScanModel> load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        }
+        try {
+            return Optional.of(new ScanModel(
+                    new Line(Double.parseDouble(props.getProperty(GET_ALL_FIXED)),
+                            Double.parseDouble(props.getProperty(GET_ALL_PER_PLAYER))),
+                    new Line(Double.parseDouble(props.getProperty(FAN_OUT_FIXED)),
+                            Double.parseDouble(props.getProperty(FAN_OUT_PER_ID))),
+                    Integer.parseInt(props.getProperty(PARALLELISM))));
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new IOException("Malformed scan model " + file.toAbsolutePath(), e);
+        }
+    }
+
+    public void save(Path file) throws IOException {
+        Properties props = new Properties();
+        props.setProperty(GET_ALL_FIXED, String.valueOf(getAll.fixedMs()));
+        props.setProperty(GET_ALL_PER_PLAYER, String.valueOf(getAll.perItemMs()));
+        props.setProperty(FAN_OUT_FIXED, String.valueOf(fanOut.fixedMs()));
+        props.setProperty(FAN_OUT_PER_ID, String.valueOf(fanOut.perItemMs()));
+        props.setProperty(PARALLELISM, String.valueOf(parallelism));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            props.store(out, "Scan cost model, written by ScanBenchmark");
+        }
+    }
+}
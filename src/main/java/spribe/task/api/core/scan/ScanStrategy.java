@@ -0,0 +1,25 @@
+package spribe.task.api.core.scan;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * How {@link PlayerScanner} reads the full player list.
+ */
+public enum ScanStrategy {
+    /** one GET /player/get/all, sorted by id */
+    GET_ALL,
+    /** POST /player/get for every id of the id range, several at a time */
+    FAN_OUT,
+    /** whichever the stored {@link ScanModel} predicts to be faster for the expected size */
+    AUTO;
+
+    public static ScanStrategy of(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown scan.strategy '" + value + "', expected one of "
+                    + List.of(values()), e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package spribe.task.api.core.snapshot;
+
+import spribe.task.api.model.response.PlayerResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Difference between two consecutive get/all snapshots.
+ */
+public final class PlayersDelta {
+
+    private final PlayersSnapshot snapshot;
+    private final boolean changed;
+    private final List<PlayerResponse> added;
+    private final List<PlayerResponse> updated;
+    private final List<Integer> removed;
+
+    private PlayersDelta(PlayersSnapshot snapshot, boolean changed, List<PlayerResponse> added,
+                         List<PlayerResponse> updated, List<Integer> removed) {
+        this.snapshot = snapshot;
+        this.changed = changed;
+        this.added = Collections.unmodifiableList(added);
+        this.updated = Collections.unmodifiableList(updated);
+        this.removed = Collections.unmodifiableList(removed);
+    }
+
+    static PlayersDelta unchanged(PlayersSnapshot snapshot) {
+        return new PlayersDelta(snapshot, false, List.of(), List.of(), List.of());
+    }
+
+    static PlayersDelta between(PlayersSnapshot previous, PlayersSnapshot current) {
+        Map<Integer, PlayerResponse> before = previous != null ? previous.playersById() : Map.of();
+        Map<Integer, PlayerResponse> after = current.playersById();
+
+        List<PlayerResponse> added = new ArrayList<>();
+        List<PlayerResponse> updated = new ArrayList<>();
+        List<Integer> removed = new ArrayList<>();
+        for (Map.Entry<Integer, PlayerResponse> e : after.entrySet()) {
+            PlayerResponse old = before.get(e.getKey());
+            if (old == null) {
+                added.add(e.getValue());
+            } else if (!old.equals(e.getValue())) {
+                updated.add(e.getValue());
+            }
+        }
+        for (Integer id : before.keySet()) {
+            if (!after.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+        boolean changed = previous == null || !added.isEmpty() || !updated.isEmpty() || !removed.isEmpty();
+        return new PlayersDelta(current, changed, added, updated, removed);
+    }
+
+    /**
+     * The snapshot after this poll; pass it to the next poll.
+     */
+    public PlayersSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    public List<PlayerResponse> added() {
+        return added;
+    }
+
+    public List<PlayerResponse> updated() {
+        return updated;
+    }
+
+    public List<Integer> removed() {
+        return removed;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayersDelta{" +
+                "changed=" + changed +
+                ", total=" + snapshot.size() +
+                ", added=" + added.size() +
+                ", updated=" + updated.size() +
+                ", removed=" + removed.size() +
+                '}';
+    }
+}
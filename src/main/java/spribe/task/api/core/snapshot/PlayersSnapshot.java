@@ -0,0 +1,112 @@
+package spribe.task.api.core.snapshot;
+
+import io.restassured.response.Response;
+import spribe.task.api.core.JacksonProvider;
+import spribe.task.api.model.response.PlayerResponse;
+import spribe.task.api.model.response.PlayersResponse;
+import spribe.task.support.metrics.Metrics;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsed GET /player/get/all result together with what is needed to poll it cheaply:
+ * the server validators (ETag / Last-Modified, when offered) and a hash of the raw body.
+ */
+public final class PlayersSnapshot {
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final String etag;
+    private final String lastModified;
+    private final byte[] contentHash;
+    private final Map<Integer, PlayerResponse> playersById;
+
+    private PlayersSnapshot(String etag, String lastModified, byte[] contentHash,
+                            Map<Integer, PlayerResponse> playersById) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.contentHash = contentHash;
+        this.playersById = playersById;
+    }
+
+    /**
+     * Turns a (possibly conditional) get/all response into a delta against the previous snapshot.
+     * A 304 or a body with the same hash is not deserialized at all.
+     *
+     * @param previous snapshot of the previous poll, or null for the first one
+     */
+    public static PlayersDelta next(PlayersSnapshot previous, Response response) {
+        int status = response.statusCode();
+        if (status == HTTP_NOT_MODIFIED && previous != null) {
+            Metrics.increment("poll.notModified");
+            return PlayersDelta.unchanged(previous);
+        }
+        if (status != HTTP_OK) {
+            throw new IllegalStateException("Unexpected status for get/all poll: " + status);
+        }
+
+        byte[] body = response.asByteArray();
+        byte[] hash = sha256(body);
+        String etag = response.getHeader("ETag");
+        String lastModified = response.getHeader("Last-Modified");
+
+        if (previous != null && Arrays.equals(previous.contentHash, hash)) {
+            Metrics.increment("poll.sameContent");
+            return PlayersDelta.unchanged(
+                    new PlayersSnapshot(etag, lastModified, hash, previous.playersById));
+        }
+
+        Metrics.increment("poll.changed");
+        PlayersSnapshot current = new PlayersSnapshot(etag, lastModified, hash, index(parse(body)));
+        return PlayersDelta.between(previous, current);
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public String lastModified() {
+        return lastModified;
+    }
+
+    public Map<Integer, PlayerResponse> playersById() {
+        return playersById;
+    }
+
+    public int size() {
+        return playersById.size();
+    }
+
+    private static List<PlayerResponse> parse(byte[] body) {
+        try {
+            PlayersResponse parsed = JacksonProvider.mapper().readValue(body, PlayersResponse.class);
+            return parsed.getPlayers() != null ? parsed.getPlayers() : List.of();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to deserialize get/all response", e);
+        }
+    }
+
+    private static Map<Integer, PlayerResponse> index(List<PlayerResponse> players) {
+        Map<Integer, PlayerResponse> byId = new LinkedHashMap<>(players.size() * 2);
+        for (PlayerResponse player : players) {
+            byId.put(player.getPlayerId(), player);
+        }
+        return Collections.unmodifiableMap(byId);
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
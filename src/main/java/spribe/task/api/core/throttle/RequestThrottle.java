@@ -0,0 +1,166 @@
+package spribe.task.api.core.throttle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.core.Endpoint;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.Metrics;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Client-side throttling of player-controller calls.
+ * Every call takes one permit from the bucket of its endpoint and one from the bucket of its editor.
+ *
+ * Rates come from TestConfig:
+ * throttle.endpoint.{key}.rps and throttle.editor.{login}.rps, falling back to
+ * throttle.rps and throttle.editor.rps. A rate of 0 means "not limited".
+ * Waiting time is published as the throttle.wait.{endpoint} metric.
+ */
+public final class RequestThrottle {
+    private static final Logger log = LoggerFactory.getLogger(RequestThrottle.class);
+
+    private static final RequestThrottle INSTANCE = new RequestThrottle(ConfigFactoryProvider.config());
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "request-throttle");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final TestConfig config;
+    private final boolean enabled;
+    private final ConcurrentMap<String, Optional<TokenBucket>> buckets = new ConcurrentHashMap<>();
+
+    RequestThrottle(TestConfig config) {
+        this.config = config;
+        this.enabled = config.throttleEnabled();
+        if (enabled) {
+            log.info("Request throttling enabled: default rps={}, editor rps={}, burst={}",
+                    config.throttleRps(), config.throttleEditorRps(), config.throttleBurst());
+        }
+    }
+
+    public static RequestThrottle instance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Blocks until both the endpoint and the editor permit are available.
+     *
+     * @return waited nanoseconds
+     * @throws IllegalStateException if interrupted while waiting; neither permit is kept and the interrupt
+     *                               flag stays set, so the call must not be sent
+     */
+    public long acquire(Endpoint endpoint, String editor) {
+        if (!enabled) {
+            return 0L;
+        }
+        long waited = 0L;
+        Optional<TokenBucket> byEndpoint = endpointBucket(endpoint);
+        if (byEndpoint.isPresent()) {
+            waited += byEndpoint.get().acquire();
+        }
+        Optional<TokenBucket> byEditor = editorBucket(editor);
+        if (byEditor.isPresent()) {
+            try {
+                waited += byEditor.get().acquire();
+            } catch (IllegalStateException e) {
+                byEndpoint.ifPresent(TokenBucket::refund);
+                throw e;
+            }
+        }
+        record(endpoint, waited);
+        return waited;
+    }
+
+    /**
+     * Takes both permits only if they are available right now.
+     */
+    public boolean tryAcquire(Endpoint endpoint, String editor) {
+        if (!enabled) {
+            return true;
+        }
+        Optional<TokenBucket> byEndpoint = endpointBucket(endpoint);
+        if (byEndpoint.isPresent() && !byEndpoint.get().tryAcquire()) {
+            Metrics.increment("throttle.rejected." + endpoint.key());
+            return false;
+        }
+        Optional<TokenBucket> byEditor = editorBucket(editor);
+        if (byEditor.isPresent() && !byEditor.get().tryAcquire()) {
+            byEndpoint.ifPresent(TokenBucket::refund);
+            Metrics.increment("throttle.rejected." + endpoint.key());
+            return false;
+        }
+        record(endpoint, 0L);
+        return true;
+    }
+
+    /**
+     * Reserves both permits without blocking; the future completes once the request may be sent.
+     */
+    public CompletableFuture<Long> acquireAsync(Endpoint endpoint, String editor) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        long reservedAt = System.nanoTime();
+        CompletableFuture<Long> byEndpoint = endpointBucket(endpoint)
+                .map(b -> b.acquireAsync(SCHEDULER))
+                .orElseGet(() -> CompletableFuture.completedFuture(0L));
+        CompletableFuture<Long> byEditor = editorBucket(editor)
+                .map(b -> b.acquireAsync(SCHEDULER))
+                .orElseGet(() -> CompletableFuture.completedFuture(0L));
+        return byEndpoint.thenCombine(byEditor, (a, b) -> {
+            long waited = System.nanoTime() - reservedAt;
+            record(endpoint, waited);
+            return waited;
+        });
+    }
+
+    private void record(Endpoint endpoint, long waitedNanos) {
+        Metrics.recordNanos("throttle.wait." + endpoint.key(), waitedNanos);
+        if (waitedNanos > 0) {
+            Metrics.increment("throttle.delayed." + endpoint.key());
+        }
+    }
+
+    private Optional<TokenBucket> endpointBucket(Endpoint endpoint) {
+        return buckets.computeIfAbsent("endpoint:" + endpoint.key(),
+                k -> bucket(rate("throttle.endpoint." + endpoint.key() + ".rps", config.throttleRps())));
+    }
+
+    private Optional<TokenBucket> editorBucket(String editor) {
+        if (editor == null) {
+            return Optional.empty();
+        }
+        return buckets.computeIfAbsent("editor:" + editor,
+                k -> bucket(rate("throttle.editor." + editor + ".rps", config.throttleEditorRps())));
+    }
+
+    private Optional<TokenBucket> bucket(double rps) {
+        return rps > 0 ? Optional.of(new TokenBucket(rps, config.throttleBurst())) : Optional.empty();
+    }
+
+    private double rate(String key, double fallback) {
+        String value = config.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid throttle rate {}={}", key, value);
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package spribe.task.api.core.throttle;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm (GCRA).
+ * The whole bucket state is a single "theoretical arrival time" updated with CAS,
+ * so permits stay accurate with hundreds of competing threads and no thread ever holds a lock.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerSecond sustained rate, must be positive
+     * @param burst            number of permits that may be taken back-to-back after an idle period
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1: " + burst);
+        }
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Claims one permit and returns how long the caller has to wait before using it.
+     */
+    public long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + intervalNanos;
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return Math.max(0L, tat - toleranceNanos - now);
+            }
+        }
+    }
+
+    /**
+     * Claims one permit only if it is available now.
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(0L, TimeUnit.NANOSECONDS) >= 0;
+    }
+
+    /**
+     * Claims one permit if it becomes available within the timeout and waits for it.
+     *
+     * @return waited nanoseconds, or -1 if the permit was not claimed, also when interrupted while waiting
+     * (the interrupt flag stays set)
+     */
+    public long tryAcquire(long timeout, TimeUnit unit) {
+        long maxWait = unit.toNanos(timeout);
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            long wait = Math.max(0L, tat - toleranceNanos - now);
+            if (wait > maxWait) {
+                return -1L;
+            }
+            if (theoreticalArrival.compareAndSet(tat, Math.max(tat, now) + intervalNanos)) {
+                if (!sleep(wait)) {
+                    refund();
+                    return -1L;
+                }
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Claims one permit, blocking until it is available.
+     *
+     * @return waited nanoseconds
+     * @throws IllegalStateException if interrupted while waiting; the permit is given back and the interrupt
+     *                               flag stays set
+     */
+    public long acquire() {
+        long wait = reserve();
+        if (!sleep(wait)) {
+            refund();
+            throw new IllegalStateException("Interrupted while waiting for a permit");
+        }
+        return wait;
+    }
+
+    /**
+     * Claims one permit without blocking the caller; the future completes when the permit is usable.
+     * The future value is the waited time in nanoseconds.
+     */
+    public CompletableFuture<Long> acquireAsync(ScheduledExecutorService scheduler) {
+        long wait = reserve();
+        if (wait == 0L) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        scheduler.schedule(() -> future.complete(wait), wait, TimeUnit.NANOSECONDS);
+        return future;
+    }
+
+    /**
+     * Gives back a permit claimed by {@link #reserve()} that ended up unused.
+     */
+    public void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * @return false if interrupted before the time passed
+     */
+    private static boolean sleep(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,266 @@
+package spribe.task.api.core.transport;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.core.Endpoint;
+import spribe.task.support.metrics.Metrics;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Negotiates compressed responses and decodes them itself instead of RestAssured, so that the body
+ * reaches the Jackson parser as a stream and the cost of the encoding can be measured per endpoint.
+ * RestAssured's own decoders have to be switched off with {@link #withoutDecoders(RestAssuredConfig)}.
+ *
+ * Sends the codings of http.accept.encoding that can be decoded (gzip, deflate) as Accept-Encoding,
+ * or identity when none is left. Per endpoint it counts the bytes received
+ * (compression.wire.bytes.{endpoint}) and the bytes after decoding (compression.body.bytes.{endpoint}),
+ * and records the CPU time the reader thread spent decoding each compressed body (compression.decode.{endpoint}).
+ * Both are known once the body was read to the end or closed, so a body nobody reads is not counted.
+ * A response in any other coding is passed on untouched and counted as compression.unsupported.{endpoint}.
+ */
+public final class ContentEncodingFilter implements OrderedFilter {
+    private static final Logger log = LoggerFactory.getLogger(ContentEncodingFilter.class);
+
+    private static final Set<String> SUPPORTED = Set.of("gzip", "deflate");
+    private static final String IDENTITY = "identity";
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final String acceptEncoding;
+
+    public ContentEncodingFilter(String codings) {
+        List<String> accepted = new ArrayList<>();
+        for (String coding : codings.split(",")) {
+            String name = coding.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty() || accepted.contains(name)) {
+                continue;
+            }
+            if (SUPPORTED.contains(name)) {
+                accepted.add(name);
+            } else {
+                log.warn("Content coding '{}' cannot be decoded and is not requested, supported: {}", name, SUPPORTED);
+            }
+        }
+        this.acceptEncoding = accepted.isEmpty() ? IDENTITY : String.join(", ", accepted);
+    }
+
+    /**
+     * Returns the config with RestAssured's gzip/deflate decoding (and its Accept-Encoding header) turned off.
+     */
+    public static RestAssuredConfig withoutDecoders(RestAssuredConfig config) {
+        return config.decoderConfig(config.getDecoderConfig().noContentDecoders());
+    }
+
+    public String acceptEncoding() {
+        return acceptEncoding;
+    }
+
+    @Override
+    public int getOrder() {
+        // added right before the transport, so that every other filter sees the decoded body
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        requestSpec.replaceHeader("Accept-Encoding", acceptEncoding);
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        String endpoint = Endpoint.ofPath(requestSpec.getUserDefinedPath()).map(Endpoint::key).orElse("other");
+        String coding = coding(response.getHeader("Content-Encoding"));
+        if (!coding.equals(IDENTITY) && !SUPPORTED.contains(coding)) {
+            Metrics.increment("compression.unsupported." + endpoint);
+            return response;
+        }
+        Headers headers = response.getHeaders();
+        if (!coding.equals(IDENTITY)) {
+            // describe the decoded body from here on
+            headers = new Headers(headers.asList().stream()
+                    .filter(h -> !h.getName().equalsIgnoreCase("Content-Encoding")
+                            && !h.getName().equalsIgnoreCase("Content-Length"))
+                    .toList());
+        }
+        return new ResponseBuilder()
+                .clone(response)
+                .setHeaders(headers)
+                .setBody(new MeteredBody(response.asInputStream(), coding, endpoint))
+                .build();
+    }
+
+    private static String coding(String header) {
+        if (header == null || header.isBlank()) {
+            return IDENTITY;
+        }
+        // stacked codings ("deflate, gzip") are left to the caller as unsupported
+        return header.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long cpuNanos() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * Counts the wire bytes underneath the decoder and the decoded bytes handed to the reader.
+     * The decoder is created on the first read, so an empty body in a compressed coding is not an error.
+     */
+    private static final class MeteredBody extends FilterInputStream {
+        private final WireCounter wire;
+        private final String coding;
+        private final String endpoint;
+        private long decodedBytes;
+        private long decodeNanos;
+        private boolean opened;
+        private boolean recorded;
+
+        MeteredBody(InputStream wire, String coding, String endpoint) {
+            super(null);
+            this.wire = new WireCounter(wire);
+            this.coding = coding;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = read(one, 0, 1);
+            return n == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long start = cpuNanos();
+            if (!opened) {
+                in = decoder();
+                opened = true;
+            }
+            int n = in.read(b, off, len);
+            decodeNanos += cpuNanos() - start;
+            if (n == -1) {
+                record();
+            } else {
+                decodedBytes += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (n <= 0) {
+                return 0;
+            }
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read == -1) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return opened ? in.available() : 0;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (opened) {
+                    in.close();
+                } else {
+                    wire.close();
+                }
+            } finally {
+                record();
+            }
+        }
+
+        private InputStream decoder() throws IOException {
+            if (coding.equals(IDENTITY)) {
+                return wire;
+            }
+            BufferedInputStream buffered = new BufferedInputStream(wire);
+            buffered.mark(2);
+            int first = buffered.read();
+            int second = buffered.read();
+            buffered.reset();
+            if (first == -1) {
+                return buffered;
+            }
+            if (coding.equals("gzip")) {
+                return new GZIPInputStream(buffered);
+            }
+            // "deflate" is meant to be zlib-wrapped, but some servers send raw deflate data
+            boolean zlib = second != -1 && (first & 0x0f) == 8 && ((first << 8) | second) % 31 == 0;
+            return new InflaterInputStream(buffered, new Inflater(!zlib));
+        }
+
+        private void record() {
+            if (recorded) {
+                return;
+            }
+            recorded = true;
+            Metrics.counter("compression.wire.bytes." + endpoint).add(wire.count);
+            Metrics.counter("compression.body.bytes." + endpoint).add(decodedBytes);
+            if (!coding.equals(IDENTITY)) {
+                Metrics.recordNanos("compression.decode." + endpoint, decodeNanos);
+            }
+        }
+    }
+
+    private static final class WireCounter extends FilterInputStream {
+        private long count;
+
+        WireCounter(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
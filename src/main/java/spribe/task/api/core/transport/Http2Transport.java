@@ -0,0 +1,199 @@
+package spribe.task.api.core.transport;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import spribe.task.support.metrics.Metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RestAssured transport that sends requests over HTTP/2 with the JDK HttpClient instead of
+ * RestAssured's HTTP/1.1 Apache client. It is the last filter of the chain and never calls the next one,
+ * so every other filter (tracing, Allure, traffic recording) and the rest of PlayersService stay unchanged.
+ *
+ * All requests share one client, which multiplexes concurrent requests as streams of a single connection
+ * per host. HTTP/2 is negotiated with ALPN for https and with an h2c Upgrade for plain http
+ * (the JDK client does not support h2c with prior knowledge). The JDK client only offers the Upgrade on
+ * requests without a body, so a plain-http host is first sent a HEAD request, and again whenever a response
+ * falls back to HTTP/1.1 (e.g. after the server closed the idle HTTP/2 connection); later requests of any
+ * method then reuse the HTTP/2 connection. In {@link Mode#HTTP_2} a server that does not upgrade is talked to
+ * over HTTP/1.1 with pooled keep-alive connections; {@link Mode#HTTP_2_ONLY} fails such requests instead.
+ * The protocol of every response is counted as http.protocol.{version}.
+ */
+public final class Http2Transport implements OrderedFilter {
+
+    public enum Mode {
+        /** RestAssured's own Apache HttpClient, this filter is not installed */
+        HTTP_1_1,
+        HTTP_2,
+        HTTP_2_ONLY
+    }
+
+    // set by the client itself, HttpRequest.Builder rejects them
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "upgrade");
+
+    private final Mode mode;
+    private final Duration timeout;
+    private final HttpClient client;
+    // negotiated protocol of every plain-http origin that was sent the upgrade request
+    private final ConcurrentMap<String, HttpClient.Version> upgraded = new ConcurrentHashMap<>();
+
+    public Http2Transport(Mode mode, Duration timeout) {
+        if (mode == Mode.HTTP_1_1) {
+            throw new IllegalArgumentException("HTTP/1.1 is served by RestAssured itself");
+        }
+        this.mode = mode;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    public static Mode mode(String value) {
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT).replace('/', '_').replace('.', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown http.transport '" + value + "', expected one of "
+                    + List.of(Mode.values()), e);
+        }
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    @Override
+    public int getOrder() {
+        // has to stay the last filter: same order as AllureRestAssured, so it is added to the spec after it
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HttpRequest request = request(requestSpec);
+        String origin = plainHttpOrigin(request.uri());
+        if (origin != null) {
+            upgraded.computeIfAbsent(origin, o -> send(HttpRequest.newBuilder(URI.create(o + "/"))
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .timeout(timeout)
+                    .build(), HttpResponse.BodyHandlers.discarding()).version());
+        }
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = send(request, HttpResponse.BodyHandlers.ofByteArray());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        boolean http2 = response.version() == HttpClient.Version.HTTP_2;
+        if (origin != null && !http2) {
+            upgraded.remove(origin, HttpClient.Version.HTTP_2);
+        }
+        String protocol = http2 ? "HTTP/2" : "HTTP/1.1";
+        Metrics.increment("http.protocol." + (http2 ? "h2" : "http1"));
+        if (mode == Mode.HTTP_2_ONLY && !http2) {
+            throw new IllegalStateException("Server answered " + request.method() + " " + request.uri()
+                    + " over " + protocol + " but http.transport=" + mode);
+        }
+        return response(requestSpec, response, protocol, elapsedMs, ctx);
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        try {
+            return client.send(request, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException("HTTP/2 request failed: " + request.method() + " " + request.uri(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + request.method() + " " + request.uri(), e);
+        }
+    }
+
+    private static String plainHttpOrigin(URI uri) {
+        if (!"http".equalsIgnoreCase(uri.getScheme())) {
+            return null;
+        }
+        return "http://" + uri.getHost() + (uri.getPort() > 0 ? ":" + uri.getPort() : "");
+    }
+
+    private HttpRequest request(FilterableRequestSpecification spec) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(spec.getURI())).timeout(timeout);
+        for (Header header : spec.getHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                builder.header(header.getName(), header.getValue());
+            }
+        }
+        byte[] body = body(spec.getBody());
+        if (body != null && !spec.getHeaders().hasHeaderWithName("Content-Type") && spec.getContentType() != null) {
+            builder.header("Content-Type", spec.getContentType());
+        }
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body);
+        return builder.method(spec.getMethod(), publisher).build();
+    }
+
+    private static byte[] body(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        // RestAssured serializes objects when body() is called, so what is left is text
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Response response(FilterableRequestSpecification spec, HttpResponse<byte[]> response,
+                                     String protocol, long elapsedMs, FilterContext ctx) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":")) {
+                values.forEach(value -> headers.add(new Header(name, value)));
+            }
+        });
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(protocol + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(response.body());
+        response.headers().firstValue("content-type").ifPresent(builder::setContentType);
+        Response built = builder.build();
+
+        // RestAssured's TimingFilter runs after this filter and never sees the call, so report the time here
+        ctx.setValue(TimingFilter.RESPONSE_TIME_MILLISECONDS, elapsedMs);
+        if (built instanceof RestAssuredResponseImpl impl) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put(TimingFilter.RESPONSE_TIME_MILLISECONDS, elapsedMs);
+            impl.setFilterContextProperties(properties);
+            impl.setConfig(spec.getConfig());
+        }
+        return built;
+    }
+}
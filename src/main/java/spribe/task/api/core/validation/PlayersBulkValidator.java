@@ -0,0 +1,158 @@
+package spribe.task.api.core.validation;
+
+import spribe.task.api.core.index.PlayerIndex;
+import spribe.task.api.model.enums.Gender;
+import spribe.task.api.model.enums.Role;
+import spribe.task.common.env.TestConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Checks invariants over a whole get/all payload in parallel:
+ * required id, unique ids / logins / screenNames, age within TestConfig limits
+ * and known Gender / Role values. Fields other than id are optional in the players schema,
+ * so they are only checked when present.
+ *
+ * Records are split into fork-join ranges over a {@link PlayerIndex}. Uniqueness of strings takes
+ * two passes (lowest position per value, then every other position is a duplicate),
+ * which keeps the report identical regardless of thread scheduling.
+ */
+public final class PlayersBulkValidator {
+
+    private static final int LEAF_SIZE = 8192;
+
+    private final int minAge;
+    private final int maxAge;
+    private final ForkJoinPool pool;
+
+    public PlayersBulkValidator(int minAge, int maxAge, ForkJoinPool pool) {
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.pool = pool;
+    }
+
+    public static PlayersBulkValidator fromConfig(TestConfig config) {
+        return new PlayersBulkValidator(config.minAge(), config.maxAge(), ForkJoinPool.commonPool());
+    }
+
+    public ValidationReport validate(PlayerIndex index) {
+        long start = System.nanoTime();
+        int size = index.size();
+
+        ConcurrentMap<String, Integer> firstLogin = new ConcurrentHashMap<>(size * 2);
+        ConcurrentMap<String, Integer> firstScreenName = new ConcurrentHashMap<>(size * 2);
+        pool.invoke(new RangeTask(0, size, (position, out) -> {
+            String login = index.loginAt(position);
+            if (login != null) {
+                firstLogin.merge(login, position, Math::min);
+            }
+            String screenName = index.screenNameAt(position);
+            if (screenName != null) {
+                firstScreenName.merge(screenName, position, Math::min);
+            }
+        }));
+
+        List<Violation> violations = pool.invoke(new RangeTask(0, size, (position, out) -> {
+            checkRecord(index, position, out);
+            checkUnique(index.loginAt(position), firstLogin, index, position, Violation.Rule.DUPLICATE_LOGIN, out);
+            checkUnique(index.screenNameAt(position), firstScreenName, index, position,
+                    Violation.Rule.DUPLICATE_SCREEN_NAME, out);
+        }));
+
+        Collections.sort(violations);
+        return new ValidationReport(size, System.nanoTime() - start, violations);
+    }
+
+    private void checkRecord(PlayerIndex index, int position, List<Violation> out) {
+        Integer id = index.idAt(position);
+        if (id == null) {
+            out.add(new Violation(position, null, Violation.Rule.REQUIRED_FIELD, "id is missing"));
+        } else if (index.positionOf(id) != position) {
+            // the index keeps the last record for an id, so every earlier one is a duplicate
+            out.add(new Violation(position, id, Violation.Rule.DUPLICATE_ID,
+                    "same id at position " + index.positionOf(id)));
+        }
+
+        Integer age = index.ageAt(position);
+        if (age != null && (age < minAge || age > maxAge)) {
+            out.add(new Violation(position, id, Violation.Rule.AGE_OUT_OF_RANGE,
+                    "age " + age + " is outside " + minAge + ".." + maxAge));
+        }
+
+        String gender = index.genderAt(position);
+        if (gender != null && !isGender(gender)) {
+            out.add(new Violation(position, id, Violation.Rule.INVALID_GENDER, "gender '" + gender + "'"));
+        }
+
+        String role = index.roleAt(position);
+        if (role != null && !isRole(role)) {
+            out.add(new Violation(position, id, Violation.Rule.INVALID_ROLE, "role '" + role + "'"));
+        }
+    }
+
+    private static void checkUnique(String value, ConcurrentMap<String, Integer> first, PlayerIndex index,
+                                    int position, Violation.Rule rule, List<Violation> out) {
+        if (value == null) {
+            return;
+        }
+        int firstPosition = first.get(value);
+        if (firstPosition != position) {
+            out.add(new Violation(position, index.idAt(position), rule,
+                    "'" + value + "' already used at position " + firstPosition));
+        }
+    }
+
+    // The API contract is lower case, so the case-tolerant match must also be exact
+    private static boolean isGender(String value) {
+        Gender gender = Gender.fromValue(value);
+        return gender != Gender.UNKNOWN && gender.getValue().equals(value);
+    }
+
+    private static boolean isRole(String value) {
+        Role role = Role.fromValue(value);
+        return role != Role.UNKNOWN && role.getValue().equals(value);
+    }
+
+    @FunctionalInterface
+    private interface RecordCheck {
+        void check(int position, List<Violation> out);
+    }
+
+    private static final class RangeTask extends RecursiveTask<List<Violation>> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient RecordCheck check;
+
+        RangeTask(int from, int to, RecordCheck check) {
+            this.from = from;
+            this.to = to;
+            this.check = check;
+        }
+
+        @Override
+        protected List<Violation> compute() {
+            if (to - from <= LEAF_SIZE) {
+                List<Violation> out = new ArrayList<>();
+                for (int position = from; position < to; position++) {
+                    check.check(position, out);
+                }
+                return out;
+            }
+            int mid = (from + to) >>> 1;
+            RangeTask left = new RangeTask(from, mid, check);
+            left.fork();
+            List<Violation> right = new RangeTask(mid, to, check).compute();
+            List<Violation> merged = left.join();
+            merged.addAll(right);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package spribe.task.api.core.validation;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a bulk validation: every violation, ordered by record position.
+ */
+public final class ValidationReport {
+
+    private static final int MAX_LISTED = 50;
+
+    private final int checkedRecords;
+    private final long elapsedNanos;
+    private final List<Violation> violations;
+
+    ValidationReport(int checkedRecords, long elapsedNanos, List<Violation> violations) {
+        this.checkedRecords = checkedRecords;
+        this.elapsedNanos = elapsedNanos;
+        this.violations = Collections.unmodifiableList(violations);
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public List<Violation> violations() {
+        return violations;
+    }
+
+    public int checkedRecords() {
+        return checkedRecords;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public Map<Violation.Rule, Integer> countsByRule() {
+        Map<Violation.Rule, Integer> counts = new EnumMap<>(Violation.Rule.class);
+        for (Violation v : violations) {
+            counts.merge(v.getRule(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+                .append("Checked ").append(checkedRecords).append(" players in ")
+                .append(elapsedNanos / 1_000_000).append(" ms, violations: ").append(violations.size());
+        if (!violations.isEmpty()) {
+            sb.append(' ').append(countsByRule());
+            violations.stream().limit(MAX_LISTED).forEach(v -> sb.append('\n').append(v));
+            if (violations.size() > MAX_LISTED) {
+                sb.append("\n...(").append(violations.size() - MAX_LISTED).append(" more)");
+            }
+        }
+        return sb.toString();
+    }
+}
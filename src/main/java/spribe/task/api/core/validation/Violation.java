@@ -0,0 +1,56 @@
+package spribe.task.api.core.validation;
+
+/**
+ * Single broken invariant of a get/all payload, located by the record position in the response.
+ */
+public final class Violation implements Comparable<Violation> {
+
+    public enum Rule {
+        REQUIRED_FIELD,
+        DUPLICATE_ID,
+        DUPLICATE_LOGIN,
+        DUPLICATE_SCREEN_NAME,
+        AGE_OUT_OF_RANGE,
+        INVALID_GENDER,
+        INVALID_ROLE
+    }
+
+    private final int position;
+    private final Integer playerId;
+    private final Rule rule;
+    private final String detail;
+
+    public Violation(int position, Integer playerId, Rule rule, String detail) {
+        this.position = position;
+        this.playerId = playerId;
+        this.rule = rule;
+        this.detail = detail;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public Integer getPlayerId() {
+        return playerId;
+    }
+
+    public Rule getRule() {
+        return rule;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    @Override
+    public int compareTo(Violation o) {
+        int byPosition = Integer.compare(position, o.position);
+        return byPosition != 0 ? byPosition : rule.compareTo(o.rule);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + position + "] id=" + playerId + " " + rule + ": " + detail;
+    }
+}
@@ -1,9 +1,14 @@
 package spribe.task.api.model.enums;
 
+import com.fasterxml.jackson.annotation.JsonValue;
 
 public enum Gender {
     MALE("male"),
-    FEMALE("female");
+    FEMALE("female"),
+    /** Sentinel for any value the API is not expected to return. */
+    UNKNOWN("unknown");
+
+    private static final ValueLookup<Gender> LOOKUP = new ValueLookup<>(values(), Gender::getValue, UNKNOWN);
 
     private final String value;
 
@@ -11,6 +16,20 @@ public enum Gender {
         this.value = value;
     }
 
+    /**
+     * Case-insensitive lookup by wire value; never throws and never allocates.
+     *
+     * @return matching constant, or UNKNOWN
+     */
+    public static Gender fromValue(CharSequence value) {
+        return LOOKUP.find(value);
+    }
+
+    public static Gender fromValue(char[] chars, int offset, int length) {
+        return LOOKUP.find(chars, offset, length);
+    }
+
+    @JsonValue
     public String getValue() {
         return value;
     }
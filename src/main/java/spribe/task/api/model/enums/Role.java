@@ -1,10 +1,15 @@
 package spribe.task.api.model.enums;
 
+import com.fasterxml.jackson.annotation.JsonValue;
 
 public enum Role {
     SUPERVISOR("supervisor"),
     ADMIN("admin"),
-    USER("user");
+    USER("user"),
+    /** Sentinel for any value the API is not expected to return. */
+    UNKNOWN("unknown");
+
+    private static final ValueLookup<Role> LOOKUP = new ValueLookup<>(values(), Role::getValue, UNKNOWN);
 
     private final String value;
 
@@ -12,6 +17,20 @@ public enum Role {
         this.value = value;
     }
 
+    /**
+     * Case-insensitive lookup by wire value; never throws and never allocates.
+     *
+     * @return matching constant, or UNKNOWN
+     */
+    public static Role fromValue(CharSequence value) {
+        return LOOKUP.find(value);
+    }
+
+    public static Role fromValue(char[] chars, int offset, int length) {
+        return LOOKUP.find(chars, offset, length);
+    }
+
+    @JsonValue
     public String getValue() {
         return value;
     }
@@ -0,0 +1,96 @@
+package spribe.task.api.model.enums;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Allocation-free, ASCII case-insensitive lookup of enum constants by their wire value.
+ * Candidates are precomputed in a table indexed by value length; for Gender and Role every length
+ * holds a single constant, so a lookup is one array read plus one character comparison loop.
+ */
+final class ValueLookup<E extends Enum<E>> {
+
+    private final String[][] valuesByLength;
+    private final Object[][] constantsByLength;
+    private final E unknown;
+
+    ValueLookup(E[] constants, Function<E, String> value, E unknown) {
+        int maxLength = 0;
+        for (E constant : constants) {
+            if (constant != unknown) {
+                maxLength = Math.max(maxLength, value.apply(constant).length());
+            }
+        }
+        List<List<E>> buckets = new ArrayList<>();
+        for (int i = 0; i <= maxLength; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (E constant : constants) {
+            if (constant != unknown) {
+                buckets.get(value.apply(constant).length()).add(constant);
+            }
+        }
+        valuesByLength = new String[maxLength + 1][];
+        constantsByLength = new Object[maxLength + 1][];
+        for (int len = 0; len <= maxLength; len++) {
+            List<E> bucket = buckets.get(len);
+            valuesByLength[len] = new String[bucket.size()];
+            constantsByLength[len] = new Object[bucket.size()];
+            for (int i = 0; i < bucket.size(); i++) {
+                valuesByLength[len][i] = value.apply(bucket.get(i)).toLowerCase();
+                constantsByLength[len][i] = bucket.get(i);
+            }
+        }
+        this.unknown = unknown;
+    }
+
+    E find(CharSequence text) {
+        if (text == null) {
+            return unknown;
+        }
+        int length = text.length();
+        if (length >= valuesByLength.length) {
+            return unknown;
+        }
+        String[] candidates = valuesByLength[length];
+        for (int c = 0; c < candidates.length; c++) {
+            String candidate = candidates[c];
+            int i = 0;
+            while (i < length && lower(text.charAt(i)) == candidate.charAt(i)) {
+                i++;
+            }
+            if (i == length) {
+                return constant(length, c);
+            }
+        }
+        return unknown;
+    }
+
+    E find(char[] chars, int offset, int length) {
+        if (chars == null || length >= valuesByLength.length) {
+            return unknown;
+        }
+        String[] candidates = valuesByLength[length];
+        for (int c = 0; c < candidates.length; c++) {
+            String candidate = candidates[c];
+            int i = 0;
+            while (i < length && lower(chars[offset + i]) == candidate.charAt(i)) {
+                i++;
+            }
+            if (i == length) {
+                return constant(length, c);
+            }
+        }
+        return unknown;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E constant(int length, int index) {
+        return (E) constantsByLength[length][index];
+    }
+
+    private static char lower(char ch) {
+        return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+    }
+}
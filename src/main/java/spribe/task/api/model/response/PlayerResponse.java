@@ -1,9 +1,14 @@
 package spribe.task.api.model.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import spribe.task.api.model.enums.Gender;
+import spribe.task.api.model.enums.Role;
+
+import java.util.Objects;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(Include.NON_NULL)
@@ -13,13 +18,13 @@ public class PlayerResponse {
     @JsonProperty("age")
     private Integer age;
     @JsonProperty("gender")
-    private String gender;
+    private Gender gender;
     @JsonProperty("login")
     private String login;
     @JsonProperty("password")
     private String password;
     @JsonProperty("role")
-    private String role;
+    private Role role;
     @JsonProperty("screenName")
     private String screenName;
 
@@ -39,14 +44,25 @@ public class PlayerResponse {
         this.age = age;
     }
 
+    /**
+     * Wire value of the bound gender, "unknown" for an unexpected one.
+     */
     public String getGender() {
-        return gender;
+        return gender != null ? gender.getValue() : null;
     }
 
-    public void setGender(String gender) {
+    public void setGender(Gender gender) {
         this.gender = gender;
     }
 
+    /**
+     * Gender bound by the enum deserializer of JacksonProvider; UNKNOWN for missing or unexpected values.
+     */
+    @JsonIgnore
+    public Gender getGenderType() {
+        return gender != null ? gender : Gender.UNKNOWN;
+    }
+
     public String getLogin() {
         return login;
     }
@@ -63,14 +79,25 @@ public class PlayerResponse {
         this.password = password;
     }
 
+    /**
+     * Wire value of the bound role, "unknown" for an unexpected one.
+     */
     public String getRole() {
-        return role;
+        return role != null ? role.getValue() : null;
     }
 
-    public void setRole(String role) {
+    public void setRole(Role role) {
         this.role = role;
     }
 
+    /**
+     * Role bound by the enum deserializer of JacksonProvider; UNKNOWN for missing or unexpected values.
+     */
+    @JsonIgnore
+    public Role getRoleType() {
+        return role != null ? role : Role.UNKNOWN;
+    }
+
     public String getScreenName() {
         return screenName;
     }
@@ -91,4 +118,17 @@ public class PlayerResponse {
                 ", screenName='" + screenName + '\'' +
                 '}';
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlayerResponse that = (PlayerResponse) o;
+        return Objects.equals(playerId, that.playerId) && Objects.equals(age, that.age) && Objects.equals(gender, that.gender) && Objects.equals(login, that.login) && Objects.equals(password, that.password) && Objects.equals(role, that.role) && Objects.equals(screenName, that.screenName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerId, age, gender, login, password, role, screenName);
+    }
 }
@@ -1,27 +1,70 @@
 package spribe.task.api.services;
 
+import spribe.task.api.core.Endpoint;
+import spribe.task.api.core.JacksonProvider;
 import spribe.task.api.core.RequestSpecFactory;
 import spribe.task.api.core.ResponseWrapper;
+import spribe.task.api.core.cache.PlayerReadCache;
+import spribe.task.api.core.index.PlayerIndex;
+import spribe.task.api.core.scan.PlayerScanner;
+import spribe.task.api.core.scan.ScanStrategy;
+import spribe.task.api.core.snapshot.PlayersDelta;
+import spribe.task.api.core.snapshot.PlayersSnapshot;
+import spribe.task.api.core.throttle.RequestThrottle;
 import spribe.task.api.model.request.Player;
 import spribe.task.api.model.response.PlayerResponse;
 import spribe.task.api.model.response.PlayersResponse;
 import spribe.task.common.env.ConfigFactoryProvider;
-import spribe.task.common.env.TestConfig;
+import spribe.task.common.env.ConfigSnapshot;
+import spribe.task.support.jfr.PlayerCallEvent;
+import spribe.task.support.metrics.Metrics;
+import spribe.task.support.metrics.StartupTimer;
+import spribe.task.support.tracing.Span;
+import spribe.task.support.tracing.Tracing;
+import com.fasterxml.jackson.core.JsonParser;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 
 /**
  * Service-layer around player-controller endpoints.
- * Endpoints are configurable via TestConfig for different environments.
+ * Endpoints are configurable via TestConfig for different environments
+ * and are read from the current {@link ConfigSnapshot} on every call.
+ * Every call passes through the client-side {@link RequestThrottle}.
+ * Reads can be served from an opt-in {@link PlayerReadCache} which this service
+ * invalidates on its own create/update/delete calls.
  */
 public class PlayersService {
 
-    private final TestConfig config = ConfigFactoryProvider.config();
+    private final RequestThrottle throttle = RequestThrottle.instance();
+    private final PlayerReadCache cache;
+    private final Object pollLock = new Object();
+    // guarded by pollLock
+    private PlayersSnapshot lastSnapshot;
+    private volatile PlayerScanner scanner;
+
+    public PlayersService() {
+        this(PlayerReadCache.fromConfig(ConfigFactoryProvider.config()));
+    }
+
+    public PlayersService(PlayerReadCache cache) {
+        this.cache = cache;
+    }
+
+    public PlayerReadCache cache() {
+        return cache;
+    }
 
     @Step("Create player as {editor}")
     public ResponseWrapper<PlayerResponse> create(String editor, Player payload) {
@@ -33,13 +76,14 @@ public class PlayersService {
         query.put("role", payload.getRole());
         query.put("screenName", payload.getScreenName());
 
-        Response resp = given()
+        Response resp = send(Endpoint.CREATE, editor, () -> given()
                 .spec(RequestSpecFactory.defaultSpec())
                 .pathParam("editor", editor)
                 .queryParams(query)
-                .get(config.endpointPlayerCreate());
+                .get(settings().endpointPlayerCreate()));
+        cache.onCreate();
 
-        return new ResponseWrapper<>(resp, PlayerResponse.class);
+        return new ResponseWrapper<>(resp, PlayerResponse.class, Endpoint.CREATE);
     }
 
     @Step("Get player by id={id}")
@@ -47,33 +91,157 @@ public class PlayersService {
         Map<String, Object> body = new HashMap<>();
         body.put("playerId", id);
 
-        Response resp = given()
+        Response resp = cache.getById(id, () -> send(Endpoint.GET, null, () -> given()
                 .spec(RequestSpecFactory.defaultSpec())
                 .body(body)
-                .post(config.endpointPlayerGet());
+                .post(settings().endpointPlayerGet())));
 
-        return new ResponseWrapper<>(resp, PlayerResponse.class);
+        return new ResponseWrapper<>(resp, PlayerResponse.class, Endpoint.GET);
     }
 
     @Step("Get all players")
     public ResponseWrapper<PlayersResponse> getAll() {
-        Response resp = given()
+        Response resp = cache.getAll(() -> send(Endpoint.GET_ALL, null, () -> given()
+                .spec(RequestSpecFactory.defaultSpec())
+                .get(settings().endpointPlayerGetAll())));
+
+        return new ResponseWrapper<>(resp, PlayersResponse.class, Endpoint.GET_ALL);
+    }
+
+    /**
+     * Reads GET /player/get/all into a compact {@link PlayerIndex} instead of a List of PlayerResponse.
+     * Intended for membership and field checks over large player lists.
+     *
+     * @param offHeap keep packed player data outside the Java heap
+     */
+    @Step("Index all players")
+    public PlayerIndex indexAll(boolean offHeap) {
+        Response resp = send(Endpoint.GET_ALL, null, () -> given()
+                .spec(RequestSpecFactory.defaultSpec())
+                .get(settings().endpointPlayerGetAll()));
+        if (resp.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status for get/all: " + resp.statusCode());
+        }
+        try {
+            return PlayerIndex.read(resp.asInputStream(), offHeap);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index get/all response", e);
+        }
+    }
+
+    /**
+     * Polls GET /player/get/all and returns what changed since the previous poll of this service.
+     * Sends If-None-Match / If-Modified-Since when the server offered validators last time;
+     * a 304 or an identical body (by content hash) is not deserialized.
+     * Polls of one service run one at a time, so every delta is taken against the snapshot the previous one left
+     * and no change is reported twice or lost by concurrent callers.
+     */
+    @Step("Poll all players")
+    public PlayersDelta pollAll() {
+        synchronized (pollLock) {
+            PlayersSnapshot previous = lastSnapshot;
+            Response resp = send(Endpoint.GET_ALL, null, () -> {
+                RequestSpecification request = given().spec(RequestSpecFactory.defaultSpec());
+                if (previous != null && previous.etag() != null) {
+                    request.header("If-None-Match", previous.etag());
+                }
+                if (previous != null && previous.lastModified() != null) {
+                    request.header("If-Modified-Since", previous.lastModified());
+                }
+                return request.get(settings().endpointPlayerGetAll());
+            });
+
+            PlayersDelta delta = PlayersSnapshot.next(previous, resp);
+            lastSnapshot = delta.snapshot();
+            return delta;
+        }
+    }
+
+    /**
+     * Streams every player in id order, read with the scan.strategy of the config, see {@link PlayerScanner}.
+     * Fan-out results are full get-by-id records, get/all ones carry only the fields get/all returns.
+     */
+    public Stream<PlayerResponse> scanAll() {
+        return scanAll(ScanStrategy.of(ConfigFactoryProvider.config().scanStrategy()));
+    }
+
+    @Step("Scan all players ({strategy})")
+    public Stream<PlayerResponse> scanAll(ScanStrategy strategy) {
+        return scanner().scan(strategy);
+    }
+
+    /**
+     * Scan for callers that know the highest id in use, which saves the get/all read a fan-out needs to find it.
+     */
+    @Step("Scan players up to id={highestId} ({strategy})")
+    public Stream<PlayerResponse> scanAll(ScanStrategy strategy, int highestId) {
+        return scanner().scan(strategy, highestId);
+    }
+
+    private PlayerScanner scanner() {
+        if (scanner == null) {
+            synchronized (this) {
+                if (scanner == null) {
+                    scanner = PlayerScanner.fromConfig(ConfigFactoryProvider.config(),
+                            this::readAll, this::readById);
+                }
+            }
+        }
+        return scanner;
+    }
+
+    private List<PlayerResponse> readAll() {
+        Response resp = send(Endpoint.GET_ALL, null, () -> given()
                 .spec(RequestSpecFactory.defaultSpec())
-                .get(config.endpointPlayerGetAll());
+                .get(settings().endpointPlayerGetAll()));
+        if (resp.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status for get/all: " + resp.statusCode());
+        }
+        try (InputStream in = resp.asInputStream()) {
+            List<PlayerResponse> players = JacksonProvider.mapper().readValue(in, PlayersResponse.class).getPlayers();
+            return players != null ? players : List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read get/all response", e);
+        }
+    }
 
-        return new ResponseWrapper<>(resp, PlayersResponse.class);
+    /**
+     * Reads one player for a scan without ResponseWrapper's per-response Allure attachments. Null when the id
+     * has no player: a 404, or a 200 whose body is empty or carries no or another id.
+     */
+    private PlayerResponse readById(int id) {
+        Response resp = send(Endpoint.GET, null, () -> given()
+                .spec(RequestSpecFactory.defaultSpec())
+                .body(Map.of("playerId", id))
+                .post(settings().endpointPlayerGet()));
+        if (resp.statusCode() == 404) {
+            return null;
+        }
+        if (resp.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status for get id=" + id + ": " + resp.statusCode());
+        }
+        try (InputStream in = resp.asInputStream(); JsonParser parser = JacksonProvider.mapper().createParser(in)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            PlayerResponse player = JacksonProvider.mapper().readValue(parser, PlayerResponse.class);
+            return player != null && Integer.valueOf(id).equals(player.getPlayerId()) ? player : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read player id=" + id, e);
+        }
     }
 
     @Step("Update player id={id} as {editor}")
     public ResponseWrapper<PlayerResponse> update(String editor, Integer id, Player update) {
-        Response resp = given()
+        Response resp = send(Endpoint.UPDATE, editor, () -> given()
                 .spec(RequestSpecFactory.defaultSpec())
                 .pathParam("editor", editor)
                 .pathParam("id", id)
                 .body(update)
-                .patch(config.endpointPlayerUpdate());
+                .patch(settings().endpointPlayerUpdate()));
+        cache.onChange(id);
 
-        return new ResponseWrapper<>(resp, PlayerResponse.class);
+        return new ResponseWrapper<>(resp, PlayerResponse.class, Endpoint.UPDATE);
     }
 
     @Step("Delete player id={id} as {editor}")
@@ -81,26 +249,87 @@ public class PlayersService {
         Map<String, Object> body = new HashMap<>();
         body.put("playerId", id);
 
-        Response resp = given()
+        Response resp = send(Endpoint.DELETE, editor, () -> given()
                 .spec(RequestSpecFactory.defaultSpec())
                 .pathParam("editor", editor)
                 .body(body)
-                .delete(config.endpointPlayerDelete());
+                .delete(settings().endpointPlayerDelete()));
+        cache.onChange(id);
+
+        return new ResponseWrapper<>(resp, PlayerResponse.class, Endpoint.DELETE);
+    }
+
+    /**
+     * Single exit point for all requests: applies throttling before the call is made
+     * and records the call latency as the latency.{endpoint} metric
+     * (and the time to the first request of the JVM, see {@link StartupTimer}).
+     * Each call is a step span of the current test trace, see {@link Tracing},
+     * and a {@link PlayerCallEvent} when Flight Recorder is running.
+     */
+    private Response send(Endpoint endpoint, String editor, Supplier<Response> call) {
+        Span step = Tracing.startStep("PlayersService." + endpoint.key());
+        try {
+            long waited = throttle.acquire(endpoint, editor);
+            if (step != null) {
+                step.setAttribute("player.endpoint", endpoint.key())
+                        .setAttribute("player.editor", editor)
+                        .setAttribute("throttle.wait.ns", waited);
+            }
+            StartupTimer.onRequest();
+            PlayerCallEvent event = new PlayerCallEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Response response = null;
+            try {
+                response = call.get();
+                return response;
+            } finally {
+                Metrics.recordNanos("latency." + endpoint.key(), System.nanoTime() - start);
+                commit(event, endpoint, editor, waited, response);
+            }
+        } finally {
+            Tracing.end(step);
+        }
+    }
+
+    private static void commit(PlayerCallEvent event, Endpoint endpoint, String editor, long waited,
+                               Response response) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.endpoint = endpoint.key();
+        event.editor = editor;
+        event.throttleWait = waited;
+        if (response != null) {
+            event.status = response.statusCode();
+            String length = response.getHeader("Content-Length");
+            if (length != null) {
+                try {
+                    event.bytes = Long.parseLong(length.trim());
+                } catch (NumberFormatException e) {
+                    // left at -1, the length is unknown
+                }
+            }
+        }
+        event.commit();
+    }
 
-        return new ResponseWrapper<>(resp, PlayerResponse.class);
+    private static ConfigSnapshot settings() {
+        return ConfigFactoryProvider.snapshot();
     }
 
     /**
      * Helper to get default supervisor login from configuration.
      */
     public static String defaultSupervisor() {
-        return ConfigFactoryProvider.config().supervisorLogin();
+        return settings().supervisorLogin();
     }
 
     /**
      * Helper to get default admin login from configuration.
      */
     public static String defaultAdmin() {
-        return ConfigFactoryProvider.config().adminLogin();
+        return settings().adminLogin();
     }
 }
@@ -1,22 +1,34 @@
 package spribe.task.common.env;
 
 import org.aeonbits.owner.ConfigFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Provides singleton access to configuration instances.
+ * Hot paths should read {@link #snapshot()}, which is resolved once (and again on hot reload)
+ * instead of on every call.
  */
 public final class ConfigFactoryProvider {
+    private static final Logger log = LoggerFactory.getLogger(ConfigFactoryProvider.class);
 
     private static final TestConfig TEST_CONFIG;
+    private static volatile ConfigSnapshot snapshot;
 
     static {
         Map<String, String> configMap = new HashMap<>();
         String env = System.getProperty("env", "prod").toLowerCase();
         configMap.put("env", env);
         TEST_CONFIG = ConfigFactory.create(TestConfig.class, configMap);
+        snapshot = ConfigSnapshot.of(TEST_CONFIG);
+
+        if (TEST_CONFIG.configHotReload()) {
+            ConfigReloader.watch(ConfigFactoryProvider::reload,
+                    env + "/config.properties", "prod/config.properties");
+        }
     }
 
     private ConfigFactoryProvider() {}
@@ -28,6 +40,26 @@ public final class ConfigFactoryProvider {
         return TEST_CONFIG;
     }
 
+    /**
+     * Returns the current immutable configuration snapshot.
+     */
+    public static ConfigSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Re-reads all config sources and replaces the snapshot.
+     * Called by the file watcher when config.hot.reload=true, can also be called directly.
+     */
+    public static synchronized void reload() {
+        TEST_CONFIG.reload();
+        ConfigSnapshot previous = snapshot;
+        snapshot = ConfigSnapshot.of(TEST_CONFIG);
+        if (!snapshot.equals(previous)) {
+            log.info("Configuration reloaded: {}", snapshot);
+        }
+    }
+
     /**
      * @deprecated Use config() instead. Kept for backward compatibility.
      */
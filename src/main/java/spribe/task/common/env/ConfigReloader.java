@@ -0,0 +1,93 @@
+package spribe.task.common.env;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Watches the config.properties files TestConfig was loaded from and calls back when one changes.
+ * Only classpath resources backed by plain files (e.g. target/classes) can be watched;
+ * resources inside a jar are skipped.
+ */
+final class ConfigReloader {
+    private static final Logger log = LoggerFactory.getLogger(ConfigReloader.class);
+
+    private ConfigReloader() {}
+
+    /**
+     * Starts a daemon thread watching the given classpath resources.
+     *
+     * @return false if none of the resources is a watchable file
+     */
+    static boolean watch(Runnable onChange, String... resources) {
+        Set<Path> files = new LinkedHashSet<>();
+        for (String resource : resources) {
+            URL url = ConfigReloader.class.getClassLoader().getResource(resource);
+            if (url != null && "file".equals(url.getProtocol())) {
+                try {
+                    files.add(Path.of(url.toURI()).toAbsolutePath());
+                } catch (URISyntaxException e) {
+                    log.warn("Cannot watch config resource {}", url, e);
+                }
+            }
+        }
+        if (files.isEmpty()) {
+            return false;
+        }
+
+        WatchService watcher;
+        try {
+            watcher = FileSystems.getDefault().newWatchService();
+            for (Path file : files) {
+                file.getParent().register(watcher,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+            }
+        } catch (IOException e) {
+            log.warn("Config hot reload is not available", e);
+            return false;
+        }
+
+        Thread thread = new Thread(() -> loop(watcher, files, onChange), "config-reloader");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching {} for config changes", files);
+        return true;
+    }
+
+    private static void loop(WatchService watcher, Set<Path> files, Runnable onChange) {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                Path dir = (Path) key.watchable();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path name && files.contains(dir.resolve(name))) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    try {
+                        onChange.run();
+                    } catch (RuntimeException e) {
+                        log.warn("Config reload failed, keeping the previous values", e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
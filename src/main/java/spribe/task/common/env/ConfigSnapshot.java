@@ -0,0 +1,37 @@
+package spribe.task.common.env;
+
+/**
+ * Immutable copy of the TestConfig values read on every request or generated player.
+ * Values are resolved once, so hot paths read plain fields instead of going through
+ * the Owner proxy and its MERGE lookup on every call.
+ * Obtain the current one via {@link ConfigFactoryProvider#snapshot()}.
+ * The base URL is not part of it: the cached request spec is built with it once, so it is fixed at start.
+ */
+public record ConfigSnapshot(
+        String supervisorLogin,
+        String adminLogin,
+        String endpointPlayerCreate,
+        String endpointPlayerGet,
+        String endpointPlayerGetAll,
+        String endpointPlayerUpdate,
+        String endpointPlayerDelete,
+        int minAge,
+        int maxAge,
+        int minPasswordLength,
+        int maxPasswordLength) {
+
+    public static ConfigSnapshot of(TestConfig config) {
+        return new ConfigSnapshot(
+                config.supervisorLogin(),
+                config.adminLogin(),
+                config.endpointPlayerCreate(),
+                config.endpointPlayerGet(),
+                config.endpointPlayerGetAll(),
+                config.endpointPlayerUpdate(),
+                config.endpointPlayerDelete(),
+                config.minAge(),
+                config.maxAge(),
+                config.minPasswordLength(),
+                config.maxPasswordLength());
+    }
+}
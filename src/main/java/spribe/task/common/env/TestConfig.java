@@ -1,12 +1,16 @@
 package spribe.task.common.env;
 
+import org.aeonbits.owner.Accessible;
 import org.aeonbits.owner.Config;
+import org.aeonbits.owner.Reloadable;
 
 /**
  * Unified configuration interface for all test framework settings.
  * Reads from config.properties files based on environment.
  * System properties override file properties.
  * Extends AppConfig and APIConfig for backward compatibility.
+ * Extends Accessible so that per-endpoint/per-editor keys can be looked up by name,
+ * and Reloadable so that {@link ConfigFactoryProvider#reload()} can refresh it.
  */
 @Config.LoadPolicy(Config.LoadType.MERGE)
 @Config.Sources({
@@ -15,7 +19,7 @@ import org.aeonbits.owner.Config;
         "classpath:${env}/config.properties",
         "classpath:prod/config.properties"
 })
-public interface TestConfig extends AppConfig, APIConfig {
+public interface TestConfig extends AppConfig, APIConfig, Accessible, Reloadable {
 
     // Editor/User settings (in addition to inherited from AppConfig)
     @Key("editor.supervisor")
@@ -47,6 +51,11 @@ public interface TestConfig extends AppConfig, APIConfig {
     @DefaultValue("/player/delete/{editor}")
     String endpointPlayerDelete();
 
+    // Re-read config.properties and refresh ConfigFactoryProvider.snapshot() when the file changes
+    @Key("config.hot.reload")
+    @DefaultValue("false")
+    boolean configHotReload();
+
     // Test execution settings
     @Key("test.retry.count")
     @DefaultValue("1")
@@ -57,6 +66,28 @@ public interface TestConfig extends AppConfig, APIConfig {
     @DefaultValue("target/allure-results")
     String allureResultsDirectory();
 
+    // Attach every HTTP request/response to the Allure report (disabled for soak runs)
+    @Key("allure.http.attachments")
+    @DefaultValue("true")
+    boolean allureHttpAttachments();
+
+    // Write Allure results and attachments from a background thread (BLOCK or DROP when the queue is full)
+    @Key("allure.async.writer")
+    @DefaultValue("true")
+    boolean allureAsyncWriter();
+
+    @Key("allure.async.queue.capacity")
+    @DefaultValue("2048")
+    int allureAsyncQueueCapacity();
+
+    @Key("allure.async.batch.size")
+    @DefaultValue("64")
+    int allureAsyncBatchSize();
+
+    @Key("allure.async.full.policy")
+    @DefaultValue("BLOCK")
+    String allureAsyncFullPolicy();
+
     // Test data generation settings
     @Key("test.user.min.age")
     @DefaultValue("16")
@@ -73,5 +104,301 @@ public interface TestConfig extends AppConfig, APIConfig {
     @Key("test.password.max.length")
     @DefaultValue("15")
     int maxPasswordLength();
-}
 
+    // Client-side throttling (0 rps = not limited)
+    @Key("throttle.enabled")
+    @DefaultValue("false")
+    boolean throttleEnabled();
+
+    @Key("throttle.rps")
+    @DefaultValue("0")
+    double throttleRps();
+
+    @Key("throttle.editor.rps")
+    @DefaultValue("0")
+    double throttleEditorRps();
+
+    @Key("throttle.burst")
+    @DefaultValue("1")
+    int throttleBurst();
+
+    // Local performance data (test durations, baselines)
+    @Key("perf.data.directory")
+    @DefaultValue(".perf")
+    String perfDataDirectory();
+
+    // Performance gate against the rolling per-environment baseline (mvn -Pperf-gate)
+    @Key("perf.baseline.runs")
+    @DefaultValue("10")
+    int perfBaselineRuns();
+
+    @Key("perf.baseline.percentile")
+    @DefaultValue("90")
+    double perfBaselinePercentile();
+
+    @Key("perf.baseline.tolerance.percent")
+    @DefaultValue("20")
+    double perfBaselineTolerancePercent();
+
+    @Key("perf.baseline.alpha")
+    @DefaultValue("0.01")
+    double perfBaselineAlpha();
+
+    @Key("perf.baseline.min.samples")
+    @DefaultValue("30")
+    long perfBaselineMinSamples();
+
+    // Test scheduling based on historical durations
+    @Key("scheduling.enabled")
+    @DefaultValue("true")
+    boolean schedulingEnabled();
+
+    // Client-side cache for get/getAll reads (opt-in)
+    @Key("cache.enabled")
+    @DefaultValue("false")
+    boolean cacheEnabled();
+
+    @Key("cache.maximum.size")
+    @DefaultValue("10000")
+    long cacheMaximumSize();
+
+    @Key("cache.ttl.ms")
+    @DefaultValue("30000")
+    long cacheTtlMs();
+
+    // Read-after-write consistency probe
+    @Key("consistency.workers")
+    @DefaultValue("4")
+    int consistencyWorkers();
+
+    @Key("consistency.sequences")
+    @DefaultValue("10")
+    int consistencySequences();
+
+    @Key("consistency.poll.interval.ms")
+    @DefaultValue("20")
+    long consistencyPollIntervalMs();
+
+    @Key("consistency.timeout.ms")
+    @DefaultValue("5000")
+    long consistencyTimeoutMs();
+
+    // Access-rights matrix: concurrent requests per wave
+    @Key("access.matrix.threads")
+    @DefaultValue("8")
+    int accessMatrixThreads();
+
+    // Concurrent update/delete race fuzzer (race.seed=0 picks a random seed)
+    @Key("race.rounds")
+    @DefaultValue("10")
+    int raceRounds();
+
+    @Key("race.operations")
+    @DefaultValue("8")
+    int raceOperations();
+
+    @Key("race.delete.percent")
+    @DefaultValue("15")
+    int raceDeletePercent();
+
+    @Key("race.read.percent")
+    @DefaultValue("20")
+    int raceReadPercent();
+
+    @Key("race.seed")
+    @DefaultValue("0")
+    long raceSeed();
+
+    // Parallel creates sharing one login / screenName
+    @Key("uniqueness.stress.threads")
+    @DefaultValue("200")
+    int uniquenessStressThreads();
+
+    // Client-side tracing: traceparent header per request, spans exported as OTLP/JSON
+    @Key("tracing.enabled")
+    @DefaultValue("true")
+    boolean tracingEnabled();
+
+    @Key("tracing.export.file")
+    @DefaultValue("target/traces/spans.otlp.jsonl")
+    String tracingExportFile();
+
+    @Key("tracing.export.batch.size")
+    @DefaultValue("512")
+    int tracingExportBatchSize();
+
+    @Key("tracing.service.name")
+    @DefaultValue("players-api-tests")
+    String tracingServiceName();
+
+    // Traffic recording (RequestSpecFactory filter) and replay (-Preplay)
+    @Key("traffic.record.enabled")
+    @DefaultValue("false")
+    boolean trafficRecordEnabled();
+
+    @Key("traffic.record.file")
+    @DefaultValue("target/traffic/traffic.ndjson")
+    String trafficRecordFile();
+
+    @Key("traffic.record.max.body.bytes")
+    @DefaultValue("2048")
+    int trafficRecordMaxBodyBytes();
+
+    @Key("traffic.replay.file")
+    @DefaultValue("target/traffic/traffic.ndjson")
+    String trafficReplayFile();
+
+    @Key("traffic.replay.speed")
+    @DefaultValue("1")
+    String trafficReplaySpeed();
+
+    @Key("traffic.replay.threads")
+    @DefaultValue("32")
+    int trafficReplayThreads();
+
+    // Distributed load (-Pload-controller / -Pload-worker). Workers read distributed.controller
+    // as a plain system property: their configuration is loaded only after the controller's plan arrives
+    @Key("distributed.controller")
+    @DefaultValue("localhost:7070")
+    String distributedController();
+
+    @Key("distributed.port")
+    @DefaultValue("7070")
+    int distributedPort();
+
+    @Key("distributed.workers")
+    @DefaultValue("2")
+    int distributedWorkers();
+
+    @Key("distributed.spawn.local")
+    @DefaultValue("true")
+    boolean distributedSpawnLocal();
+
+    @Key("distributed.duration.seconds")
+    @DefaultValue("60")
+    long distributedDurationSeconds();
+
+    @Key("distributed.threads.per.worker")
+    @DefaultValue("8")
+    int distributedThreadsPerWorker();
+
+    @Key("distributed.rps")
+    @DefaultValue("0")
+    double distributedRps();
+
+    @Key("distributed.start.delay.ms")
+    @DefaultValue("2000")
+    long distributedStartDelayMs();
+
+    @Key("distributed.connect.timeout.ms")
+    @DefaultValue("60000")
+    long distributedConnectTimeoutMs();
+
+    @Key("distributed.range.size")
+    @DefaultValue("1000000")
+    long distributedRangeSize();
+
+    @Key("distributed.results.dir")
+    @DefaultValue("target/distributed")
+    String distributedResultsDirectory();
+
+    // HTTP transport of PlayersService: HTTP_1_1 (RestAssured), HTTP_2 (h2c upgrade / ALPN, falls back to 1.1)
+    // or HTTP_2_ONLY (fails responses that did not come over HTTP/2)
+    @Key("http.transport")
+    @DefaultValue("HTTP_1_1")
+    String httpTransport();
+
+    // Accept-Encoding of PlayersService requests: gzip and/or deflate, decoded by ContentEncodingFilter;
+    // empty asks for uncompressed responses
+    @Key("http.accept.encoding")
+    @DefaultValue("gzip,deflate")
+    String httpAcceptEncoding();
+
+    // RestAssured's request/response log on failed validations; it buffers every response body,
+    // so ResponseWrapper can only stream bodies when it is off
+    @Key("http.log.if.validation.fails")
+    @DefaultValue("true")
+    boolean httpLogIfValidationFails();
+
+    // Full player scans (PlayersService.scanAll): GET_ALL, FAN_OUT (parallel getById over the id range)
+    // or AUTO (picks by the cost model of -Pscan-bench, get/all without one)
+    @Key("scan.strategy")
+    @DefaultValue("AUTO")
+    String scanStrategy();
+
+    @Key("scan.fanout.parallelism")
+    @DefaultValue("16")
+    int scanFanoutParallelism();
+
+    // lowest id a fan-out starts from until a scan found the lowest existing one
+    @Key("scan.fanout.min.id")
+    @DefaultValue("1")
+    int scanFanoutMinId();
+
+    // Scan benchmark (-Pscan-bench): dataset sizes it seeds players up to, repeats per strategy and size
+    @Key("scan.bench.sizes")
+    @DefaultValue("100,250,500")
+    String scanBenchSizes();
+
+    @Key("scan.bench.repeats")
+    @DefaultValue("3")
+    int scanBenchRepeats();
+
+    // Transport benchmark (-Ptransport-bench)
+    @Key("transport.bench.modes")
+    @DefaultValue("HTTP_1_1,HTTP_2")
+    String transportBenchModes();
+
+    @Key("transport.bench.requests")
+    @DefaultValue("5000")
+    int transportBenchRequests();
+
+    @Key("transport.bench.warmup")
+    @DefaultValue("500")
+    int transportBenchWarmup();
+
+    @Key("transport.bench.threads")
+    @DefaultValue("32")
+    int transportBenchThreads();
+
+    // Soak mode (suites/soak.xml, -Psoak)
+    @Key("soak.duration.minutes")
+    @DefaultValue("60")
+    long soakDurationMinutes();
+
+    @Key("soak.window.seconds")
+    @DefaultValue("60")
+    long soakWindowSeconds();
+
+    @Key("soak.workers")
+    @DefaultValue("4")
+    int soakWorkers();
+
+    @Key("soak.failure.backoff.ms")
+    @DefaultValue("100")
+    long soakFailureBackoffMs();
+
+    @Key("soak.failure.backoff.max.ms")
+    @DefaultValue("5000")
+    long soakFailureBackoffMaxMs();
+
+    @Key("soak.baseline.windows")
+    @DefaultValue("3")
+    int soakBaselineWindows();
+
+    @Key("soak.alert.latency.drift.percent")
+    @DefaultValue("50")
+    double soakLatencyDriftPercent();
+
+    @Key("soak.alert.error.rate.percent")
+    @DefaultValue("1")
+    double soakErrorRatePercent();
+
+    @Key("soak.alert.heap.growth.mb.per.hour")
+    @DefaultValue("64")
+    double soakHeapGrowthMbPerHour();
+
+    @Key("soak.alert.thread.growth")
+    @DefaultValue("20")
+    int soakThreadGrowth();
+}
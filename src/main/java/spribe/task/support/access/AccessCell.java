@@ -0,0 +1,102 @@
+package spribe.task.support.access;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One editor / target / operation combination of the access-rights matrix and the status the API should answer.
+ * For CREATE the target is the role of the player being created; for UPDATE and DELETE it is an existing player,
+ * SELF being the editor's own record.
+ *
+ * @param expectedStatus  HTTP status required by the access rules
+ */
+public record AccessCell(Editor editor, Target target, Operation operation, int expectedStatus) {
+
+    public enum Editor {
+        SUPERVISOR, ADMIN, USER,
+        /** A login no player has. */
+        NON_EXISTENT;
+
+        public String label() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+
+    public enum Target {
+        SELF, SUPERVISOR, ADMIN, USER;
+
+        public String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    public enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+
+    /**
+     * Whether the cell can run: the supervisor is never a DELETE target, as it could not be recreated if the API
+     * wrongly allowed it (DeletePlayerTests covers that case on its own).
+     */
+    public boolean runnable() {
+        return !(operation == Operation.DELETE && targetsSupervisor());
+    }
+
+    public boolean targetsSupervisor() {
+        return target == Target.SUPERVISOR || target == Target.SELF && editor == Editor.SUPERVISOR;
+    }
+
+    /**
+     * A DELETE that succeeds (rightly or not) removes its target, which later cells may need.
+     */
+    public boolean destructive() {
+        return operation == Operation.DELETE;
+    }
+
+    /**
+     * Every meaningful cell: CREATE has no SELF target, the supervisor's own record is only its SELF target,
+     * and a non-existent editor has no record at all.
+     */
+    public static List<AccessCell> matrix() {
+        List<AccessCell> cells = new ArrayList<>();
+        for (Editor editor : Editor.values()) {
+            for (Target target : Target.values()) {
+                for (Operation operation : Operation.values()) {
+                    boolean applicable = switch (target) {
+                        case SELF -> operation != Operation.CREATE && editor != Editor.NON_EXISTENT;
+                        case SUPERVISOR -> operation == Operation.CREATE || editor != Editor.SUPERVISOR;
+                        default -> true;
+                    };
+                    if (applicable) {
+                        cells.add(new AccessCell(editor, target, operation, expectedStatus(editor, target, operation)));
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * The access rules: supervisors manage admins and users; admins manage users, other admins and themselves,
+     * but cannot delete themselves; users may only update themselves. Creating a second supervisor is not
+     * a permission but a validation error (400). Everything else is 403.
+     */
+    private static int expectedStatus(Editor editor, Target target, Operation operation) {
+        int allowed = operation == Operation.DELETE ? 204 : 200;
+        boolean permitted = switch (editor) {
+            case SUPERVISOR -> target != Target.SELF || operation != Operation.DELETE;
+            case ADMIN -> target != Target.SUPERVISOR && !(target == Target.SELF && operation == Operation.DELETE);
+            case USER -> target == Target.SELF && operation == Operation.UPDATE;
+            case NON_EXISTENT -> false;
+        };
+        if (operation == Operation.CREATE && target == Target.SUPERVISOR && editor == Editor.SUPERVISOR) {
+            return 400;
+        }
+        return permitted ? allowed : 403;
+    }
+
+    @Override
+    public String toString() {
+        return editor.label() + " " + operation.name().toLowerCase() + " " + target.label();
+    }
+}
@@ -0,0 +1,324 @@
+package spribe.task.support.access;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.core.ResponseWrapper;
+import spribe.task.api.core.cache.PlayerReadCache;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.model.request.Player;
+import spribe.task.api.model.response.PlayerResponse;
+import spribe.task.api.services.PlayersService;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.ConfigSnapshot;
+import spribe.task.common.env.TestConfig;
+import spribe.task.util.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs every {@link AccessCell} of the access-rights matrix against one small set of fixture players:
+ * an admin and a user acting as editors, and another admin and user as targets. The supervisor is the
+ * configured one.
+ *
+ * Cells run concurrently in waves. CREATE and UPDATE cells leave the fixtures in place and share them
+ * freely, so they all go into the first wave. A DELETE cell may remove its target (whether the API should
+ * allow it or not), so no other cell of its wave uses that fixture. After a DELETE cell its target is read
+ * back, and before each wave only the fixtures found missing are created again.
+ */
+public final class AccessMatrix {
+    private static final Logger log = LoggerFactory.getLogger(AccessMatrix.class);
+
+    static final String NON_EXISTENT_EDITOR = "non_existing_editor_login";
+
+    /**
+     * Fixture players; SELF targets use the editor's own slot.
+     */
+    enum Slot {
+        ADMIN_EDITOR(Role.ADMIN), USER_EDITOR(Role.USER), OTHER_ADMIN(Role.ADMIN), OTHER_USER(Role.USER);
+
+        private final Role role;
+
+        Slot(Role role) {
+            this.role = role;
+        }
+    }
+
+    private record Fixture(int id, String login) {
+    }
+
+    private final PlayersService service;
+    private final int threads;
+
+    public AccessMatrix(PlayersService service, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.service = service;
+        this.threads = threads;
+    }
+
+    public static AccessMatrix fromConfig(TestConfig config) {
+        return new AccessMatrix(new PlayersService(PlayerReadCache.disabled()), config.accessMatrixThreads());
+    }
+
+    public AccessReport run() throws InterruptedException {
+        String supervisor = PlayersService.defaultSupervisor();
+        Integer supervisorId = supervisorId();
+        List<AccessReport.Result> results = new ArrayList<>();
+        List<AccessCell> runnable = new ArrayList<>();
+        for (AccessCell cell : AccessCell.matrix()) {
+            if (!cell.runnable()) {
+                results.add(new AccessReport.Result(cell, -1, "not run, the supervisor could not be recreated"));
+            } else if (cell.operation() != AccessCell.Operation.CREATE && cell.targetsSupervisor() && supervisorId == null) {
+                results.add(new AccessReport.Result(cell, -1, "not run, no supervisor player in get/all"));
+            } else {
+                runnable.add(cell);
+            }
+        }
+        List<List<AccessCell>> waves = waves(runnable);
+        log.info("Access matrix: {} cells in {} waves on {} threads", runnable.size(), waves.size(), threads);
+
+        Map<Slot, Fixture> fixtures = new ConcurrentHashMap<>();
+        List<Fixture> removed = new ArrayList<>();
+        int created = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (List<AccessCell> wave : waves) {
+                Set<Slot> needed = EnumSet.noneOf(Slot.class);
+                wave.forEach(cell -> needed.addAll(slots(cell)));
+                needed.removeAll(fixtures.keySet());
+                List<Callable<Void>> creations = new ArrayList<>();
+                for (Slot slot : needed) {
+                    creations.add(() -> {
+                        Player player = TestDataGenerator.generateValidPlayer(slot.role.getValue());
+                        int id = service.create(supervisor, player).expectStatus(200).asBody().getPlayerId();
+                        fixtures.put(slot, new Fixture(id, player.getLogin()));
+                        return null;
+                    });
+                }
+                await(pool.invokeAll(creations), "Could not create the access matrix fixtures");
+                created += needed.size();
+
+                List<Future<AccessReport.Result>> outcomes = new ArrayList<>();
+                for (AccessCell cell : wave) {
+                    outcomes.add(pool.submit(() -> execute(cell, fixtures, supervisorId)));
+                }
+                for (Future<AccessReport.Result> outcome : outcomes) {
+                    AccessReport.Result result = await(outcome);
+                    results.add(result);
+                    AccessCell cell = result.cell();
+                    // whatever the status, only a read tells whether the target is still there
+                    Slot target = targetSlot(cell);
+                    if (cell.destructive() && !exists(fixtures.get(target))) {
+                        Fixture gone = fixtures.remove(target);
+                        if (gone != null) {
+                            removed.add(gone);
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+            removed.addAll(fixtures.values());
+            for (Fixture fixture : removed) {
+                cleanUp(supervisor, fixture.id());
+            }
+        }
+        results.sort(Comparator.comparing((AccessReport.Result r) -> r.cell().editor())
+                .thenComparing(r -> r.cell().target())
+                .thenComparing(r -> r.cell().operation()));
+        AccessReport report = new AccessReport(results, waves.size(), created);
+        log.info("Access matrix finished:\n{}", report);
+        return report;
+    }
+
+    /**
+     * Groups the cells into waves: a cell joins the first wave where neither it uses a fixture another cell
+     * may remove, nor it may remove one another cell uses. Non-destructive cells are placed first.
+     */
+    static List<List<AccessCell>> waves(List<AccessCell> cells) {
+        List<AccessCell> pending = new ArrayList<>(cells);
+        pending.sort(Comparator.comparing(AccessCell::destructive));
+        List<List<AccessCell>> waves = new ArrayList<>();
+        while (!pending.isEmpty()) {
+            List<AccessCell> wave = new ArrayList<>();
+            Set<Slot> used = EnumSet.noneOf(Slot.class);
+            Set<Slot> exclusive = EnumSet.noneOf(Slot.class);
+            for (AccessCell cell : pending) {
+                Set<Slot> slots = slots(cell);
+                Slot removes = cell.destructive() ? targetSlot(cell) : null;
+                if (slots.stream().anyMatch(exclusive::contains) || removes != null && used.contains(removes)) {
+                    continue;
+                }
+                wave.add(cell);
+                used.addAll(slots);
+                if (removes != null) {
+                    exclusive.add(removes);
+                }
+            }
+            pending.removeAll(wave);
+            waves.add(wave);
+        }
+        return waves;
+    }
+
+    private AccessReport.Result execute(AccessCell cell, Map<Slot, Fixture> fixtures, Integer supervisorId) {
+        try {
+            String editor = switch (cell.editor()) {
+                case SUPERVISOR -> PlayersService.defaultSupervisor();
+                case ADMIN -> fixtures.get(Slot.ADMIN_EDITOR).login();
+                case USER -> fixtures.get(Slot.USER_EDITOR).login();
+                case NON_EXISTENT -> NON_EXISTENT_EDITOR;
+            };
+            if (cell.operation() == AccessCell.Operation.CREATE) {
+                return new AccessReport.Result(cell, create(editor, cell.target()), null);
+            }
+            Slot slot = targetSlot(cell);
+            int targetId = slot != null ? fixtures.get(slot).id() : supervisorId;
+            int status = switch (cell.operation()) {
+                case UPDATE -> service.update(editor, targetId, updatePayload()).raw().statusCode();
+                case DELETE -> service.delete(editor, targetId).raw().statusCode();
+                case CREATE -> throw new IllegalStateException("unreachable");
+            };
+            return new AccessReport.Result(cell, status, null);
+        } catch (RuntimeException | AssertionError e) {
+            log.warn("Access matrix cell '{}' failed", cell, e);
+            return new AccessReport.Result(cell, -1, "failed, " + e);
+        }
+    }
+
+    /**
+     * Creates a player of the target role; one that was created is removed again.
+     */
+    private int create(String editor, AccessCell.Target target) {
+        Player player = TestDataGenerator.generateValidPlayer(Role.valueOf(target.name()).getValue());
+        ResponseWrapper<PlayerResponse> response = service.create(editor, player);
+        int status = response.raw().statusCode();
+        if (status == 200) {
+            try {
+                Integer id = response.asBody().getPlayerId();
+                if (id != null) {
+                    cleanUp(PlayersService.defaultSupervisor(), id);
+                }
+            } catch (RuntimeException | AssertionError e) {
+                log.warn("Could not remove the player created by '{}': {}", editor, e.getMessage());
+            }
+        }
+        return status;
+    }
+
+    private static Player updatePayload() {
+        Player update = new Player();
+        ConfigSnapshot c = ConfigFactoryProvider.snapshot();
+        update.setAge((c.minAge() + c.maxAge()) / 2);
+        return update;
+    }
+
+    private Integer supervisorId() {
+        String login = PlayersService.defaultSupervisor();
+        List<PlayerResponse> players = service.getAll().expectStatus(200).asBody().getPlayers();
+        if (players == null) {
+            return null;
+        }
+        return players.stream()
+                .filter(p -> p.getRoleType() == Role.SUPERVISOR || login.equalsIgnoreCase(p.getLogin()))
+                .map(PlayerResponse::getPlayerId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Whether get still answers the fixture with its own id; when the read fails the fixture counts as gone
+     * and is created again (the old id is still cleaned up at the end).
+     */
+    private boolean exists(Fixture fixture) {
+        if (fixture == null) {
+            return false;
+        }
+        try {
+            Response resp = service.getById(fixture.id()).raw();
+            if (resp.statusCode() != 200 || resp.asString().isBlank()) {
+                return false;
+            }
+            Integer id = resp.jsonPath().get("id");
+            return Integer.valueOf(fixture.id()).equals(id);
+        } catch (RuntimeException e) {
+            log.warn("Could not read fixture player id={}: {}", fixture.id(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void cleanUp(String supervisor, int id) {
+        try {
+            service.delete(supervisor, id).raw();
+        } catch (RuntimeException e) {
+            log.warn("Failed to cleanup player with id={}: {}", id, e.getMessage());
+        }
+    }
+
+    private static Set<Slot> slots(AccessCell cell) {
+        Set<Slot> slots = EnumSet.noneOf(Slot.class);
+        Slot editor = editorSlot(cell.editor());
+        if (editor != null) {
+            slots.add(editor);
+        }
+        Slot target = targetSlot(cell);
+        if (target != null) {
+            slots.add(target);
+        }
+        return slots;
+    }
+
+    private static Slot editorSlot(AccessCell.Editor editor) {
+        return switch (editor) {
+            case ADMIN -> Slot.ADMIN_EDITOR;
+            case USER -> Slot.USER_EDITOR;
+            case SUPERVISOR, NON_EXISTENT -> null;
+        };
+    }
+
+    /**
+     * Fixture the cell acts on, null for CREATE and for the supervisor.
+     */
+    private static Slot targetSlot(AccessCell cell) {
+        if (cell.operation() == AccessCell.Operation.CREATE) {
+            return null;
+        }
+        return switch (cell.target()) {
+            case SELF -> editorSlot(cell.editor());
+            case ADMIN -> Slot.OTHER_ADMIN;
+            case USER -> Slot.OTHER_USER;
+            case SUPERVISOR -> null;
+        };
+    }
+
+    private static <T> T await(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Access matrix cell failed", e.getCause());
+        }
+    }
+
+    private static void await(List<Future<Void>> futures, String message) throws InterruptedException {
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(message, e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package spribe.task.support.access;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of an {@link AccessMatrix} run, one result per cell, printed as a single permission table:
+ * a row per editor and target, a column per operation.
+ *
+ * @param waves      rounds the cells ran in; DELETE cells sharing a fixture go to different rounds
+ * @param fixtures   fixture players created, the initial set included
+ */
+public record AccessReport(List<Result> results, int waves, int fixtures) {
+
+    /**
+     * @param status  HTTP status, -1 when the cell did not run or its request failed
+     * @param note    why it did not run or how it failed, null otherwise
+     */
+    public record Result(AccessCell cell, int status, String note) {
+
+        public boolean ran() {
+            return status >= 0;
+        }
+
+        public boolean passed() {
+            return status == cell.expectedStatus();
+        }
+
+        String describe() {
+            if (!ran()) {
+                return note != null && note.startsWith("not run") ? "n/a" : "error";
+            }
+            return passed() ? status + " ok" : status + " (want " + cell.expectedStatus() + ")";
+        }
+
+        @Override
+        public String toString() {
+            return cell.toString();
+        }
+    }
+
+    public AccessReport {
+        results = List.copyOf(results);
+    }
+
+    public List<Result> failures() {
+        return results.stream().filter(r -> r.ran() && !r.passed()).toList();
+    }
+
+    @Override
+    public String toString() {
+        Map<String, Map<AccessCell.Operation, Result>> rows = new LinkedHashMap<>();
+        for (AccessCell.Editor editor : AccessCell.Editor.values()) {
+            for (AccessCell.Target target : AccessCell.Target.values()) {
+                for (Result r : results) {
+                    if (r.cell().editor() == editor && r.cell().target() == target) {
+                        rows.computeIfAbsent(String.format("%-13s %-11s", editor.label(), target.label()),
+                                k -> new EnumMap<>(AccessCell.Operation.class)).put(r.cell().operation(), r);
+                    }
+                }
+            }
+        }
+        StringBuilder sb = new StringBuilder(String.format("%-13s %-11s", "editor", "target"));
+        for (AccessCell.Operation operation : AccessCell.Operation.values()) {
+            sb.append(String.format(" %-16s", operation.name().toLowerCase()));
+        }
+        sb.append(System.lineSeparator());
+        rows.forEach((row, cells) -> {
+            sb.append(row);
+            for (AccessCell.Operation operation : AccessCell.Operation.values()) {
+                Result r = cells.get(operation);
+                sb.append(String.format(" %-16s", r == null ? "-" : r.describe()));
+            }
+            sb.append(System.lineSeparator());
+        });
+        long ran = results.stream().filter(Result::ran).count();
+        sb.append(String.format("%n%d of %d cells ran in %d waves on %d fixture players, %d differ from the rules%n",
+                ran, results.size(), waves, fixtures, failures().size()));
+        results.stream().filter(r -> r.note() != null)
+                .forEach(r -> sb.append(String.format("%s: %s%n", r.cell(), r.note())));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,194 @@
+package spribe.task.support.allure;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.Metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allure results writer that moves file I/O off the test threads. Every write is queued and a single
+ * "allure-writer" thread writes it to allure-results in batches through Allure's own
+ * {@link FileSystemResultsWriter}; the test thread only copies the attachment bytes.
+ *
+ * Attachments are bounded by allure.async.queue.capacity. When the queue is full, {@link FullPolicy#BLOCK}
+ * makes the test thread wait for the writer and {@link FullPolicy#DROP} skips the attachment.
+ * Test results and containers are never dropped. Attachments added outside a running test or fixture
+ * (load worker threads, replay) are skipped: Allure would write them without linking them anywhere.
+ *
+ * {@link #flush(long, TimeUnit)} returns once everything queued before it is on disk.
+ */
+public final class AsyncResultsWriter implements AllureResultsWriter {
+    private static final Logger log = LoggerFactory.getLogger(AsyncResultsWriter.class);
+
+    public enum FullPolicy {
+        BLOCK,
+        DROP
+    }
+
+    private static final String WRITER_FIELD = "writer";
+
+    private static volatile AsyncResultsWriter installed;
+
+    private final AllureResultsWriter delegate;
+    private final int batchSize;
+    private final FullPolicy policy;
+    private final Semaphore capacity;
+    private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+    AsyncResultsWriter(AllureResultsWriter delegate, int capacity, int batchSize, FullPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+        }
+        this.delegate = delegate;
+        this.capacity = new Semaphore(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.policy = policy;
+        Thread writer = new Thread(this::drain, "allure-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Makes the Allure lifecycle write through an AsyncResultsWriter if allure.async.writer is enabled.
+     *
+     * TestNG creates the service-loaded Allure listener before any suite listener, and that listener keeps
+     * the lifecycle it was created with, so the writer inside that lifecycle is wrapped instead of replacing
+     * the lifecycle. If this Allure version has no such field, results keep being written synchronously.
+     */
+    public static synchronized void install(TestConfig config) {
+        if (installed != null || !config.allureAsyncWriter()) {
+            return;
+        }
+        FullPolicy policy = FullPolicy.valueOf(config.allureAsyncFullPolicy().trim().toUpperCase());
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        AsyncResultsWriter writer;
+        try {
+            Field field = AllureLifecycle.class.getDeclaredField(WRITER_FIELD);
+            field.setAccessible(true);
+            writer = new AsyncResultsWriter((AllureResultsWriter) field.get(lifecycle),
+                    config.allureAsyncQueueCapacity(), config.allureAsyncBatchSize(), policy);
+            field.set(lifecycle, writer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Allure results stay synchronous, the lifecycle writer cannot be replaced: {}", e.toString());
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.flush(10, TimeUnit.SECONDS),
+                "allure-writer-flush"));
+        installed = writer;
+        log.info("Allure results are written asynchronously (capacity={}, batch={}, policy={})",
+                config.allureAsyncQueueCapacity(), config.allureAsyncBatchSize(), policy);
+    }
+
+    /**
+     * Flushes the installed writer, if any.
+     */
+    public static boolean flushInstalled(long timeout, TimeUnit unit) {
+        AsyncResultsWriter writer = installed;
+        return writer == null || writer.flush(timeout, unit);
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        queue.add(() -> delegate.write(testResult));
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        queue.add(() -> delegate.write(testResultContainer));
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        if (Allure.getLifecycle().getCurrentTestCaseOrStep().isEmpty()) {
+            Metrics.increment("allure.attachments.orphaned");
+            return;
+        }
+        if (!reserve()) {
+            Metrics.increment("allure.attachments.dropped");
+            return;
+        }
+        byte[] bytes;
+        try (InputStream in = attachment) {
+            bytes = in.readAllBytes();
+        } catch (IOException e) {
+            capacity.release();
+            throw new UncheckedIOException("Failed to read attachment " + source, e);
+        }
+        queue.add(() -> {
+            try {
+                delegate.write(source, new ByteArrayInputStream(bytes));
+            } finally {
+                capacity.release();
+            }
+        });
+    }
+
+    /**
+     * Waits until everything queued before this call has been written.
+     *
+     * @return false if the timeout passed first
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        CountDownLatch written = new CountDownLatch(1);
+        queue.add(written::countDown);
+        try {
+            return written.await(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean reserve() {
+        if (policy == FullPolicy.DROP) {
+            return capacity.tryAcquire();
+        }
+        if (capacity.tryAcquire()) {
+            return true;
+        }
+        long start = System.nanoTime();
+        capacity.acquireUninterruptibly();
+        Metrics.recordNanos("allure.attachments.blocked", System.nanoTime() - start);
+        return true;
+    }
+
+    private void drain() {
+        List<Runnable> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            for (Runnable write : batch) {
+                try {
+                    write.run();
+                } catch (RuntimeException e) {
+                    Metrics.increment("allure.write.failed");
+                    log.warn("Failed to write Allure result: {}", e.toString());
+                }
+            }
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package spribe.task.support.baseline;
+
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.support.metrics.HistogramFiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Local store of previous suite runs of one environment, {perf.data.directory}/baselines/{env}.
+ * Every run is a directory named by its start time holding the latency histograms of the run and
+ * its suite time, so per-endpoint throughput can be derived. Only the newest runs are kept;
+ * together they form the rolling baseline.
+ */
+public final class BaselineStore {
+    private static final Logger log = LoggerFactory.getLogger(BaselineStore.class);
+
+    static final String RUN_FILE = "run.properties";
+    private static final String SUITE_MS = "suite.ms";
+    private static final DateTimeFormatter RUN_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path directory;
+    private final int keep;
+
+    public BaselineStore(Path directory, int keep) {
+        if (keep < 1) {
+            throw new IllegalArgumentException("keep must be at least 1: " + keep);
+        }
+        this.directory = directory;
+        this.keep = keep;
+    }
+
+    public static BaselineStore forEnvironment(String perfDataDirectory, String env, int keep) {
+        return new BaselineStore(Path.of(perfDataDirectory, "baselines", env), keep);
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * @param latency histograms of the run in nanoseconds, keyed by metric name
+     * @param suiteMs wall time of the suite, 0 if unknown
+     */
+    public record Run(String name, Map<String, Histogram> latency, long suiteMs) {
+
+        public Run {
+            latency = Map.copyOf(latency);
+        }
+
+        /**
+         * Requests per second of suite time, NaN if the suite time is unknown.
+         */
+        public double throughput(String metric) {
+            Histogram h = latency.get(metric);
+            if (h == null || suiteMs <= 0) {
+                return Double.NaN;
+            }
+            return h.getTotalCount() / (suiteMs / (double) TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+
+    /**
+     * Stored runs, oldest first. Runs that cannot be read are skipped.
+     */
+    public List<Run> runs() throws IOException {
+        List<Run> runs = new ArrayList<>();
+        for (Path dir : runDirectories()) {
+            try {
+                runs.add(read(dir));
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable baseline run {}: {}", dir, e.getMessage());
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Adds a run and removes the oldest ones beyond the configured number.
+     */
+    public Run save(Map<String, Histogram> latency, long suiteMs) throws IOException {
+        String name = LocalDateTime.now().format(RUN_NAME);
+        Path dir = directory.resolve(name);
+        Files.createDirectories(dir);
+        HistogramFiles.write(dir.resolve(HistogramFiles.FILE_NAME), latency);
+        Properties props = new Properties();
+        props.setProperty(SUITE_MS, String.valueOf(suiteMs));
+        try (OutputStream out = Files.newOutputStream(dir.resolve(RUN_FILE))) {
+            props.store(out, "Suite run");
+        }
+
+        List<Path> dirs = runDirectories();
+        for (Path old : dirs.subList(0, Math.max(0, dirs.size() - keep))) {
+            delete(old);
+        }
+        return new Run(name, latency, suiteMs);
+    }
+
+    private List<Path> runDirectories() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> dirs = Files.list(directory)) {
+            return dirs.filter(dir -> Files.exists(dir.resolve(RUN_FILE)))
+                    .sorted(Comparator.comparing(dir -> dir.getFileName().toString()))
+                    .toList();
+        }
+    }
+
+    private static Run read(Path dir) throws IOException {
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(dir.resolve(RUN_FILE))) {
+            props.load(in);
+        }
+        long suiteMs;
+        try {
+            suiteMs = Long.parseLong(props.getProperty(SUITE_MS, "0").trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid " + SUITE_MS + " in " + dir.resolve(RUN_FILE), e);
+        }
+        Path histograms = dir.resolve(HistogramFiles.FILE_NAME);
+        Map<String, Histogram> latency = Files.exists(histograms) ? HistogramFiles.read(histograms) : new TreeMap<>();
+        return new Run(dir.getFileName().toString(), latency, suiteMs);
+    }
+
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
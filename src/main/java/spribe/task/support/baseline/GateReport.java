@@ -0,0 +1,72 @@
+package spribe.task.support.baseline;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a {@link PerformanceGate} comparison, one row per PlayersService endpoint.
+ *
+ * @param environment   environment the runs belong to
+ * @param baselineRuns  number of stored runs the baseline was merged from
+ * @param percentile    percentile compared against the tolerance
+ */
+public record GateReport(String environment, int baselineRuns, double percentile, List<EndpointVerdict> endpoints) {
+
+    public GateReport {
+        endpoints = List.copyOf(endpoints);
+    }
+
+    public enum Status {
+        PASS,
+        REGRESSION,
+        NO_BASELINE,
+        TOO_FEW_SAMPLES
+    }
+
+    /**
+     * @param currentNanos  latency of the current run at the compared percentile
+     * @param baselineNanos latency of the baseline at the compared percentile, 0 without a baseline
+     * @param pValue        one-sided Mann-Whitney p-value of "current is slower", NaN if not tested
+     * @param superiority   probability that a current request is slower than a baseline one, NaN if not tested
+     * @param currentRps    requests per second of suite time, NaN if the suite time is unknown
+     * @param baselineRps   mean of the stored runs, NaN if unknown
+     */
+    public record EndpointVerdict(String endpoint, Status status, long currentCount, long baselineCount,
+                                  long currentNanos, long baselineNanos, double pValue, double superiority,
+                                  double currentRps, double baselineRps) {
+    }
+
+    public List<EndpointVerdict> regressions() {
+        return endpoints.stream().filter(e -> e.status() == Status.REGRESSION).toList();
+    }
+
+    public boolean passed() {
+        return regressions().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("Performance gate for %s against %d stored runs: %s%n",
+                environment, baselineRuns, passed() ? "PASS" : regressions().size() + " endpoint(s) regressed"));
+        String p = "p" + (percentile % 1 == 0 ? String.valueOf((long) percentile) : String.valueOf(percentile));
+        sb.append(String.format("%n%-8s %-15s %7s %8s %11s %11s %7s %9s %6s %9s %9s%n", "endpoint", "status",
+                "count", "baseline", p, "baseline " + p, "change", "p-value", "P(>)", "req/s", "base req/s"));
+        for (EndpointVerdict e : endpoints) {
+            sb.append(String.format("%-8s %-15s %7d %8d %9.2fms %9.2fms %7s %9s %6s %9s %9s%n", e.endpoint(), e.status(),
+                    e.currentCount(), e.baselineCount(), millis(e.currentNanos()), millis(e.baselineNanos()),
+                    e.baselineNanos() == 0 ? "-" : String.format("%+.0f%%",
+                            (e.currentNanos() / (double) e.baselineNanos() - 1) * 100),
+                    format("%.4f", e.pValue()), format("%.2f", e.superiority()),
+                    format("%.1f", e.currentRps()), format("%.1f", e.baselineRps())));
+        }
+        return sb.toString();
+    }
+
+    private static String format(String pattern, double value) {
+        return Double.isNaN(value) ? "-" : String.format(pattern, value);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,73 @@
+package spribe.task.support.baseline;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One-sided Mann-Whitney U test of "current latencies are larger than baseline latencies",
+ * computed straight from two histograms: every bucket is a group of tied values, so ranks are the
+ * average rank of the bucket and the variance uses the usual tie correction.
+ * Samples are large (hundreds of requests), so the normal approximation is used for the p-value.
+ */
+final class MannWhitney {
+
+    private MannWhitney() {}
+
+    /**
+     * @param u            U statistic of the current sample
+     * @param z            standardised U with continuity correction
+     * @param pValue       probability of a U at least this large if both samples come from the same distribution
+     * @param superiority  probability that a random current request is slower than a random baseline one
+     *                     (ties count half), 0.5 means no shift
+     */
+    record Result(double u, double z, double pValue, double superiority) {
+    }
+
+    static Result test(Histogram current, Histogram baseline) {
+        // both histograms have the same precision, so equal highest-equivalent values mean the same bucket
+        Map<Long, long[]> buckets = new TreeMap<>();
+        addCounts(buckets, current, 0);
+        addCounts(buckets, baseline, 1);
+
+        double n1 = current.getTotalCount();
+        double n2 = baseline.getTotalCount();
+        double n = n1 + n2;
+        double rankSum = 0;
+        double tieTerm = 0;
+        double below = 0;
+        for (long[] counts : buckets.values()) {
+            double ties = counts[0] + counts[1];
+            double averageRank = below + (ties + 1) / 2.0;
+            rankSum += counts[0] * averageRank;
+            tieTerm += ties * ties * ties - ties;
+            below += ties;
+        }
+
+        double u = rankSum - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * n2 / 2.0;
+        double variance = n1 * n2 / 12.0 * ((n + 1) - tieTerm / (n * (n - 1)));
+        double z = variance <= 0 ? 0 : (u - mean - 0.5) / Math.sqrt(variance);
+        return new Result(u, z, 1 - normalCdf(z), u / (n1 * n2));
+    }
+
+    private static void addCounts(Map<Long, long[]> buckets, Histogram histogram, int index) {
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            long bucket = histogram.highestEquivalentValue(value.getValueIteratedTo());
+            buckets.computeIfAbsent(bucket, b -> new long[2])[index] += value.getCountAtValueIteratedTo();
+        }
+    }
+
+    /**
+     * Standard normal CDF via the Abramowitz-Stegun 7.1.26 erf approximation (error below 1.5e-7).
+     */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+}
@@ -0,0 +1,150 @@
+package spribe.task.support.baseline;
+
+import org.HdrHistogram.Histogram;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.HistogramFiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Fails the build when PlayersService latencies of the last run regress against the rolling baseline
+ * of the environment kept in {@link BaselineStore}.
+ *
+ * An endpoint regresses when both hold: a one-sided Mann-Whitney test says its latencies shifted up
+ * (p-value below perf.baseline.alpha), and its perf.baseline.percentile grew by more than
+ * perf.baseline.tolerance.percent. The test alone flags tiny but consistent shifts of large samples,
+ * the percentile alone flags noise. Only passing runs are added to the store, so a regression
+ * never becomes part of its own baseline.
+ *
+ * Usage: PerformanceGate [resultsDirectory]
+ */
+public final class PerformanceGate {
+
+    static final String LATENCY_PREFIX = "latency.";
+    private static final String ENVIRONMENT_FILE = "environment.properties";
+    // published by DurationSchedulingListener, summed over shards after a merge
+    private static final String SUITE_TIME_KEY = "Metric.scheduling.actualMs=";
+
+    private final double percentile;
+    private final double tolerancePercent;
+    private final double alpha;
+    private final long minSamples;
+
+    public PerformanceGate(double percentile, double tolerancePercent, double alpha, long minSamples) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100]: " + percentile);
+        }
+        this.percentile = percentile;
+        this.tolerancePercent = tolerancePercent;
+        this.alpha = alpha;
+        this.minSamples = minSamples;
+    }
+
+    public static PerformanceGate fromConfig(TestConfig config) {
+        return new PerformanceGate(config.perfBaselinePercentile(), config.perfBaselineTolerancePercent(),
+                config.perfBaselineAlpha(), config.perfBaselineMinSamples());
+    }
+
+    public static void main(String[] args) throws IOException {
+        TestConfig config = ConfigFactoryProvider.config();
+        Path results = Path.of(args.length > 0 ? args[0] : config.allureResultsDirectory());
+        Path histograms = results.resolve(HistogramFiles.FILE_NAME);
+        if (!Files.exists(histograms)) {
+            throw new IllegalStateException("No " + HistogramFiles.FILE_NAME + " in " + results.toAbsolutePath()
+                    + ", run the tests first");
+        }
+        Map<String, Histogram> latency = endpointLatency(HistogramFiles.read(histograms));
+        long suiteMs = suiteMs(results.resolve(ENVIRONMENT_FILE));
+        String env = System.getProperty("env", "prod").toLowerCase();
+        BaselineStore store = BaselineStore.forEnvironment(config.perfDataDirectory(), env, config.perfBaselineRuns());
+
+        // exec:java runs without an SLF4J provider, so the report goes to stdout
+        if (latency.isEmpty()) {
+            System.out.println("No PlayersService latencies in " + histograms.toAbsolutePath() + ", nothing to compare");
+            return;
+        }
+        GateReport report = fromConfig(config).compare(env, latency, suiteMs, store.runs());
+        System.out.println(report);
+        if (!report.passed()) {
+            throw new IllegalStateException("Latency regression against the " + env + " baseline: "
+                    + report.regressions().stream().map(GateReport.EndpointVerdict::endpoint)
+                    .collect(Collectors.joining(", ")));
+        }
+        BaselineStore.Run run = store.save(latency, suiteMs);
+        System.out.println("Run " + run.name() + " added to the baseline in " + store.directory().toAbsolutePath());
+    }
+
+    /**
+     * Compares the latency.{endpoint} histograms of a run with the stored runs merged together.
+     */
+    public GateReport compare(String environment, Map<String, Histogram> latency, long suiteMs,
+                              List<BaselineStore.Run> runs) {
+        Map<String, Histogram> baseline = new TreeMap<>();
+        runs.forEach(run -> HistogramFiles.mergeInto(baseline, endpointLatency(run.latency())));
+        BaselineStore.Run current = new BaselineStore.Run("current", endpointLatency(latency), suiteMs);
+
+        List<GateReport.EndpointVerdict> endpoints = new ArrayList<>();
+        new TreeMap<>(current.latency()).forEach((metric, h) -> {
+            String endpoint = metric.substring(LATENCY_PREFIX.length());
+            double currentRps = current.throughput(metric);
+            double baselineRps = runs.stream().mapToDouble(run -> run.throughput(metric))
+                    .filter(rps -> !Double.isNaN(rps)).average().orElse(Double.NaN);
+            long currentNanos = h.getValueAtPercentile(percentile);
+            Histogram base = baseline.get(metric);
+            if (base == null || base.getTotalCount() == 0) {
+                endpoints.add(new GateReport.EndpointVerdict(endpoint, GateReport.Status.NO_BASELINE,
+                        h.getTotalCount(), 0, currentNanos, 0, Double.NaN, Double.NaN, currentRps, baselineRps));
+                return;
+            }
+            long baselineNanos = base.getValueAtPercentile(percentile);
+            if (h.getTotalCount() < minSamples || base.getTotalCount() < minSamples) {
+                endpoints.add(new GateReport.EndpointVerdict(endpoint, GateReport.Status.TOO_FEW_SAMPLES,
+                        h.getTotalCount(), base.getTotalCount(), currentNanos, baselineNanos,
+                        Double.NaN, Double.NaN, currentRps, baselineRps));
+                return;
+            }
+            MannWhitney.Result test = MannWhitney.test(h, base);
+            boolean regressed = test.pValue() < alpha
+                    && currentNanos > baselineNanos * (1 + tolerancePercent / 100.0);
+            endpoints.add(new GateReport.EndpointVerdict(endpoint,
+                    regressed ? GateReport.Status.REGRESSION : GateReport.Status.PASS,
+                    h.getTotalCount(), base.getTotalCount(), currentNanos, baselineNanos,
+                    test.pValue(), test.superiority(), currentRps, baselineRps));
+        });
+        return new GateReport(environment, runs.size(), percentile, endpoints);
+    }
+
+    private static Map<String, Histogram> endpointLatency(Map<String, Histogram> histograms) {
+        Map<String, Histogram> latency = new TreeMap<>();
+        histograms.forEach((name, h) -> {
+            if (name.startsWith(LATENCY_PREFIX)) {
+                latency.put(name, h);
+            }
+        });
+        return latency;
+    }
+
+    private static long suiteMs(Path environment) throws IOException {
+        if (!Files.exists(environment)) {
+            return 0L;
+        }
+        for (String line : Files.readAllLines(environment)) {
+            if (line.startsWith(SUITE_TIME_KEY)) {
+                try {
+                    return Long.parseLong(line.substring(SUITE_TIME_KEY.length()).trim());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,240 @@
+package spribe.task.support.consistency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.core.PlayerPresence;
+import spribe.task.api.core.cache.PlayerReadCache;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.model.request.Player;
+import spribe.task.api.services.PlayersService;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.Metrics;
+import spribe.task.util.TestDataGenerator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Measures how long player-controller takes to show its own writes.
+ * Runs many write→read sequences concurrently (create→get, update→get, delete→get, delete→get/all);
+ * after each acknowledged write the read is repeated every poll interval until it reflects the write
+ * or the timeout passes. The staleness of a sequence is the time from the write acknowledgement
+ * to the start of the first read that showed it, so its resolution is one poll interval.
+ * A read answered with anything but the player or its explicit absence (404, or 200 with an empty body),
+ * e.g. a 500, 429 or an I/O timeout, is a read error: it neither converges nor counts as stale.
+ *
+ * Reads always go to the server: the probe's own PlayersService has the read cache disabled.
+ */
+public final class ConsistencyProbe {
+    private static final Logger log = LoggerFactory.getLogger(ConsistencyProbe.class);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final PlayersService service;
+    private final int workers;
+    private final int sequencesPerKind;
+    private final long pollIntervalNanos;
+    private final long timeoutNanos;
+
+    private final Map<WriteReadSequence, Histogram> staleness = new EnumMap<>(WriteReadSequence.class);
+    private final Map<WriteReadSequence, LongAdder> staleReads = new ConcurrentHashMap<>();
+    private final Map<WriteReadSequence, LongAdder> notConverged = new ConcurrentHashMap<>();
+    private final Map<WriteReadSequence, LongAdder> failedWrites = new ConcurrentHashMap<>();
+    private final Map<WriteReadSequence, LongAdder> readErrors = new ConcurrentHashMap<>();
+
+    public ConsistencyProbe(PlayersService service, int workers, int sequencesPerKind,
+                            Duration pollInterval, Duration timeout) {
+        if (workers < 1 || sequencesPerKind < 1) {
+            throw new IllegalArgumentException("workers and sequencesPerKind must be positive");
+        }
+        this.service = service;
+        this.workers = workers;
+        this.sequencesPerKind = sequencesPerKind;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        for (WriteReadSequence sequence : WriteReadSequence.values()) {
+            staleness.put(sequence, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+            staleReads.put(sequence, new LongAdder());
+            notConverged.put(sequence, new LongAdder());
+            failedWrites.put(sequence, new LongAdder());
+            readErrors.put(sequence, new LongAdder());
+        }
+    }
+
+    public static ConsistencyProbe fromConfig(TestConfig config) {
+        return new ConsistencyProbe(new PlayersService(PlayerReadCache.disabled()),
+                config.consistencyWorkers(), config.consistencySequences(),
+                Duration.ofMillis(config.consistencyPollIntervalMs()), Duration.ofMillis(config.consistencyTimeoutMs()));
+    }
+
+    public ConsistencyReport run() throws InterruptedException {
+        List<WriteReadSequence> plan = new ArrayList<>();
+        for (int i = 0; i < sequencesPerKind; i++) {
+            Collections.addAll(plan, WriteReadSequence.values());
+        }
+        Collections.shuffle(plan);
+        log.info("Consistency probe: {} sequences on {} workers, poll every {}ms, timeout {}ms", plan.size(), workers,
+                TimeUnit.NANOSECONDS.toMillis(pollIntervalNanos), TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (WriteReadSequence sequence : plan) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                run(sequence);
+                return null;
+            }));
+        }
+        start.countDown();
+        pool.shutdown();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.warn("Consistency sequence failed", e.getCause());
+            }
+        }
+
+        ConsistencyReport report = new ConsistencyReport(staleness, sums(staleReads), sums(notConverged),
+                sums(failedWrites), sums(readErrors));
+        log.info("Consistency probe finished:\n{}", report);
+        return report;
+    }
+
+    private void run(WriteReadSequence sequence) {
+        String supervisor = PlayersService.defaultSupervisor();
+        Player player = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
+        Integer id = createPlayer(supervisor, player);
+        if (id == null) {
+            failedWrites.get(sequence).increment();
+            return;
+        }
+        boolean deleted = false;
+        try {
+            switch (sequence) {
+                case CREATE_THEN_GET:
+                    converge(sequence, System.nanoTime(), () -> PlayerPresence.of(service.getById(id).raw(), id));
+                    break;
+                case UPDATE_THEN_GET:
+                    Player update = TestDataGenerator.generateUpdatePlayerWithNewScreenName();
+                    if (service.update(supervisor, id, update).raw().statusCode() != 200) {
+                        failedWrites.get(sequence).increment();
+                        return;
+                    }
+                    converge(sequence, System.nanoTime(),
+                            () -> showsScreenName(service.getById(id).raw(), id, update.getScreenName()));
+                    break;
+                case DELETE_THEN_GET:
+                case DELETE_THEN_GET_ALL:
+                    if (service.delete(supervisor, id).raw().statusCode() != 204) {
+                        failedWrites.get(sequence).increment();
+                        return;
+                    }
+                    deleted = true;
+                    long ack = System.nanoTime();
+                    if (sequence == WriteReadSequence.DELETE_THEN_GET) {
+                        converge(sequence, ack, () -> {
+                            Boolean shown = PlayerPresence.of(service.getById(id).raw(), id);
+                            return shown == null ? null : !shown;
+                        });
+                    } else {
+                        converge(sequence, ack, () -> !service.indexAll(false).contains(id));
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown sequence " + sequence);
+            }
+        } finally {
+            if (!deleted) {
+                try {
+                    service.delete(supervisor, id);
+                } catch (Exception e) {
+                    log.debug("Cleanup of player {} failed", id, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Repeats the read until it reflects the write acknowledged at ackNanos, or the timeout passes.
+     * The read returns null, or throws, when its answer says nothing about the write; that is a read error.
+     */
+    private void converge(WriteReadSequence sequence, long ackNanos, Supplier<Boolean> visible) {
+        while (true) {
+            long readStart = System.nanoTime();
+            Boolean shown;
+            try {
+                shown = visible.get();
+            } catch (Exception e) {
+                // RestAssured rethrows I/O failures without declaring them
+                shown = null;
+            }
+            if (shown == null) {
+                readErrors.get(sequence).increment();
+                Metrics.increment("consistency.error." + sequence.key());
+            }
+            if (Boolean.TRUE.equals(shown)) {
+                long lag = Math.max(0L, readStart - ackNanos);
+                staleness.get(sequence).recordValue(lag);
+                Metrics.recordNanos("consistency." + sequence.key(), lag);
+                return;
+            }
+            if (shown != null) {
+                staleReads.get(sequence).increment();
+                Metrics.increment("consistency.stale." + sequence.key());
+            }
+            if (System.nanoTime() - ackNanos >= timeoutNanos) {
+                notConverged.get(sequence).increment();
+                Metrics.increment("consistency.timeout." + sequence.key());
+                return;
+            }
+            LockSupport.parkNanos(pollIntervalNanos);
+        }
+    }
+
+    private Integer createPlayer(String editor, Player player) {
+        try {
+            Response resp = service.create(editor, player).raw();
+            return resp.statusCode() == 200 ? resp.jsonPath().getInt("id") : null;
+        } catch (Exception e) {
+            log.debug("Create failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Whether the player carries the updated screenName, null when the answer is not the player.
+     */
+    private static Boolean showsScreenName(Response resp, int id, String screenName) {
+        JsonNode body = PlayerPresence.body(resp);
+        if (body == null || body.path("id").asInt(Integer.MIN_VALUE) != id) {
+            return null;
+        }
+        return screenName.equals(body.path("screenName").asText(null));
+    }
+
+    private static Map<WriteReadSequence, Long> sums(Map<WriteReadSequence, LongAdder> adders) {
+        Map<WriteReadSequence, Long> sums = new EnumMap<>(WriteReadSequence.class);
+        adders.forEach((sequence, adder) -> sums.put(sequence, adder.sum()));
+        return sums;
+    }
+}
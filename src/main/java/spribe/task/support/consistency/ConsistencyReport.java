@@ -0,0 +1,92 @@
+package spribe.task.support.consistency;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Staleness windows observed by a {@link ConsistencyProbe}, per write→read sequence.
+ * A staleness of 0 means the first read after the write already reflected it.
+ */
+public final class ConsistencyReport {
+
+    private final Map<WriteReadSequence, Histogram> staleness;
+    private final Map<WriteReadSequence, Long> staleReads;
+    private final Map<WriteReadSequence, Long> notConverged;
+    private final Map<WriteReadSequence, Long> failedWrites;
+    private final Map<WriteReadSequence, Long> readErrors;
+
+    ConsistencyReport(Map<WriteReadSequence, Histogram> staleness, Map<WriteReadSequence, Long> staleReads,
+                      Map<WriteReadSequence, Long> notConverged, Map<WriteReadSequence, Long> failedWrites,
+                      Map<WriteReadSequence, Long> readErrors) {
+        this.staleness = Collections.unmodifiableMap(new EnumMap<>(staleness));
+        this.staleReads = Collections.unmodifiableMap(new EnumMap<>(staleReads));
+        this.notConverged = Collections.unmodifiableMap(new EnumMap<>(notConverged));
+        this.failedWrites = Collections.unmodifiableMap(new EnumMap<>(failedWrites));
+        this.readErrors = Collections.unmodifiableMap(new EnumMap<>(readErrors));
+    }
+
+    /**
+     * Nanoseconds from write acknowledgement to the first read showing it, converged sequences only.
+     */
+    public Histogram staleness(WriteReadSequence sequence) {
+        return staleness.get(sequence);
+    }
+
+    /**
+     * Reads that still returned the pre-write state.
+     */
+    public long staleReads(WriteReadSequence sequence) {
+        return staleReads.getOrDefault(sequence, 0L);
+    }
+
+    /**
+     * Sequences whose write never became visible within the probe timeout.
+     */
+    public long notConverged(WriteReadSequence sequence) {
+        return notConverged.getOrDefault(sequence, 0L);
+    }
+
+    /**
+     * Sequences skipped because the write itself (or the create preparing it) failed.
+     */
+    public long failedWrites(WriteReadSequence sequence) {
+        return failedWrites.getOrDefault(sequence, 0L);
+    }
+
+    /**
+     * Reads answered with neither the expected state nor the pre-write one (5xx, 429, I/O failures).
+     */
+    public long readErrors(WriteReadSequence sequence) {
+        return readErrors.getOrDefault(sequence, 0L);
+    }
+
+    public long totalNotConverged() {
+        return notConverged.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("%-20s %9s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "sequence", "converged", "p50 ms", "p90 ms", "p99 ms", "max ms", "stale", "timeout", "failed",
+                "errors"));
+        for (WriteReadSequence sequence : WriteReadSequence.values()) {
+            Histogram h = staleness.get(sequence);
+            if (h == null) {
+                continue;
+            }
+            sb.append(String.format("%-20s %9d %9.1f %9.1f %9.1f %9.1f %9d %9d %9d %9d%n", sequence.key(),
+                    h.getTotalCount(), millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getMaxValue()),
+                    staleReads(sequence), notConverged(sequence), failedWrites(sequence), readErrors(sequence)));
+        }
+        return sb.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,24 @@
+package spribe.task.support.consistency;
+
+/**
+ * A write followed by reads that must eventually reflect it.
+ */
+public enum WriteReadSequence {
+    CREATE_THEN_GET("create.get"),
+    UPDATE_THEN_GET("update.get"),
+    DELETE_THEN_GET("delete.get"),
+    DELETE_THEN_GET_ALL("delete.getAll");
+
+    private final String key;
+
+    WriteReadSequence(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Suffix of the consistency.{key} staleness metric.
+     */
+    public String key() {
+        return key;
+    }
+}
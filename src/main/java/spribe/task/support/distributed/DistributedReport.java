@@ -0,0 +1,69 @@
+package spribe.task.support.distributed;
+
+import org.HdrHistogram.Histogram;
+import spribe.task.support.metrics.Metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merged outcome of a distributed load run: histograms and counters of all workers added together.
+ *
+ * @param durationMs longest worker run time
+ */
+public record DistributedReport(List<WorkerRow> workers,
+                                long durationMs,
+                                Map<String, Histogram> histograms,
+                                Map<String, Long> counters) {
+
+    static final String LATENCY_PREFIX = "latency.";
+    static final String ERRORS = "load.errors";
+
+    public DistributedReport {
+        workers = List.copyOf(workers);
+        histograms = Map.copyOf(histograms);
+        counters = Map.copyOf(counters);
+    }
+
+    /**
+     * @param startSkewMs actual start minus planned start, in controller clock
+     */
+    public record WorkerRow(int index, String worker, long clockOffsetMs, long startSkewMs, long requests,
+                            long errors, String error) {
+    }
+
+    public long requests() {
+        return workers.stream().mapToLong(WorkerRow::requests).sum();
+    }
+
+    public long errors() {
+        return counters.getOrDefault(ERRORS, 0L);
+    }
+
+    public boolean allWorkersSucceeded() {
+        return workers.stream().allMatch(w -> w.error() == null);
+    }
+
+    public double throughput() {
+        return durationMs == 0 ? 0 : requests() * (double) TimeUnit.SECONDS.toMillis(1) / durationMs;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format(
+                "%d workers, %d requests in %.1fs, %.1f req/s, %d errors%n%n",
+                workers.size(), requests(), durationMs / 1000.0, throughput(), errors()));
+        sb.append(String.format("%-6s %-28s %10s %10s %10s %8s%n",
+                "worker", "process", "offset", "skew", "requests", "errors"));
+        workers.forEach(w -> sb.append(String.format("%-6d %-28s %8dms %8dms %10d %8d%s%n",
+                w.index(), w.worker(), w.clockOffsetMs(), w.startSkewMs(), w.requests(), w.errors(),
+                w.error() == null ? "" : "  FAILED: " + w.error())));
+        sb.append('\n');
+        histograms.entrySet().stream()
+                .filter(e -> e.getKey().startsWith(LATENCY_PREFIX))
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> sb.append(e.getKey()).append(": ").append(Metrics.describe(e.getValue())).append('\n'));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,230 @@
+package spribe.task.support.distributed;
+
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.aeonbits.owner.Config;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.HistogramFiles;
+import spribe.task.util.DataRange;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator of a distributed load run. Waits for distributed.workers {@link LoadWorker} JVMs to connect
+ * (or forks them on this machine with distributed.spawn.local), then gives each one its share of the
+ * threads and request rate and a disjoint data range, starts all of them at the same time once every worker
+ * has warmed up, and merges the Metrics
+ * histograms and counters they send back. The merged histograms and a summary are written to
+ * distributed.results.dir.
+ *
+ * Usage: LoadController (settings from distributed.* in TestConfig).
+ */
+public final class LoadController {
+    private static final Logger log = LoggerFactory.getLogger(LoadController.class);
+
+    private static final long RESULT_GRACE_MS = TimeUnit.SECONDS.toMillis(60);
+    static final String SUMMARY_FILE = "summary.txt";
+
+    private final LoadSettings settings;
+    private final Map<String, String> properties;
+
+    public LoadController(LoadSettings settings, Map<String, String> properties) {
+        this.settings = settings;
+        this.properties = Map.copyOf(properties);
+    }
+
+    public static LoadController fromConfig() {
+        return new LoadController(LoadSettings.fromConfig(ConfigFactoryProvider.config()), configOverrides());
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        DistributedReport report = fromConfig().run();
+        // printed rather than logged: exec:java runs without an SLF4J provider
+        System.out.println(report);
+        if (!report.allWorkersSucceeded()) {
+            System.exit(1);
+        }
+    }
+
+    public DistributedReport run() throws IOException, InterruptedException {
+        Files.createDirectories(settings.resultsDirectory());
+        List<Process> spawned = new ArrayList<>();
+        List<WireChannel> workers = new ArrayList<>();
+        try (ServerSocket server = new ServerSocket(settings.port())) {
+            int port = server.getLocalPort();
+            log.info("Load controller listening on port {}, waiting for {} workers", port, settings.workers());
+            if (settings.spawnLocal()) {
+                for (int i = 0; i < settings.workers(); i++) {
+                    spawned.add(spawn(i, port));
+                }
+            }
+
+            server.setSoTimeout((int) settings.connectTimeout().toMillis());
+            while (workers.size() < settings.workers()) {
+                try {
+                    WireChannel channel = new WireChannel(server.accept());
+                    Messages.Hello hello;
+                    do {
+                        hello = channel.receive(Messages.Hello.class, settings.connectTimeout().toMillis());
+                        channel.send(new Messages.ClockSync(System.currentTimeMillis()));
+                    } while (hello.remaining() > 0);
+                    workers.add(channel);
+                    log.info("Worker {} connected from {} ({}/{})", hello.worker(), channel.peer(), workers.size(),
+                            settings.workers());
+                } catch (SocketTimeoutException e) {
+                    throw new IllegalStateException("Only " + workers.size() + " of " + settings.workers()
+                            + " workers connected within " + settings.connectTimeout(), e);
+                }
+            }
+
+            sendPlans(workers);
+            for (WireChannel channel : workers) {
+                channel.receive(Messages.Ready.class, settings.connectTimeout().toMillis());
+            }
+            long startAt = System.currentTimeMillis() + settings.startDelay().toMillis();
+            for (WireChannel channel : workers) {
+                channel.send(new Messages.Start(startAt));
+            }
+            log.info("All workers ready, start in {}", settings.startDelay());
+            return merge(collect(workers));
+        } finally {
+            for (WireChannel channel : workers) {
+                channel.close();
+            }
+            for (Process process : spawned) {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    private void sendPlans(List<WireChannel> workers) throws IOException {
+        int count = workers.size();
+        long rangeSize = Math.min(settings.rangeSize(), DataRange.MAX_NUMBER / count);
+        String runTag = Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36, 36 * 36 * 36), 36);
+        for (int i = 0; i < count; i++) {
+            Map<String, String> workerProperties = new TreeMap<>(properties);
+            workerProperties.put("tracing.export.file",
+                    settings.resultsDirectory().resolve("worker-" + i + "-spans.otlp.jsonl").toString());
+            workerProperties.put("allure.results.directory",
+                    settings.resultsDirectory().resolve("worker-" + i + "-allure").toString());
+            workers.get(i).send(new Messages.LoadPlan(i, count, runTag, i * rangeSize, (i + 1) * rangeSize,
+                    settings.duration().toMillis(), settings.threadsPerWorker(), settings.rps() / count,
+                    workerProperties));
+        }
+        log.info("Plans sent: run {}, data range {} per worker", runTag, rangeSize);
+    }
+
+    private List<Messages.WorkerResult> collect(List<WireChannel> workers) throws IOException {
+        long timeoutMs = settings.startDelay().toMillis() + settings.duration().toMillis() + RESULT_GRACE_MS;
+        List<Messages.WorkerResult> results = new ArrayList<>();
+        for (WireChannel channel : workers) {
+            results.add(channel.receive(Messages.WorkerResult.class, timeoutMs));
+        }
+        return results;
+    }
+
+    private DistributedReport merge(List<Messages.WorkerResult> results) throws IOException {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        Map<String, Long> counters = new TreeMap<>();
+        List<DistributedReport.WorkerRow> rows = new ArrayList<>();
+        long durationMs = 0;
+        for (Messages.WorkerResult result : results) {
+            Map<String, Histogram> own = new TreeMap<>();
+            for (Map.Entry<String, String> e : result.histograms().entrySet()) {
+                own.put(e.getKey(), HistogramFiles.decode(e.getValue()));
+            }
+            HistogramFiles.mergeInto(histograms, own);
+            result.counters().forEach((name, value) -> counters.merge(name, value, Long::sum));
+            long requests = own.entrySet().stream()
+                    .filter(e -> e.getKey().startsWith(DistributedReport.LATENCY_PREFIX))
+                    .mapToLong(e -> e.getValue().getTotalCount())
+                    .sum();
+            rows.add(new DistributedReport.WorkerRow(result.index(), result.worker(), result.clockOffsetMs(),
+                    result.startSkewMs(), requests, result.counters().getOrDefault(DistributedReport.ERRORS, 0L),
+                    result.error()));
+            durationMs = Math.max(durationMs, result.elapsedMs());
+        }
+        DistributedReport report = new DistributedReport(rows, durationMs, histograms, counters);
+
+        HistogramFiles.write(settings.resultsDirectory().resolve(HistogramFiles.FILE_NAME), histograms);
+        try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(settings.resultsDirectory().resolve(SUMMARY_FILE)))) {
+            pw.print(report);
+            counters.forEach((name, value) -> pw.println(name + "=" + value));
+        }
+        return report;
+    }
+
+    /**
+     * Forks a worker JVM on this machine with the same classpath; its output goes to worker-{i}.log.
+     */
+    private Process spawn(int index, int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(classpath());
+        command.add(LoadWorker.class.getName());
+        command.add("localhost:" + port);
+        Path output = settings.resultsDirectory().resolve("worker-" + index + ".log");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+    }
+
+    /**
+     * exec:java loads the project into its own class loader, so java.class.path is not the project classpath.
+     */
+    private static String classpath() {
+        if (LoadController.class.getClassLoader() instanceof URLClassLoader loader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : loader.getURLs()) {
+                try {
+                    entries.add(Path.of(url.toURI()).toString());
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    log.warn("Skipping classpath entry {}", url);
+                }
+            }
+            return String.join(File.pathSeparator, entries);
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    /**
+     * TestConfig keys (and env) set as system properties in this JVM, so workers run with the same overrides.
+     * Workers never send Allure attachments; each one gets a span file and results directory of its own in the plan.
+     */
+    static Map<String, String> configOverrides() {
+        Map<String, String> overrides = new TreeMap<>();
+        for (Method method : TestConfig.class.getMethods()) {
+            Config.Key key = method.getAnnotation(Config.Key.class);
+            if (key != null && System.getProperty(key.value()) != null) {
+                overrides.put(key.value(), System.getProperty(key.value()));
+            }
+        }
+        if (System.getProperty("env") != null) {
+            overrides.put("env", System.getProperty("env"));
+        }
+        overrides.put("allure.http.attachments", "false");
+        return overrides;
+    }
+}
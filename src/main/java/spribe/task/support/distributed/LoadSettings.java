@@ -0,0 +1,46 @@
+package spribe.task.support.distributed;
+
+import spribe.task.common.env.TestConfig;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * distributed.* settings of the controller.
+ *
+ * @param rps total request rate over all workers, 0 = unlimited
+ */
+public record LoadSettings(int port,
+                           int workers,
+                           boolean spawnLocal,
+                           Duration duration,
+                           int threadsPerWorker,
+                           double rps,
+                           Duration startDelay,
+                           Duration connectTimeout,
+                           long rangeSize,
+                           Path resultsDirectory) {
+
+    public LoadSettings {
+        if (workers < 1) {
+            throw new IllegalArgumentException("distributed.workers must be at least 1: " + workers);
+        }
+        if (threadsPerWorker < 1) {
+            throw new IllegalArgumentException("distributed.threads.per.worker must be at least 1: " + threadsPerWorker);
+        }
+    }
+
+    public static LoadSettings fromConfig(TestConfig config) {
+        return new LoadSettings(
+                config.distributedPort(),
+                config.distributedWorkers(),
+                config.distributedSpawnLocal(),
+                Duration.ofSeconds(config.distributedDurationSeconds()),
+                config.distributedThreadsPerWorker(),
+                config.distributedRps(),
+                Duration.ofMillis(config.distributedStartDelayMs()),
+                Duration.ofMillis(config.distributedConnectTimeoutMs()),
+                config.distributedRangeSize(),
+                Path.of(config.distributedResultsDirectory()));
+    }
+}
@@ -0,0 +1,204 @@
+package spribe.task.support.distributed;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.core.Endpoint;
+import spribe.task.api.core.RequestSpecFactory;
+import spribe.task.api.core.cache.PlayerReadCache;
+import spribe.task.api.core.throttle.TokenBucket;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.services.PlayersService;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.support.metrics.HistogramFiles;
+import spribe.task.support.metrics.Metrics;
+import spribe.task.util.DataRange;
+import spribe.task.util.TestDataGenerator;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Worker JVM of a distributed load run: connects to the {@link LoadController}, applies the controller's
+ * configuration and data range, warms up, starts at the common start time and keeps a create / get / update /
+ * delete mix running on its threads. When the run ends it sends its Metrics histograms and counters back.
+ *
+ * Usage: LoadWorker [host:port]; defaults to the distributed.controller system property, then localhost:7070.
+ * Configuration is loaded only after the plan arrives, so the controller's overrides apply.
+ */
+public final class LoadWorker {
+    private static final Logger log = LoggerFactory.getLogger(LoadWorker.class);
+
+    private static final String DEFAULT_CONTROLLER = "localhost:7070";
+    private static final int CLOCK_SYNC_ROUNDS = 8;
+
+    private final String host;
+    private final int port;
+    private final String name = ManagementFactory.getRuntimeMXBean().getName();
+
+    public LoadWorker(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String address = args.length > 0 ? args[0] : System.getProperty("distributed.controller", DEFAULT_CONTROLLER);
+        int colon = address.lastIndexOf(':');
+        if (colon <= 0) {
+            throw new IllegalArgumentException("Controller address must be host:port: " + address);
+        }
+        new LoadWorker(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1))).run();
+    }
+
+    public void run() throws IOException {
+        try (WireChannel channel = new WireChannel(new Socket(host, port))) {
+            long offsetMs = syncClock(channel);
+            Messages.LoadPlan plan = channel.receive(Messages.LoadPlan.class, 0);
+            log.info("Worker {} got plan {} of {}: {} threads, {} rps, clock offset {}ms", name, plan.index(),
+                    plan.workers(), plan.threads(), plan.rps(), offsetMs);
+            Messages.WorkerResult result;
+            try {
+                result = execute(channel, plan, offsetMs);
+            } catch (Exception e) {
+                log.error("Worker {} failed", name, e);
+                result = new Messages.WorkerResult(plan.index(), name, offsetMs, 0, 0, Map.of(), Map.of(),
+                        e.toString());
+            }
+            channel.send(result);
+        }
+    }
+
+    /**
+     * @return controller clock minus ours, from the round trip with the least delay
+     */
+    private long syncClock(WireChannel channel) throws IOException {
+        long bestRoundTrip = Long.MAX_VALUE;
+        long offsetMs = 0;
+        for (int remaining = CLOCK_SYNC_ROUNDS - 1; remaining >= 0; remaining--) {
+            long sentAt = System.currentTimeMillis();
+            channel.send(new Messages.Hello(name, remaining));
+            Messages.ClockSync sync = channel.receive(Messages.ClockSync.class, 0);
+            long receivedAt = System.currentTimeMillis();
+            if (receivedAt - sentAt < bestRoundTrip) {
+                bestRoundTrip = receivedAt - sentAt;
+                offsetMs = sync.controllerTimeMs() - (sentAt + receivedAt) / 2;
+            }
+        }
+        return offsetMs;
+    }
+
+    private Messages.WorkerResult execute(WireChannel channel, Messages.LoadPlan plan, long offsetMs)
+            throws IOException, InterruptedException {
+        plan.properties().forEach(System::setProperty);
+        TestDataGenerator.useRange(new DataRange(plan.runTag(), plan.rangeFrom(), plan.rangeTo()));
+        PlayersService service = new PlayersService(PlayerReadCache.disabled());
+        TokenBucket pacer = plan.rps() > 0 ? new TokenBucket(plan.rps(), plan.threads()) : null;
+
+        // warm up before the start so class loading and spec setup do not land in the measurement
+        TestDataGenerator.generateValidPlayer();
+        CountDownLatch warmedUp = new CountDownLatch(plan.threads());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(plan.threads());
+        long[] deadline = new long[1];
+        for (int i = 0; i < plan.threads(); i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    warmUp();
+                    warmedUp.countDown();
+                    started.await();
+                    while (System.nanoTime() < deadline[0]) {
+                        cycle(service, pacer);
+                    }
+                } catch (Throwable t) {
+                    log.error("Load thread stopped", t);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-worker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        warmedUp.await();
+        channel.send(new Messages.Ready(plan.index()));
+
+        Messages.Start start = channel.receive(Messages.Start.class, 0);
+        long startAtLocal = start.startAtMs() - offsetMs;
+        long waitMs = startAtLocal - System.currentTimeMillis();
+        if (waitMs > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(waitMs));
+        }
+        long skewMs = System.currentTimeMillis() - startAtLocal;
+        long startNanos = System.nanoTime();
+        deadline[0] = startNanos + TimeUnit.MILLISECONDS.toNanos(plan.durationMs());
+        started.countDown();
+        done.await();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        Map<String, String> histograms = new TreeMap<>();
+        Metrics.histograms().forEach((metric, h) -> histograms.put(metric, HistogramFiles.encode(h)));
+        return new Messages.WorkerResult(plan.index(), name, offsetMs, skewMs, elapsedMs, histograms,
+                Metrics.counters(), null);
+    }
+
+    /**
+     * One request per thread outside PlayersService, so it is not counted in the latency metrics.
+     */
+    private static void warmUp() {
+        try {
+            given().spec(RequestSpecFactory.defaultSpec())
+                    .body(Map.of("playerId", 0))
+                    .post(ConfigFactoryProvider.snapshot().endpointPlayerGet());
+        } catch (Exception e) {
+            // RestAssured rethrows I/O failures without declaring them
+            log.debug("Warm-up request failed", e);
+        }
+    }
+
+    private static void cycle(PlayersService service, TokenBucket pacer) {
+        String supervisor = PlayersService.defaultSupervisor();
+        Response created = call(Endpoint.CREATE, pacer,
+                () -> service.create(supervisor, TestDataGenerator.generateValidPlayer(Role.USER.getValue())).raw(),
+                resp -> resp.statusCode() == 200);
+        if (created == null) {
+            return;
+        }
+        int id = created.jsonPath().getInt("id");
+        call(Endpoint.GET, pacer, () -> service.getById(id).raw(), resp -> resp.statusCode() == 200);
+        call(Endpoint.UPDATE, pacer,
+                () -> service.update(supervisor, id, TestDataGenerator.generateUpdatePlayerWithNewScreenName()).raw(),
+                resp -> resp.statusCode() == 200);
+        call(Endpoint.DELETE, pacer, () -> service.delete(supervisor, id).raw(), resp -> resp.statusCode() == 204);
+    }
+
+    /**
+     * @return the response if it passed the check, otherwise null (counted as an error)
+     */
+    private static Response call(Endpoint endpoint, TokenBucket pacer, Supplier<Response> request,
+                                 Predicate<Response> check) {
+        if (pacer != null) {
+            pacer.acquire();
+        }
+        try {
+            Response response = request.get();
+            if (check.test(response)) {
+                return response;
+            }
+        } catch (Exception e) {
+            // RestAssured rethrows I/O failures without declaring them
+            log.debug("Load {} call failed", endpoint, e);
+        }
+        Metrics.increment(DistributedReport.ERRORS);
+        Metrics.increment(DistributedReport.ERRORS + "." + endpoint.key());
+        return null;
+    }
+}
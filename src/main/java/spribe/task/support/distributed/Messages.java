@@ -0,0 +1,71 @@
+package spribe.task.support.distributed;
+
+import java.util.Map;
+
+/**
+ * Messages of the controller/worker protocol, in the order they are exchanged:
+ * worker {@link Hello} ⇄ controller {@link ClockSync} (a few rounds) → (all workers connected)
+ * controller {@link LoadPlan} → worker {@link Ready} → (all workers ready) controller {@link Start}
+ * → worker {@link WorkerResult}.
+ */
+final class Messages {
+
+    private Messages() {}
+
+    /**
+     * @param remaining further Hello rounds the worker will send after this one
+     */
+    record Hello(String worker, int remaining) {
+    }
+
+    /**
+     * Answer to every {@link Hello}; the worker estimates its clock offset from the fastest round trip.
+     */
+    record ClockSync(long controllerTimeMs) {
+    }
+
+    /**
+     * Share of the load for one worker.
+     *
+     * @param rangeFrom  first number of the worker's data range, see {@link spribe.task.util.DataRange}
+     * @param rps        request rate of this worker, 0 = unlimited
+     * @param properties TestConfig overrides of the controller, applied by the worker before it loads config
+     */
+    record LoadPlan(int index,
+                    int workers,
+                    String runTag,
+                    long rangeFrom,
+                    long rangeTo,
+                    long durationMs,
+                    int threads,
+                    double rps,
+                    Map<String, String> properties) {
+    }
+
+    /**
+     * Sent once the worker has loaded its configuration and warmed up.
+     */
+    record Ready(int index) {
+    }
+
+    /**
+     * @param startAtMs start of the measured run, in controller clock
+     */
+    record Start(long startAtMs) {
+    }
+
+    /**
+     * @param histograms  Metrics histograms of the worker, encoded with HistogramFiles
+     * @param startSkewMs actual start minus planned start, in controller clock
+     * @param error       why the worker failed, null on success
+     */
+    record WorkerResult(int index,
+                        String worker,
+                        long clockOffsetMs,
+                        long startSkewMs,
+                        long elapsedMs,
+                        Map<String, String> histograms,
+                        Map<String, Long> counters,
+                        String error) {
+    }
+}
@@ -0,0 +1,59 @@
+package spribe.task.support.distributed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import spribe.task.api.core.JacksonProvider;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controller/worker connection: one JSON message per line.
+ */
+final class WireChannel implements Closeable {
+
+    private final Socket socket;
+    private final BufferedReader in;
+    private final BufferedWriter out;
+    private final ObjectMapper mapper = JacksonProvider.mapper();
+
+    WireChannel(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    String peer() {
+        return String.valueOf(socket.getRemoteSocketAddress());
+    }
+
+    void send(Object message) throws IOException {
+        out.write(mapper.writeValueAsString(message));
+        out.write('\n');
+        out.flush();
+    }
+
+    /**
+     * Blocks until the next message arrives or the timeout passes (0 = no timeout).
+     */
+    <T> T receive(Class<T> type, long timeoutMs) throws IOException {
+        socket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, Math.max(0L, timeoutMs)));
+        String line = in.readLine();
+        if (line == null) {
+            throw new EOFException("Connection closed by " + peer() + " while waiting for " + type.getSimpleName());
+        }
+        return mapper.readValue(line, type);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
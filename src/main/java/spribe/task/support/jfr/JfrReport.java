@@ -0,0 +1,90 @@
+package spribe.task.support.jfr;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of a flight recording made with -Pjfr, written by {@link JfrSummary}.
+ * Calls are grouped by endpoint and sorted by total time, allocation sites by sampled weight.
+ *
+ * @param recording        path of the .jfr file
+ * @param allocatedBytes   sampled allocation weight of the whole recording, the base of every site's share
+ */
+public record JfrReport(String recording, List<Call> calls, List<Body> bodies,
+                        long allocatedBytes, List<AllocationSite> allocations) {
+
+    public JfrReport {
+        calls = List.copyOf(calls);
+        bodies = List.copyOf(bodies);
+        allocations = List.copyOf(allocations);
+    }
+
+    /**
+     * @param errors  calls without a response or with a status outside 2xx
+     * @param bytes   sum of the declared response lengths, -1 when no response declared one
+     */
+    public record Call(String endpoint, long errors, long bytes, Histogram latency) {
+
+        public long totalNanos() {
+            return (long) (latency.getMean() * latency.getTotalCount());
+        }
+    }
+
+    /**
+     * @param streamed        bodies parsed straight from the response stream
+     * @param allureNanos     time spent in Allure attachments for these responses
+     */
+    public record Body(String endpoint, String type, long streamed, long bytes, long allureNanos,
+                       Histogram deserialization) {
+    }
+
+    /**
+     * @param site     top frame of the sampled allocations
+     * @param caller   first frame in framework code below it, empty when there is none
+     */
+    public record AllocationSite(String site, String caller, String objectClass, long weight) {
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("Flight recording %s%n%n", recording));
+        sb.append(String.format("%-8s %7s %7s %10s %9s %9s %9s %9s %10s%n", "endpoint", "calls", "errors",
+                "total", "mean", "p50", "p99", "max", "bytes"));
+        for (Call e : calls) {
+            Histogram h = e.latency();
+            sb.append(String.format("%-8s %7d %7d %8.0fms %7.2fms %7.2fms %7.2fms %7.2fms %10s%n", e.endpoint(),
+                    h.getTotalCount(), e.errors(), millis(e.totalNanos()), millis((long) h.getMean()),
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)), millis(h.getMaxValue()),
+                    e.bytes() < 0 ? "-" : String.valueOf(e.bytes())));
+        }
+        if (calls.isEmpty()) {
+            sb.append(String.format("no %s events%n", PlayerCallEvent.NAME));
+        }
+
+        sb.append(String.format("%n%-8s %-16s %7s %8s %9s %9s %12s %10s%n", "endpoint", "body", "count",
+                "streamed", "mean", "p99", "bytes", "allure"));
+        for (Body b : bodies) {
+            Histogram h = b.deserialization();
+            sb.append(String.format("%-8s %-16s %7d %8d %7.2fms %7.2fms %12d %8.0fms%n", b.endpoint(), b.type(),
+                    h.getTotalCount(), b.streamed(), millis((long) h.getMean()), millis(h.getValueAtPercentile(99)),
+                    b.bytes(), millis(b.allureNanos())));
+        }
+        if (bodies.isEmpty()) {
+            sb.append(String.format("no %s events%n", ResponseBodyEvent.NAME));
+        }
+
+        sb.append(String.format("%nHottest allocation sites (%d MB sampled)%n", allocatedBytes / (1024 * 1024)));
+        for (AllocationSite a : allocations) {
+            sb.append(String.format("%5.1f%% %8d KB  %-40s %s%s%n",
+                    allocatedBytes == 0 ? 0 : 100.0 * a.weight() / allocatedBytes, a.weight() / 1024,
+                    a.objectClass(), a.site(), a.caller().isEmpty() ? "" : "  <- " + a.caller()));
+        }
+        return sb.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
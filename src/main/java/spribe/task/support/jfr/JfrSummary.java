@@ -0,0 +1,186 @@
+package spribe.task.support.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reads the flight recording of a -Pjfr run and writes a summary next to it: the endpoints that took the most
+ * time (from {@link PlayerCallEvent}), deserialization and Allure cost per response type
+ * (from {@link ResponseBodyEvent}) and the allocation sites with the highest sampled weight
+ * (jdk.ObjectAllocationSample, enabled by the "profile" settings).
+ *
+ * Usage: JfrSummary recording.jfr [summary.txt] [allocation sites]
+ */
+public final class JfrSummary {
+
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final String FRAMEWORK_PACKAGE = "spribe.";
+
+    private final int sites;
+
+    public JfrSummary(int sites) {
+        if (sites < 1) {
+            throw new IllegalArgumentException("sites must be positive: " + sites);
+        }
+        this.sites = sites;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: JfrSummary recording.jfr [summary.txt] [allocation sites]");
+        }
+        Path recording = Path.of(args[0]);
+        if (!Files.exists(recording)) {
+            throw new IllegalStateException("No flight recording at " + recording.toAbsolutePath()
+                    + ", run the tests with -Pjfr first");
+        }
+        Path summary = args.length > 1 ? Path.of(args[1]) : recording.resolveSibling("summary.txt");
+        JfrReport report = new JfrSummary(args.length > 2 ? Integer.parseInt(args[2]) : 20).summarize(recording);
+        Files.writeString(summary, report.toString());
+        // printed rather than logged: exec:java runs without an SLF4J provider
+        System.out.println(report);
+        System.out.println("Summary written to " + summary.toAbsolutePath());
+    }
+
+    public JfrReport summarize(Path recording) throws IOException {
+        Map<String, CallTotals> calls = new HashMap<>();
+        Map<String, BodyTotals> bodies = new HashMap<>();
+        Map<String, Long> allocationWeight = new HashMap<>();
+        Map<String, JfrReport.AllocationSite> siteOf = new HashMap<>();
+        long allocated = 0;
+
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                switch (event.getEventType().getName()) {
+                    case PlayerCallEvent.NAME -> calls.computeIfAbsent(event.getString("endpoint"), e -> new CallTotals())
+                            .add(event);
+                    case ResponseBodyEvent.NAME -> {
+                        // wrappers created outside PlayersService carry no endpoint
+                        String endpoint = Objects.requireNonNullElse(event.getString("endpoint"), "-");
+                        String type = event.getString("type");
+                        bodies.computeIfAbsent(endpoint + " " + type, k -> new BodyTotals(endpoint, type)).add(event);
+                    }
+                    case ALLOCATION_SAMPLE -> {
+                        long weight = event.getLong("weight");
+                        allocated += weight;
+                        JfrReport.AllocationSite site = site(event);
+                        if (site != null) {
+                            String key = site.objectClass() + " " + site.site() + " " + site.caller();
+                            allocationWeight.merge(key, weight, Long::sum);
+                            siteOf.putIfAbsent(key, site);
+                        }
+                    }
+                    default -> {
+                        // other JDK events are not summarized
+                    }
+                }
+            }
+        }
+
+        List<JfrReport.Call> callRows = new ArrayList<>();
+        calls.forEach((endpoint, t) -> callRows.add(new JfrReport.Call(endpoint, t.errors, t.bytes, t.latency)));
+        callRows.sort(Comparator.comparingLong(JfrReport.Call::totalNanos).reversed());
+
+        List<JfrReport.Body> bodyRows = new ArrayList<>();
+        bodies.values().forEach(t -> bodyRows.add(new JfrReport.Body(t.endpoint, t.type, t.streamed, t.bytes,
+                t.allureNanos, t.deserialization)));
+        bodyRows.sort(Comparator.comparingDouble((JfrReport.Body b) ->
+                b.deserialization().getMean() * b.deserialization().getTotalCount()).reversed());
+
+        List<JfrReport.AllocationSite> siteRows = allocationWeight.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(sites)
+                .map(e -> {
+                    JfrReport.AllocationSite s = siteOf.get(e.getKey());
+                    return new JfrReport.AllocationSite(s.site(), s.caller(), s.objectClass(), e.getValue());
+                })
+                .toList();
+        return new JfrReport(recording.toString(), callRows, bodyRows, allocated, siteRows);
+    }
+
+    private static JfrReport.AllocationSite site(RecordedEvent event) {
+        RecordedStackTrace stack = event.getStackTrace();
+        if (stack == null || stack.getFrames().isEmpty()) {
+            return null;
+        }
+        List<RecordedFrame> frames = stack.getFrames();
+        String top = frame(frames.get(0));
+        String caller = "";
+        if (!isFramework(frames.get(0))) {
+            for (RecordedFrame frame : frames) {
+                if (isFramework(frame)) {
+                    caller = frame(frame);
+                    break;
+                }
+            }
+        }
+        String objectClass = event.getClass("objectClass") != null ? event.getClass("objectClass").getName() : "?";
+        return new JfrReport.AllocationSite(top, caller, objectClass, 0);
+    }
+
+    private static boolean isFramework(RecordedFrame frame) {
+        return frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(FRAMEWORK_PACKAGE);
+    }
+
+    private static String frame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+
+    private static final class CallTotals {
+        final Histogram latency = new Histogram(3);
+        long errors;
+        // -1 until a call declared its length
+        long bytes = -1;
+
+        void add(RecordedEvent event) {
+            latency.recordValue(Math.max(0L, event.getDuration().toNanos()));
+            int status = event.getInt("status");
+            if (status < 200 || status > 299) {
+                errors++;
+            }
+            long declared = event.getLong("bytes");
+            if (declared >= 0) {
+                bytes = Math.max(0L, bytes) + declared;
+            }
+        }
+    }
+
+    private static final class BodyTotals {
+        final String endpoint;
+        final String type;
+        final Histogram deserialization = new Histogram(3);
+        long streamed;
+        long bytes;
+        long allureNanos;
+
+        BodyTotals(String endpoint, String type) {
+            this.endpoint = endpoint;
+            this.type = type;
+        }
+
+        void add(RecordedEvent event) {
+            deserialization.recordValue(Math.max(0L, event.getDuration().toNanos()));
+            if (event.getBoolean("streamed")) {
+                streamed++;
+            }
+            bytes += event.getLong("bytes");
+            allureNanos += event.getLong("allureOverhead");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package spribe.task.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * One player-controller call made by PlayersService, from the throttle to the response.
+ * The event duration is the call latency, the same span as the latency.{endpoint} metric.
+ */
+@Name(PlayerCallEvent.NAME)
+@Label("Player Call")
+@Category({"Players API"})
+@Description("A player-controller request sent by PlayersService")
+public final class PlayerCallEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "spribe.PlayerCall";
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Editor")
+    public String editor;
+
+    @Label("Status")
+    @Description("HTTP status, -1 when no response was received")
+    public int status = -1;
+
+    @Label("Response Bytes")
+    @Description("Declared Content-Length of the (decoded) response, -1 when not declared")
+    @DataAmount
+    public long bytes = -1;
+
+    @Label("Throttle Wait")
+    @Timespan
+    public long throttleWait;
+}
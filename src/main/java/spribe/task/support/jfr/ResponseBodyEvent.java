@@ -0,0 +1,45 @@
+package spribe.task.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Deserialization of a response body by ResponseWrapper.asBody. The event duration covers Jackson only;
+ * the Allure attachments made for the same response are reported separately as the Allure overhead.
+ */
+@Name(ResponseBodyEvent.NAME)
+@Label("Response Body")
+@Category({"Players API"})
+@Description("A player-controller response body mapped to a model class")
+@StackTrace(false)
+public final class ResponseBodyEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "spribe.ResponseBody";
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Type")
+    public String type;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Body Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Streamed")
+    @Description("Parsed straight from the response stream rather than from a String copy")
+    public boolean streamed;
+
+    @Label("Allure Overhead")
+    @Description("Time spent adding Allure attachments for this response (status, timing and body)")
+    @Timespan
+    public long allureOverhead;
+}
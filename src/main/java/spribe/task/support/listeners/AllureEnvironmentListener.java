@@ -5,6 +5,11 @@ import org.slf4j.LoggerFactory;
 import org.testng.IExecutionListener;
 import spribe.task.common.env.ConfigFactoryProvider;
 import spribe.task.common.env.TestConfig;
+import spribe.task.support.allure.AsyncResultsWriter;
+import spribe.task.support.metrics.HistogramFiles;
+import spribe.task.support.metrics.Metrics;
+import spribe.task.support.metrics.StartupTimer;
+import spribe.task.support.sharding.ShardSpec;
 
 import java.io.FileWriter;
 import java.io.PrintWriter;
@@ -12,17 +17,30 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
 
 /**
  * TestNG listener that generates environment.properties file for Allure report.
+ * Latency histograms are saved next to it so shard results can be merged later.
  * Executes after all tests are finished.
+ *
+ * It also installs the {@link AsyncResultsWriter} when created and flushes it before anything else
+ * at the end of the execution, so all results are on disk once environment.properties is written.
  */
 public class AllureEnvironmentListener implements IExecutionListener {
 
     private static final Logger log = LoggerFactory.getLogger(AllureEnvironmentListener.class);
+    private static final long FLUSH_TIMEOUT_SECONDS = 60;
+
+    public AllureEnvironmentListener() {
+        AsyncResultsWriter.install(ConfigFactoryProvider.config());
+    }
 
     @Override
     public void onExecutionFinish() {
+        if (!AsyncResultsWriter.flushInstalled(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Allure results were not fully written within {}s", FLUSH_TIMEOUT_SECONDS);
+        }
         try {
             TestConfig config = ConfigFactoryProvider.config();
             String resultsDir = config.allureResultsDirectory();
@@ -43,9 +61,15 @@ public class AllureEnvironmentListener implements IExecutionListener {
                 pw.println("Editor.Admin=" + config.adminLogin());
                 pw.println("Threads=" + config.threadCount());
                 pw.println("API Timeout=" + config.apiTimeout() + "ms");
+                pw.println("Throttling=" + (config.throttleEnabled() ? "enabled" : "disabled"));
+                pw.println("Class data sharing=" + StartupTimer.classDataSharing());
+                ShardSpec.current().ifPresent(shard -> pw.println("Shard=" + shard));
+                Metrics.summary().forEach((name, value) -> pw.println("Metric." + name + "=" + value));
                 
                 log.info("Allure environment.properties file created at: {}", envFile.toAbsolutePath());
             }
+
+            HistogramFiles.write(dir.resolve(HistogramFiles.FILE_NAME), Metrics.histograms());
         } catch (Exception e) {
             log.error("Failed to create environment.properties file for Allure report", e);
         }
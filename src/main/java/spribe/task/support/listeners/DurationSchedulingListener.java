@@ -0,0 +1,113 @@
+package spribe.task.support.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.Metrics;
+import spribe.task.support.scheduling.MakespanPlanner;
+import spribe.task.support.scheduling.TestDurationStore;
+import spribe.task.support.sharding.ShardSpec;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TestNG listener that schedules test methods longest-first using durations from previous runs.
+ * With parallel="methods" the worker pool picks methods in the returned order, which is
+ * the LPT bin-packing that minimises the suite makespan.
+ * Durations of the current run are written back to the store when execution finishes,
+ * together with predicted vs actual suite time.
+ *
+ * With -Dshard=i/n the methods are first partitioned across n shards with the same LPT plan,
+ * so every process computes an identical, duration-balanced split from the same store,
+ * and only the methods of shard i are run. A shard never writes that store, as shards starting later
+ * would split differently; it hands its durations to ShardResultsMerger, the store's only writer then.
+ */
+public class DurationSchedulingListener implements IMethodInterceptor, ITestListener, IExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(DurationSchedulingListener.class);
+    private final TestConfig config = ConfigFactoryProvider.config();
+    private final TestDurationStore store =
+            TestDurationStore.load(Path.of(config.perfDataDirectory(), TestDurationStore.FILE_NAME));
+    private final Optional<ShardSpec> shard = ShardSpec.current();
+    private final AtomicLong predictedMs = new AtomicLong();
+    private volatile long startedAt;
+
+    @Override
+    public void onExecutionStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (shard.isPresent()) {
+            methods = shardOf(methods, shard.get());
+        }
+        int workers = Math.max(1, context.getSuite().getXmlSuite().getThreadCount());
+        MakespanPlanner.Plan<IMethodInstance> plan = MakespanPlanner.plan(methods,
+                m -> store.estimate(name(m)), DurationSchedulingListener::name, workers);
+        predictedMs.addAndGet(plan.makespan());
+
+        if (!config.schedulingEnabled()) {
+            return methods;
+        }
+        log.info("Scheduled {} methods longest-first across {} workers, predicted makespan={}ms",
+                methods.size(), workers, plan.makespan());
+        return plan.order();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        long actualMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long predicted = predictedMs.get();
+        Metrics.counter("scheduling.predictedMs").add(predicted);
+        Metrics.counter("scheduling.actualMs").add(actualMs);
+        log.info("Suite time: predicted={}ms, actual={}ms", predicted, actualMs);
+        if (shard.isPresent()) {
+            // only this shard's tests, so the merge can take every test from the shard that ran it
+            store.saveRecordedTo(Path.of(config.allureResultsDirectory(), TestDurationStore.FILE_NAME));
+        } else {
+            store.save();
+        }
+    }
+
+    private List<IMethodInstance> shardOf(List<IMethodInstance> methods, ShardSpec spec) {
+        MakespanPlanner.Plan<IMethodInstance> shards = MakespanPlanner.plan(methods,
+                m -> store.estimate(name(m)), DurationSchedulingListener::name, spec.total());
+        List<IMethodInstance> selected = shards.bin(spec.index() - 1);
+        log.info("Shard {}: running {} of {} methods, predicted load={}ms",
+                spec, selected.size(), methods.size(), shards.load(spec.index() - 1));
+        return selected;
+    }
+
+    private void record(ITestResult result) {
+        long duration = result.getEndMillis() - result.getStartMillis();
+        if (duration >= 0) {
+            store.record(result.getMethod().getQualifiedName(), duration);
+        }
+    }
+
+    private static String name(IMethodInstance method) {
+        return method.getMethod().getQualifiedName();
+    }
+}
@@ -0,0 +1,64 @@
+package spribe.task.support.listeners;
+
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import spribe.task.support.tracing.Span;
+import spribe.task.support.tracing.Tracing;
+
+/**
+ * TestNG listener that runs every test method invocation in a trace of its own,
+ * so all requests of one test share a trace id. Configuration methods (@BeforeMethod etc.)
+ * get a trace of their own as well, so setup and cleanup calls are not left as loose spans.
+ * Spans are flushed when execution finishes.
+ */
+public class TracingListener implements IInvokedMethodListener, IExecutionListener {
+
+    private static final ThreadLocal<Span> TEST_SPAN = new ThreadLocal<>();
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        String className = testResult.getTestClass().getRealClass().getSimpleName();
+        String methodName = testResult.getMethod().getMethodName();
+        Span span = Tracing.startTest(className + "." + methodName);
+        if (span != null) {
+            span.setAttribute("test.class", testResult.getTestClass().getName())
+                    .setAttribute("test.method", methodName)
+                    .setAttribute("test.configuration", !method.isTestMethod());
+            TEST_SPAN.set(span);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Span span = TEST_SPAN.get();
+        if (span == null) {
+            return;
+        }
+        TEST_SPAN.remove();
+        span.setAttribute("test.status", status(testResult.getStatus()));
+        if (testResult.getStatus() == ITestResult.FAILURE) {
+            span.markError();
+        }
+        Tracing.end(span);
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        Tracing.flush();
+    }
+
+    private static String status(int status) {
+        switch (status) {
+            case ITestResult.SUCCESS:
+                return "passed";
+            case ITestResult.FAILURE:
+                return "failed";
+            case ITestResult.SKIP:
+                return "skipped";
+            default:
+                return String.valueOf(status);
+        }
+    }
+}
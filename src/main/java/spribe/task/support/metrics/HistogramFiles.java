@@ -0,0 +1,80 @@
+package spribe.task.support.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+
+/**
+ * Stores named histograms as a properties file of base64-encoded compressed HdrHistograms,
+ * so they can be merged across processes without losing precision.
+ */
+public final class HistogramFiles {
+
+    public static final String FILE_NAME = "latency-histograms.properties";
+
+    private HistogramFiles() {}
+
+    public static void write(Path file, Map<String, Histogram> histograms) throws IOException {
+        Properties props = new Properties();
+        histograms.forEach((name, h) -> props.setProperty(name, encode(h)));
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            props.store(out, "HdrHistogram latencies in nanoseconds (compressed, base64)");
+        }
+    }
+
+    public static Map<String, Histogram> read(Path file) throws IOException {
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        }
+        Map<String, Histogram> histograms = new TreeMap<>();
+        for (String name : props.stringPropertyNames()) {
+            histograms.put(name, decode(props.getProperty(name)));
+        }
+        return histograms;
+    }
+
+    /**
+     * Adds every histogram of {@code source} into the same-named histogram of {@code target}.
+     */
+    public static void mergeInto(Map<String, Histogram> target, Map<String, Histogram> source) {
+        source.forEach((name, h) -> target.merge(name, h.copy(), (a, b) -> {
+            a.add(b);
+            return a;
+        }));
+    }
+
+    public static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        byte[] bytes = new byte[length];
+        buffer.flip();
+        buffer.get(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    public static Histogram decode(String value) throws IOException {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(value.trim()));
+            Histogram histogram = Histogram.decodeFromCompressedByteBuffer(buffer, 0);
+            histogram.setAutoResize(true);
+            return histogram;
+        } catch (DataFormatException | IllegalArgumentException e) {
+            throw new IOException("Corrupted histogram data", e);
+        }
+    }
+}
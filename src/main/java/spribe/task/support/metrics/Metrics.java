@@ -0,0 +1,85 @@
+package spribe.task.support.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process registry of named latency histograms (nanoseconds) and counters.
+ * Recording is thread-safe and allocation-free once a metric exists.
+ */
+public final class Metrics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final ConcurrentMap<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+    private Metrics() {}
+
+    public static Histogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, n -> new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+    }
+
+    public static LongAdder counter(String name) {
+        return COUNTERS.computeIfAbsent(name, n -> new LongAdder());
+    }
+
+    public static void recordNanos(String name, long nanos) {
+        histogram(name).recordValue(Math.max(0L, nanos));
+    }
+
+    public static void increment(String name) {
+        counter(name).increment();
+    }
+
+    /**
+     * Returns copies of all histograms, sorted by name.
+     */
+    public static Map<String, Histogram> histograms() {
+        Map<String, Histogram> copy = new TreeMap<>();
+        HISTOGRAMS.forEach((name, h) -> copy.put(name, h.copy()));
+        return copy;
+    }
+
+    /**
+     * Returns current values of all counters, sorted by name.
+     */
+    public static Map<String, Long> counters() {
+        Map<String, Long> copy = new TreeMap<>();
+        COUNTERS.forEach((name, c) -> copy.put(name, c.sum()));
+        return copy;
+    }
+
+    /**
+     * Human-readable one line per metric, suitable for logs and Allure environment.properties.
+     */
+    public static Map<String, String> summary() {
+        Map<String, String> lines = new TreeMap<>();
+        histograms().forEach((name, h) -> lines.put(name, describe(h)));
+        counters().forEach((name, value) -> lines.put(name, String.valueOf(value)));
+        return lines;
+    }
+
+    public static String describe(Histogram h) {
+        if (h.getTotalCount() == 0) {
+            return "count=0";
+        }
+        return String.format("count=%d p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+                h.getTotalCount(),
+                millis(h.getValueAtPercentile(50)),
+                millis(h.getValueAtPercentile(90)),
+                millis(h.getValueAtPercentile(99)),
+                millis(h.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
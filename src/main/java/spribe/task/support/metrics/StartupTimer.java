@@ -0,0 +1,51 @@
+package spribe.task.support.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures time from JVM start to the first player-controller request,
+ * published as the startup.firstRequest metric (one value per JVM, so shards merge into a distribution).
+ */
+public final class StartupTimer {
+    private static final Logger log = LoggerFactory.getLogger(StartupTimer.class);
+
+    private static final AtomicBoolean RECORDED = new AtomicBoolean();
+
+    private StartupTimer() {}
+
+    /**
+     * Called right before a request is sent; only the first call of the JVM is recorded.
+     */
+    public static void onRequest() {
+        if (RECORDED.get() || !RECORDED.compareAndSet(false, true)) {
+            return;
+        }
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        long sinceStartMs = Math.max(0L, System.currentTimeMillis() - runtime.getStartTime());
+        Metrics.recordNanos("startup.firstRequest", TimeUnit.MILLISECONDS.toNanos(sinceStartMs));
+        log.info("First request {} ms after JVM start ({} classes loaded, class data sharing: {})",
+                sinceStartMs, ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount(),
+                classDataSharing());
+    }
+
+    /**
+     * The application CDS archive in use, or "default" when only the JDK archive applies.
+     */
+    public static String classDataSharing() {
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (arg.startsWith("-XX:SharedArchiveFile=")) {
+                return arg.substring("-XX:SharedArchiveFile=".length());
+            }
+            if (arg.startsWith("-XX:ArchiveClassesAtExit=")) {
+                return "dumping to " + arg.substring("-XX:ArchiveClassesAtExit=".length());
+            }
+        }
+        return "default";
+    }
+}
@@ -0,0 +1,159 @@
+package spribe.task.support.race;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Searches for a sequential order of a player's operation history that respects real time
+ * (an operation that completed before another was invoked must come first) and in which every
+ * response matches the model: one player that exists or not and has a set of tracked fields.
+ *
+ * Model rules:
+ * update 200 requires the player and applies the writes, the returned fields must match the new state;
+ * update 404, read 404 and a read 200 without the player (an empty body, or no or another id) require
+ * that there is no player; delete 204 removes an existing player; a read 200 with the player must return
+ * the current fields; other statuses change nothing.
+ * Operations without a response may take effect at any point after invocation or not at all.
+ *
+ * This is the Wing &amp; Gong search with memoization of visited (linearized set, state) pairs,
+ * which is fast enough for the handful of concurrent operations of a race round.
+ */
+final class LinearizabilityChecker {
+
+    static final int MAX_OPERATIONS = 62;
+
+    private LinearizabilityChecker() {}
+
+    /**
+     * @return a valid order of the determinate operations (plus the indeterminate ones that took effect),
+     * or empty if the history is not linearizable
+     */
+    static Optional<List<RaceOperation>> check(PlayerState initial, List<RaceOperation> history) {
+        if (history.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("At most " + MAX_OPERATIONS + " operations per history: " + history.size());
+        }
+        long required = 0L;
+        for (int i = 0; i < history.size(); i++) {
+            if (!history.get(i).isIndeterminate()) {
+                required |= 1L << i;
+            }
+        }
+        List<RaceOperation> order = new ArrayList<>();
+        boolean found = search(history, initial, 0L, required, order, new HashSet<>());
+        return found ? Optional.of(Collections.unmodifiableList(order)) : Optional.empty();
+    }
+
+    private static boolean search(List<RaceOperation> history, PlayerState state, long done, long required,
+                                  List<RaceOperation> order, Set<Visit> visited) {
+        if ((done & required) == required) {
+            return true;
+        }
+        if (!visited.add(new Visit(done, state))) {
+            return false;
+        }
+        for (int i = 0; i < history.size(); i++) {
+            if ((done & (1L << i)) != 0 || !isMinimal(history, done, i)) {
+                continue;
+            }
+            RaceOperation op = history.get(i);
+            PlayerState next = apply(state, op);
+            if (next == null) {
+                continue;
+            }
+            order.add(op);
+            if (search(history, next, done | (1L << i), required, order, visited)) {
+                return true;
+            }
+            order.remove(order.size() - 1);
+        }
+        return false;
+    }
+
+    // no pending operation completed before this one was invoked
+    private static boolean isMinimal(List<RaceOperation> history, long done, int candidate) {
+        RaceOperation op = history.get(candidate);
+        for (int j = 0; j < history.size(); j++) {
+            if (j != candidate && (done & (1L << j)) == 0 && history.get(j).precedes(op)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the state after the operation, or null if its response contradicts the state
+     */
+    static PlayerState apply(PlayerState state, RaceOperation op) {
+        int status = op.status();
+        switch (op.type()) {
+            case UPDATE:
+                if (op.isIndeterminate()) {
+                    return state.exists() ? state.with(op.writes()) : state;
+                }
+                if (status == 200) {
+                    if (!state.exists()) {
+                        return null;
+                    }
+                    PlayerState next = state.with(op.writes());
+                    return next.matches(op.observed()) ? next : null;
+                }
+                return status == 404 && state.exists() ? null : state;
+            case DELETE:
+                if (op.isIndeterminate()) {
+                    return PlayerState.DELETED;
+                }
+                if (status == 200 || status == 204) {
+                    return state.exists() ? PlayerState.DELETED : null;
+                }
+                return status == 404 && state.exists() ? null : state;
+            case READ:
+                if (op.sawPlayer()) {
+                    return state.exists() && state.matches(op.observed()) ? state : null;
+                }
+                return (status == 404 || status == 200) && state.exists() ? null : state;
+            default:
+                throw new IllegalStateException("Unknown operation type " + op.type());
+        }
+    }
+
+    /**
+     * Model state: whether the player exists and the values of the tracked fields.
+     */
+    record PlayerState(boolean exists, Map<String, String> fields) {
+        static final PlayerState DELETED = new PlayerState(false, Map.of());
+
+        PlayerState {
+            fields = Collections.unmodifiableMap(new TreeMap<>(fields));
+        }
+
+        PlayerState with(Map<String, String> writes) {
+            Map<String, String> next = new TreeMap<>(fields);
+            next.putAll(writes);
+            return new PlayerState(true, next);
+        }
+
+        // the API may omit fields in a response; only returned ones are compared
+        boolean matches(Map<String, String> observed) {
+            for (Map.Entry<String, String> entry : observed.entrySet()) {
+                if (!Objects.equals(fields.get(entry.getKey()), entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return exists ? fields.toString() : "<deleted>";
+        }
+    }
+
+    private record Visit(long done, PlayerState state) {}
+}
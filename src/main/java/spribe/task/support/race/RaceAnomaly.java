@@ -0,0 +1,15 @@
+package spribe.task.support.race;
+
+/**
+ * A race round whose history has no valid sequential explanation.
+ *
+ * @param kind         LOST_UPDATE, GHOST_DELETE or NOT_LINEARIZABLE
+ * @param interleaving every operation of the round with its timing and response, ordered by invocation
+ */
+public record RaceAnomaly(int round, int playerId, String kind, String description, String interleaving) {
+
+    @Override
+    public String toString() {
+        return "Round " + round + ", player " + playerId + ": " + kind + " - " + description + "\n" + interleaving;
+    }
+}
@@ -0,0 +1,323 @@
+package spribe.task.support.race;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.core.JacksonProvider;
+import spribe.task.api.core.PlayerPresence;
+import spribe.task.api.core.cache.PlayerReadCache;
+import spribe.task.api.model.enums.Gender;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.model.request.Player;
+import spribe.task.api.services.PlayersService;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.Metrics;
+import spribe.task.support.race.LinearizabilityChecker.PlayerState;
+import spribe.task.util.TestDataGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Fires concurrent update / delete / read calls from different editors at one player per round,
+ * then checks the recorded history with {@link LinearizabilityChecker} against a final read.
+ * Rounds whose history cannot be explained sequentially are reported with their exact interleaving.
+ *
+ * The operation mix of a round is derived from the seed and the round number, so a reported
+ * round can be replayed with the same seed (timing, and thus the interleaving, will differ).
+ */
+public final class RaceFuzzer {
+    private static final Logger log = LoggerFactory.getLogger(RaceFuzzer.class);
+
+    static final List<String> TRACKED_FIELDS = List.of("age", "gender", "screenName");
+
+    private final PlayersService service;
+    private final int rounds;
+    private final int operationsPerRound;
+    private final int deletePercent;
+    private final int readPercent;
+    private final long seed;
+
+    public RaceFuzzer(PlayersService service, int rounds, int operationsPerRound,
+                      int deletePercent, int readPercent, long seed) {
+        if (operationsPerRound < 2 || operationsPerRound >= LinearizabilityChecker.MAX_OPERATIONS) {
+            throw new IllegalArgumentException("operationsPerRound must be in 2.."
+                    + (LinearizabilityChecker.MAX_OPERATIONS - 1) + ": " + operationsPerRound);
+        }
+        this.service = service;
+        this.rounds = rounds;
+        this.operationsPerRound = operationsPerRound;
+        this.deletePercent = deletePercent;
+        this.readPercent = readPercent;
+        this.seed = seed;
+    }
+
+    /**
+     * race.seed=0 picks a random seed, which is logged and included in the report.
+     */
+    public static RaceFuzzer fromConfig(TestConfig config) {
+        long seed = config.raceSeed() != 0 ? config.raceSeed() : ThreadLocalRandom.current().nextLong();
+        return new RaceFuzzer(new PlayersService(PlayerReadCache.disabled()), config.raceRounds(),
+                config.raceOperations(), config.raceDeletePercent(), config.raceReadPercent(), seed);
+    }
+
+    public RaceReport run() throws InterruptedException {
+        log.info("Race fuzzer: seed={}, {} rounds of {} operations", seed, rounds, operationsPerRound);
+        String supervisor = PlayersService.defaultSupervisor();
+        Player admin = TestDataGenerator.generateValidPlayer(Role.ADMIN.getValue());
+        Integer adminId = createdId(service.create(supervisor, admin).raw());
+        List<String> editors = adminId == null ? List.of(supervisor) : List.of(supervisor, admin.getLogin());
+
+        List<RaceAnomaly> anomalies = new ArrayList<>();
+        int operations = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(operationsPerRound);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                Optional<RaceAnomaly> anomaly = round(round, editors, pool);
+                operations += operationsPerRound + 1;
+                anomaly.ifPresent(a -> {
+                    Metrics.increment("race.anomalies");
+                    log.warn("Race anomaly found (seed={}):\n{}", seed, a);
+                    anomalies.add(a);
+                });
+            }
+        } finally {
+            pool.shutdownNow();
+            if (adminId != null) {
+                quietly(() -> service.delete(supervisor, adminId).raw());
+            }
+        }
+        RaceReport report = new RaceReport(seed, rounds, operations, anomalies);
+        log.info("Race fuzzer finished: {} anomalies in {} rounds", anomalies.size(), rounds);
+        return report;
+    }
+
+    private Optional<RaceAnomaly> round(int round, List<String> editors, ExecutorService pool)
+            throws InterruptedException {
+        String supervisor = PlayersService.defaultSupervisor();
+        Player target = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
+        Response created = service.create(supervisor, target).raw();
+        Integer id = createdId(created);
+        if (id == null) {
+            log.warn("Round {} skipped: create returned {}", round, created.statusCode());
+            return Optional.empty();
+        }
+
+        Map<String, String> initial = new TreeMap<>();
+        initial.put("age", String.valueOf(target.getAge()));
+        initial.put("gender", target.getGender());
+        initial.put("screenName", target.getScreenName());
+        initial.putAll(tracked(created));
+
+        Random random = new Random(seed * 31 + round);
+        List<PlannedCall> plan = new ArrayList<>();
+        for (int i = 0; i < operationsPerRound; i++) {
+            plan.add(plan(random, round, i, editors.get(random.nextInt(editors.size()))));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RaceOperation>> futures = new ArrayList<>();
+        for (PlannedCall call : plan) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return execute(call, id);
+            }));
+        }
+        long origin = System.nanoTime();
+        start.countDown();
+
+        List<RaceOperation> history = new ArrayList<>();
+        for (Future<RaceOperation> future : futures) {
+            try {
+                history.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Race operation failed unexpectedly", e.getCause());
+            }
+        }
+        history.add(execute(new PlannedCall(operationsPerRound, "-", RaceOperation.Type.READ, Map.of()), id));
+
+        Optional<List<RaceOperation>> order = LinearizabilityChecker.check(new PlayerState(true, initial), history);
+        quietly(() -> service.delete(supervisor, id).raw());
+        if (order.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(classify(round, id, initial, history, origin));
+    }
+
+    private PlannedCall plan(Random random, int round, int index, String editor) {
+        int roll = random.nextInt(100);
+        if (roll < deletePercent) {
+            return new PlannedCall(index, editor, RaceOperation.Type.DELETE, Map.of());
+        }
+        if (roll < deletePercent + readPercent) {
+            return new PlannedCall(index, editor, RaceOperation.Type.READ, Map.of());
+        }
+        Map<String, String> writes = new TreeMap<>();
+        while (writes.isEmpty()) {
+            if (random.nextBoolean()) {
+                writes.put("screenName", "r" + round + "o" + index + "x" + Integer.toHexString(random.nextInt(0xFFFF)));
+            }
+            if (random.nextBoolean()) {
+                int minAge = ConfigFactoryProvider.snapshot().minAge();
+                int maxAge = ConfigFactoryProvider.snapshot().maxAge();
+                writes.put("age", String.valueOf(minAge + random.nextInt(maxAge - minAge + 1)));
+            }
+            if (random.nextBoolean()) {
+                writes.put("gender", random.nextBoolean() ? Gender.MALE.getValue() : Gender.FEMALE.getValue());
+            }
+        }
+        return new PlannedCall(index, editor, RaceOperation.Type.UPDATE, writes);
+    }
+
+    private RaceOperation execute(PlannedCall call, int id) {
+        long invoke = System.nanoTime();
+        int status = RaceOperation.NO_STATUS;
+        boolean found = false;
+        Map<String, String> observed = Map.of();
+        try {
+            Response resp;
+            switch (call.type()) {
+                case UPDATE:
+                    resp = service.update(call.editor(), id, toPlayer(call.writes())).raw();
+                    break;
+                case DELETE:
+                    resp = service.delete(call.editor(), id).raw();
+                    break;
+                default:
+                    resp = service.getById(id).raw();
+            }
+            status = resp.statusCode();
+            found = Boolean.TRUE.equals(PlayerPresence.of(resp, id));
+            if (status == 200) {
+                observed = tracked(resp);
+            }
+        } catch (Exception e) {
+            // RestAssured rethrows I/O failures without declaring them; the outcome stays unknown
+            log.debug("Race operation {} failed", call, e);
+        }
+        return new RaceOperation(call.index(), call.editor(), call.type(), call.writes(), invoke, System.nanoTime(),
+                status, found, observed);
+    }
+
+    static RaceAnomaly classify(int round, int id, Map<String, String> initial,
+                                List<RaceOperation> history, long origin) {
+        RaceOperation finalRead = history.get(history.size() - 1);
+        List<RaceOperation> calls = history.subList(0, history.size() - 1);
+        String kind = "NOT_LINEARIZABLE";
+        String description = "no sequential order explains the responses and the final state";
+
+        for (RaceOperation delete : calls) {
+            if (delete.type() != RaceOperation.Type.DELETE || (delete.status() != 204 && delete.status() != 200)) {
+                continue;
+            }
+            for (RaceOperation later : history) {
+                boolean sawPlayer = later.type() == RaceOperation.Type.READ ? later.sawPlayer() : later.status() == 200;
+                if (later.type() != RaceOperation.Type.DELETE && sawPlayer && delete.precedes(later)) {
+                    kind = "GHOST_DELETE";
+                    description = "#" + later.index() + " " + later.type() + " saw the player after delete #"
+                            + delete.index() + " had completed";
+                }
+            }
+        }
+
+        if ("NOT_LINEARIZABLE".equals(kind) && finalRead.sawPlayer()) {
+            for (RaceOperation update : calls) {
+                if (update.type() != RaceOperation.Type.UPDATE || update.status() != 200) {
+                    continue;
+                }
+                for (Map.Entry<String, String> write : update.writes().entrySet()) {
+                    String field = write.getKey();
+                    String actual = finalRead.observed().get(field);
+                    if (actual == null || actual.equals(write.getValue()) || hasLaterWriter(update, field, calls)) {
+                        continue;
+                    }
+                    kind = "LOST_UPDATE";
+                    description = "#" + update.index() + " set " + field + "=" + write.getValue()
+                            + " and was the last writer of it, but the final read returned " + actual;
+                }
+            }
+        }
+
+        StringBuilder interleaving = new StringBuilder("initial " + initial + "\n");
+        history.stream()
+                .sorted(Comparator.comparingLong(RaceOperation::invokeNanos))
+                .forEach(op -> interleaving.append(op.describe(origin)).append('\n'));
+        return new RaceAnomaly(round, id, kind, description, interleaving.toString());
+    }
+
+    // another update of the field that may have been applied after this one
+    private static boolean hasLaterWriter(RaceOperation update, String field, List<RaceOperation> calls) {
+        for (RaceOperation other : calls) {
+            if (other != update && other.type() == RaceOperation.Type.UPDATE && other.writes().containsKey(field)
+                    && (other.isIndeterminate() || other.status() == 200) && !other.precedes(update)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Player toPlayer(Map<String, String> writes) {
+        Player player = new Player();
+        if (writes.containsKey("age")) {
+            player.setAge(Integer.valueOf(writes.get("age")));
+        }
+        player.setGender(writes.get("gender"));
+        player.setScreenName(writes.get("screenName"));
+        return player;
+    }
+
+    private static Map<String, String> tracked(Response resp) {
+        Map<String, String> fields = new TreeMap<>();
+        try {
+            JsonNode body = JacksonProvider.mapper().readTree(resp.asString());
+            if (body != null) {
+                for (String field : TRACKED_FIELDS) {
+                    if (body.hasNonNull(field)) {
+                        fields.put(field, body.get(field).asText());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Unreadable player body", e);
+        }
+        return fields;
+    }
+
+    private static Integer createdId(Response resp) {
+        if (resp.statusCode() != 200) {
+            return null;
+        }
+        JsonNode body;
+        try {
+            body = JacksonProvider.mapper().readTree(resp.asString());
+        } catch (IOException e) {
+            return null;
+        }
+        return body != null && body.hasNonNull("id") ? body.get("id").asInt() : null;
+    }
+
+    private static void quietly(Supplier<Response> call) {
+        try {
+            call.get();
+        } catch (Exception e) {
+            log.debug("Race cleanup call failed", e);
+        }
+    }
+
+    private record PlannedCall(int index, String editor, RaceOperation.Type type, Map<String, String> writes) {}
+}
@@ -0,0 +1,124 @@
+package spribe.task.support.race;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One call recorded in a race round: what was sent, when it was in flight and what came back.
+ * An operation that threw has no known outcome; it may or may not have taken effect and
+ * is treated as still in flight until the end of the round.
+ */
+public final class RaceOperation {
+
+    public enum Type { UPDATE, DELETE, READ }
+
+    static final int NO_STATUS = -1;
+
+    private final int index;
+    private final String editor;
+    private final Type type;
+    private final Map<String, String> writes;
+    private final long invokeNanos;
+    private final long completeNanos;
+    private final int status;
+    private final boolean found;
+    private final Map<String, String> observed;
+
+    RaceOperation(int index, String editor, Type type, Map<String, String> writes,
+                  long invokeNanos, long completeNanos, int status, boolean found, Map<String, String> observed) {
+        this.index = index;
+        this.editor = editor;
+        this.type = type;
+        this.writes = Collections.unmodifiableMap(new TreeMap<>(writes));
+        this.invokeNanos = invokeNanos;
+        this.completeNanos = status == NO_STATUS ? Long.MAX_VALUE : completeNanos;
+        this.status = status;
+        this.found = found;
+        this.observed = Collections.unmodifiableMap(new TreeMap<>(observed));
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public String editor() {
+        return editor;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Fields sent by an update.
+     */
+    public Map<String, String> writes() {
+        return writes;
+    }
+
+    public long invokeNanos() {
+        return invokeNanos;
+    }
+
+    /**
+     * Long.MAX_VALUE when the outcome is unknown.
+     */
+    public long completeNanos() {
+        return completeNanos;
+    }
+
+    /**
+     * HTTP status, or -1 if the call threw.
+     */
+    public int status() {
+        return status;
+    }
+
+    public boolean isIndeterminate() {
+        return status == NO_STATUS;
+    }
+
+    /**
+     * Whether a 200 carried the player itself; get answers a missing player with 200 and an empty body.
+     */
+    public boolean sawPlayer() {
+        return status == 200 && found;
+    }
+
+    /**
+     * Tracked fields of the returned player (update and read responses), empty if none.
+     */
+    public Map<String, String> observed() {
+        return observed;
+    }
+
+    boolean precedes(RaceOperation other) {
+        return completeNanos < other.invokeNanos;
+    }
+
+    /**
+     * One line of an interleaving, with times relative to the start of the round.
+     */
+    String describe(long originNanos) {
+        String end = isIndeterminate() ? "?" : String.format("%.1fms", millis(completeNanos - originNanos));
+        StringBuilder line = new StringBuilder(String.format("#%-2d %8.1f..%-10s %-20s %-6s", index,
+                millis(invokeNanos - originNanos), end, editor, type));
+        if (!writes.isEmpty()) {
+            line.append(' ').append(writes);
+        }
+        line.append(" -> ").append(isIndeterminate() ? "no response" : String.valueOf(status));
+        if (status == 200 && !found) {
+            line.append(" (no player)");
+        }
+        if (!observed.isEmpty()) {
+            line.append(' ').append(observed);
+        }
+        return line.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
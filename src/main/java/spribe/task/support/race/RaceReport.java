@@ -0,0 +1,25 @@
+package spribe.task.support.race;
+
+import java.util.List;
+
+/**
+ * Outcome of a {@link RaceFuzzer} run.
+ */
+public record RaceReport(long seed, int rounds, int operations, List<RaceAnomaly> anomalies) {
+
+    public RaceReport {
+        anomalies = List.copyOf(anomalies);
+    }
+
+    public boolean isClean() {
+        return anomalies.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("seed=%d, %d rounds, %d operations, %d anomalies%n",
+                seed, rounds, operations, anomalies.size()));
+        anomalies.forEach(anomaly -> sb.append('\n').append(anomaly).append('\n'));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,174 @@
+package spribe.task.support.race;
+
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.model.request.Player;
+import spribe.task.api.services.PlayersService;
+import spribe.task.support.metrics.Metrics;
+import spribe.task.util.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Launches many creates that share one unique value (login or screenName) at the same instant
+ * and records how many the backend accepted, plus the latency of accepted and rejected calls.
+ * Every thread prepares its request first and then waits on a barrier, so all calls are in flight together.
+ * Accepted players are deleted afterwards.
+ */
+public final class UniquenessStress {
+    private static final Logger log = LoggerFactory.getLogger(UniquenessStress.class);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    public enum Field {
+        LOGIN("login", Player::setLogin),
+        SCREEN_NAME("screenName", Player::setScreenName);
+
+        private final String key;
+        private final BiConsumer<Player, String> setter;
+
+        Field(String key, BiConsumer<Player, String> setter) {
+            this.key = key;
+            this.setter = setter;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+
+    private final PlayersService service;
+    private final int threads;
+
+    public UniquenessStress(PlayersService service, int threads) {
+        if (threads < 2) {
+            throw new IllegalArgumentException("threads must be at least 2: " + threads);
+        }
+        this.service = service;
+        this.threads = threads;
+    }
+
+    public Result run(Field field) throws InterruptedException {
+        String supervisor = PlayersService.defaultSupervisor();
+        String shared = "uq" + Long.toHexString(System.nanoTime());
+        Histogram winners = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        Histogram losers = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        List<Integer> acceptedIds = Collections.synchronizedList(new ArrayList<>());
+        Map<Integer, Integer> statuses = Collections.synchronizedMap(new TreeMap<>());
+
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(pool.submit(() -> {
+                Player player = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
+                field.setter.accept(player, shared);
+                barrier.await();
+
+                long start = System.nanoTime();
+                int status = -1;
+                try {
+                    Response resp = service.create(supervisor, player).raw();
+                    status = resp.statusCode();
+                    if (status == 200) {
+                        acceptedIds.add(resp.jsonPath().getInt("id"));
+                    }
+                } catch (Exception e) {
+                    // RestAssured rethrows I/O failures without declaring them
+                    log.debug("Create with shared {} failed", field.key(), e);
+                }
+                long nanos = System.nanoTime() - start;
+                (status == 200 ? winners : losers).recordValue(nanos);
+                Metrics.recordNanos("uniqueness." + field.key() + (status == 200 ? ".accepted" : ".rejected"), nanos);
+                statuses.merge(status, 1, Integer::sum);
+                return null;
+            }));
+        }
+        pool.shutdown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof BrokenBarrierException)) {
+                throw new IllegalStateException("Uniqueness stress call failed", e.getCause());
+            }
+        } finally {
+            // calls still at the barrier give up; creates already sent are waited for, so none is accepted
+            // after the cleanup below
+            barrier.reset();
+            awaitCalls(pool);
+            cleanUp(supervisor, acceptedIds);
+        }
+
+        Result result = new Result(field, shared, threads, acceptedIds, winners, losers, statuses);
+        log.info("Uniqueness stress: {}", result);
+        return result;
+    }
+
+    private static void awaitCalls(ExecutorService pool) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (pool.awaitTermination(1, TimeUnit.MINUTES)) {
+                    break;
+                }
+                log.warn("Uniqueness stress creates still running, waiting for them before cleanup");
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void cleanUp(String supervisor, List<Integer> acceptedIds) {
+        for (Integer id : acceptedIds) {
+            try {
+                service.delete(supervisor, id);
+            } catch (Exception e) {
+                log.debug("Cleanup of player {} failed", id, e);
+            }
+        }
+    }
+
+    /**
+     * @param statuses response status -> count, -1 for calls that threw
+     */
+    public record Result(Field field, String value, int attempts, List<Integer> acceptedIds,
+                         Histogram accepted, Histogram rejected, Map<Integer, Integer> statuses) {
+
+        public Result {
+            acceptedIds = List.copyOf(acceptedIds);
+            statuses = Collections.unmodifiableMap(new TreeMap<>(statuses));
+        }
+
+        public int acceptedCount() {
+            return acceptedIds.size();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s='%s': %d of %d creates accepted, statuses %s%n  accepted: %s%n  rejected: %s",
+                    field.key(), value, acceptedCount(), attempts, statuses,
+                    Metrics.describe(accepted), Metrics.describe(rejected));
+        }
+    }
+}
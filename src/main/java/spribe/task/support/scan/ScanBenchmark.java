@@ -0,0 +1,147 @@
+package spribe.task.support.scan;
+
+import spribe.task.api.core.cache.PlayerReadCache;
+import spribe.task.api.core.scan.ScanModel;
+import spribe.task.api.core.scan.ScanStrategy;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.model.response.PlayerResponse;
+import spribe.task.api.services.PlayersService;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.TestConfig;
+import spribe.task.util.TestDataGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Times both {@link ScanStrategy scan strategies} at growing dataset sizes and stores the fitted
+ * {@link ScanModel} for the environment, which AUTO scans then use to pick the faster one.
+ *
+ * For every size of scan.bench.sizes players are created (as the supervisor) until the dataset has that many,
+ * then each strategy scans it scan.bench.repeats times after one unmeasured scan; the median counts.
+ * Sizes below the current dataset are measured at the current size. All players created here are deleted
+ * at the end, including after a failure.
+ *
+ * Usage: ScanBenchmark [sizes] [repeats]
+ */
+public final class ScanBenchmark {
+
+    private final List<Integer> sizes;
+    private final int repeats;
+    private final int parallelism;
+
+    public ScanBenchmark(List<Integer> sizes, int repeats, int parallelism) {
+        if (sizes.isEmpty() || repeats < 1) {
+            throw new IllegalArgumentException("sizes and repeats are required: " + sizes + ", " + repeats);
+        }
+        this.sizes = sizes.stream().sorted().toList();
+        this.repeats = repeats;
+        this.parallelism = parallelism;
+    }
+
+    public static ScanBenchmark fromConfig(TestConfig config) {
+        return new ScanBenchmark(sizes(config.scanBenchSizes()), config.scanBenchRepeats(),
+                config.scanFanoutParallelism());
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        TestConfig config = ConfigFactoryProvider.config();
+        ScanBenchmark benchmark = args.length > 0
+                ? new ScanBenchmark(sizes(args[0]),
+                        args.length > 1 ? Integer.parseInt(args[1]) : config.scanBenchRepeats(),
+                        config.scanFanoutParallelism())
+                : fromConfig(config);
+        ScanReport report = benchmark.run();
+        String env = System.getProperty("env", "prod").toLowerCase();
+        Path file = ScanModel.file(config.perfDataDirectory(), env);
+        report.model().save(file);
+        // printed rather than logged: exec:java runs without an SLF4J provider
+        System.out.println("Scan benchmark against " + config.baseUrl() + ", " + report);
+        System.out.println("Scan model saved to " + file.toAbsolutePath());
+    }
+
+    static List<Integer> sizes(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    public ScanReport run() throws InterruptedException {
+        PlayersService service = new PlayersService(PlayerReadCache.disabled());
+        String supervisor = PlayersService.defaultSupervisor();
+        Queue<Integer> created = new ConcurrentLinkedQueue<>();
+        ExecutorService seeders = Executors.newFixedThreadPool(parallelism);
+        List<ScanReport.Row> rows = new ArrayList<>();
+        List<ScanModel.Sample> getAll = new ArrayList<>();
+        List<ScanModel.Sample> fanOut = new ArrayList<>();
+        try {
+            for (int size : sizes) {
+                List<PlayerResponse> players = service.scanAll(ScanStrategy.GET_ALL).toList();
+                seed(service, supervisor, size - players.size(), seeders, created);
+                // unmeasured: also lets the scanner learn the lowest id, as in a steady run
+                players = service.scanAll(ScanStrategy.GET_ALL).toList();
+                // the dataset does not change while it is measured, so the fan-out gets its upper end passed in
+                int highestId = players.isEmpty() ? -1 : players.get(players.size() - 1).getPlayerId();
+                service.scanAll(ScanStrategy.FAN_OUT, highestId).count();
+
+                long ids = players.isEmpty() ? 0 : highestId - players.get(0).getPlayerId() + 1L;
+                double getAllMs = median(service, ScanStrategy.GET_ALL, highestId);
+                double fanOutMs = median(service, ScanStrategy.FAN_OUT, highestId);
+                rows.add(new ScanReport.Row(players.size(), ids, getAllMs, fanOutMs));
+                getAll.add(new ScanModel.Sample(players.size(), getAllMs));
+                fanOut.add(new ScanModel.Sample(ids, fanOutMs));
+            }
+        } finally {
+            seeders.shutdown();
+            seeders.awaitTermination(1, TimeUnit.MINUTES);
+            created.forEach(id -> service.delete(supervisor, id));
+        }
+        ScanModel model = new ScanModel(ScanModel.Line.fit(getAll), ScanModel.Line.fit(fanOut), parallelism);
+        return new ScanReport(parallelism, rows, model);
+    }
+
+    private static void seed(PlayersService service, String supervisor, int count, ExecutorService seeders,
+                             Queue<Integer> created) throws InterruptedException {
+        List<Future<?>> pending = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            pending.add(seeders.submit(() -> {
+                PlayerResponse player = service.create(supervisor,
+                        TestDataGenerator.generateValidPlayer(Role.USER.getValue())).expectStatus(200).asBody();
+                created.add(player.getPlayerId());
+            }));
+        }
+        for (Future<?> f : pending) {
+            try {
+                f.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Could not seed the benchmark players", e.getCause());
+            }
+        }
+    }
+
+    private double median(PlayersService service, ScanStrategy strategy, int highestId) {
+        double[] millis = new double[repeats];
+        for (int i = 0; i < repeats; i++) {
+            long start = System.nanoTime();
+            try (Stream<PlayerResponse> players = service.scanAll(strategy, highestId)) {
+                players.forEach(p -> { });
+            }
+            millis[i] = (System.nanoTime() - start) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+        Arrays.sort(millis);
+        return repeats % 2 == 1 ? millis[repeats / 2] : (millis[repeats / 2 - 1] + millis[repeats / 2]) / 2;
+    }
+}
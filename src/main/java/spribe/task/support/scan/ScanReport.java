@@ -0,0 +1,45 @@
+package spribe.task.support.scan;
+
+import spribe.task.api.core.scan.ScanModel;
+
+import java.util.List;
+
+/**
+ * Outcome of a {@link ScanBenchmark} run: median scan time of both strategies per dataset size,
+ * and the cost model fitted from them.
+ */
+public record ScanReport(int parallelism, List<Row> rows, ScanModel model) {
+
+    public ScanReport {
+        rows = List.copyOf(rows);
+    }
+
+    /**
+     * @param ids  size of the id range the fan-out walked, deleted ids included
+     */
+    public record Row(long players, long ids, double getAllMs, double fanOutMs) {
+
+        public String winner() {
+            return fanOutMs < getAllMs ? "FAN_OUT" : "GET_ALL";
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("fan-out parallelism %d%n%n", parallelism));
+        sb.append(String.format("%8s %8s %11s %11s %8s%n", "players", "ids", "get/all", "fan-out", "faster"));
+        for (Row r : rows) {
+            sb.append(String.format("%8d %8d %9.1fms %9.1fms %8s%n", r.players(), r.ids(), r.getAllMs(),
+                    r.fanOutMs(), r.winner()));
+        }
+        sb.append(String.format("%nget/all  %.1fms + %.3fms per player%n", model.getAll().fixedMs(),
+                model.getAll().perItemMs()));
+        sb.append(String.format("fan-out  %.1fms + %.3fms per id%n", model.fanOut().fixedMs(),
+                model.fanOut().perItemMs()));
+        long crossover = model.crossover();
+        sb.append(crossover < 0
+                ? String.format("get/all stays faster on large datasets%n")
+                : String.format("fan-out is faster from %d players (on an id range without gaps)%n", crossover));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package spribe.task.support.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Longest-processing-time-first (LPT) bin packing of work items across a fixed number of workers.
+ * Items are sorted by descending estimated duration and each one goes to the least loaded worker,
+ * which keeps the makespan within 4/3 of the optimum.
+ */
+public final class MakespanPlanner {
+
+    private MakespanPlanner() {}
+
+    /**
+     * @param items    work items
+     * @param duration estimated duration of an item
+     * @param tieBreak stable key used to order items of equal duration, so plans are deterministic
+     * @param workers  number of workers (bins), at least 1
+     */
+    public static <T> Plan<T> plan(List<T> items, ToLongFunction<T> duration,
+                                   Function<T, String> tieBreak, int workers) {
+        int bins = Math.max(1, workers);
+        List<T> ordered = new ArrayList<>(items);
+        ordered.sort(Comparator.comparingLong(duration).reversed().thenComparing(tieBreak));
+
+        List<List<T>> assignment = new ArrayList<>(bins);
+        long[] loads = new long[bins];
+        for (int i = 0; i < bins; i++) {
+            assignment.add(new ArrayList<>());
+        }
+        for (T item : ordered) {
+            int target = 0;
+            for (int i = 1; i < bins; i++) {
+                if (loads[i] < loads[target]) {
+                    target = i;
+                }
+            }
+            assignment.get(target).add(item);
+            loads[target] += duration.applyAsLong(item);
+        }
+        return new Plan<>(ordered, assignment, loads);
+    }
+
+    public static final class Plan<T> {
+        private final List<T> order;
+        private final List<List<T>> bins;
+        private final long[] loads;
+
+        private Plan(List<T> order, List<List<T>> bins, long[] loads) {
+            this.order = Collections.unmodifiableList(order);
+            this.bins = Collections.unmodifiableList(bins);
+            this.loads = loads;
+        }
+
+        /**
+         * All items, longest first. Feeding a shared worker pool in this order reproduces the plan.
+         */
+        public List<T> order() {
+            return order;
+        }
+
+        public List<T> bin(int index) {
+            return Collections.unmodifiableList(bins.get(index));
+        }
+
+        public int binCount() {
+            return bins.size();
+        }
+
+        public long load(int index) {
+            return loads[index];
+        }
+
+        public long makespan() {
+            long max = 0;
+            for (long load : loads) {
+                max = Math.max(max, load);
+            }
+            return max;
+        }
+    }
+}
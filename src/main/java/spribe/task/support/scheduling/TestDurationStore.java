@@ -0,0 +1,144 @@
+package spribe.task.support.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Small local store of per-test durations (milliseconds) collected from previous runs.
+ * Keys are fully qualified test method names. The invocations of a method in one run (every row of
+ * a data provider) are added up first, and that run total is blended into the stored value with an
+ * exponentially weighted moving average so one slow run does not dominate.
+ * Only tests recorded by this process have a run total, so a shard can hand over just its own tests.
+ */
+public final class TestDurationStore {
+    private static final Logger log = LoggerFactory.getLogger(TestDurationStore.class);
+
+    public static final String FILE_NAME = "test-durations.properties";
+    static final long DEFAULT_DURATION_MS = 1000L;
+    private static final double NEW_SAMPLE_WEIGHT = 0.5;
+
+    private final Path file;
+    private final ConcurrentMap<String, Long> durations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> runTotals = new ConcurrentHashMap<>();
+
+    private TestDurationStore(Path file) {
+        this.file = file;
+    }
+
+    public static TestDurationStore load(Path file) {
+        TestDurationStore store = new TestDurationStore(file);
+        if (Files.exists(file)) {
+            Properties props = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                props.load(in);
+                for (String key : props.stringPropertyNames()) {
+                    try {
+                        store.durations.put(key, Long.parseLong(props.getProperty(key).trim()));
+                    } catch (NumberFormatException e) {
+                        log.warn("Ignoring invalid duration for {}: {}", key, props.getProperty(key));
+                    }
+                }
+                log.info("Loaded {} test durations from {}", store.durations.size(), file.toAbsolutePath());
+            } catch (IOException e) {
+                log.warn("Failed to read test durations from {}: {}", file, e.getMessage());
+            }
+        }
+        return store;
+    }
+
+    public OptionalLong get(String testName) {
+        Long value = durations.get(testName);
+        return value == null ? OptionalLong.empty() : OptionalLong.of(value);
+    }
+
+    /**
+     * Stored duration, or the mean of all known durations for a test that never ran before.
+     */
+    public long estimate(String testName) {
+        return get(testName).orElseGet(this::meanDuration);
+    }
+
+    /**
+     * Adds one invocation to the test's total for this run; the total is blended in when the store is saved.
+     */
+    public void record(String testName, long durationMs) {
+        runTotals.merge(testName, durationMs, Long::sum);
+    }
+
+    /**
+     * Replaces the stored duration as is, without blending, e.g. with a value another process already blended.
+     */
+    public void put(String testName, long durationMs) {
+        durations.put(testName, durationMs);
+    }
+
+    /**
+     * Stored durations, without the totals of the current run.
+     */
+    public Map<String, Long> snapshot() {
+        return new TreeMap<>(durations);
+    }
+
+    public int size() {
+        return durations.size();
+    }
+
+    public void save() {
+        saveTo(file);
+    }
+
+    public void saveTo(Path target) {
+        write(target, blended());
+    }
+
+    /**
+     * Saves only the tests recorded by this process, with their blended values.
+     */
+    public void saveRecordedTo(Path target) {
+        Map<String, Long> all = blended();
+        Map<String, Long> own = new TreeMap<>();
+        runTotals.keySet().forEach(name -> own.put(name, all.get(name)));
+        write(target, own);
+    }
+
+    // computed on every save, so saving twice does not blend a run in twice
+    private Map<String, Long> blended() {
+        Map<String, Long> values = new TreeMap<>(durations);
+        runTotals.forEach((name, total) -> values.merge(name, total,
+                (old, sample) -> Math.round(old * (1 - NEW_SAMPLE_WEIGHT) + sample * NEW_SAMPLE_WEIGHT)));
+        return values;
+    }
+
+    private static void write(Path target, Map<String, Long> values) {
+        Properties props = new Properties();
+        values.forEach((k, v) -> props.setProperty(k, String.valueOf(v)));
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(target)) {
+                props.store(out, "Test durations in milliseconds");
+            }
+            log.info("Saved {} test durations to {}", values.size(), target.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Failed to save test durations to {}: {}", target, e.getMessage());
+        }
+    }
+
+    private long meanDuration() {
+        return (long) durations.values().stream().mapToLong(Long::longValue).average().orElse(DEFAULT_DURATION_MS);
+    }
+}
@@ -0,0 +1,167 @@
+package spribe.task.support.sharding;
+
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.support.metrics.HistogramFiles;
+import spribe.task.support.metrics.Metrics;
+import spribe.task.support.scheduling.TestDurationStore;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Combines the allure-results of all shards into a single results directory.
+ * Result and attachment files are copied as-is (their names are unique UUIDs),
+ * latency histograms are added together, test durations are merged and
+ * environment.properties is unified, with metric lines recomputed from the merged histograms.
+ *
+ * Every shard started from the same perf.data.directory duration store and hands over only the tests it ran,
+ * already blended once; those values replace the stored ones as they are, so the shard order does not matter.
+ * The merged store is written to perf.data.directory for the next scheduling and to the output directory.
+ *
+ * Usage: ShardResultsMerger {shardsDirectory} {outputDirectory}
+ */
+public final class ShardResultsMerger {
+    private static final Logger log = LoggerFactory.getLogger(ShardResultsMerger.class);
+
+    static final String SHARD_DIR_PREFIX = "shard-";
+    private static final String ENVIRONMENT_FILE = "environment.properties";
+    private static final String CATEGORIES_FILE = "categories.json";
+    private static final String METRIC_PREFIX = "Metric.";
+
+    private ShardResultsMerger() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: ShardResultsMerger <shardsDirectory> <outputDirectory>");
+        }
+        merge(Path.of(args[0]), Path.of(args[1]), Path.of(ConfigFactoryProvider.config().perfDataDirectory()));
+    }
+
+    public static void merge(Path shardsDir, Path outputDir, Path perfDataDir) throws IOException {
+        List<Path> shards = shardDirectories(shardsDir);
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("No " + SHARD_DIR_PREFIX + "* directories found in " + shardsDir.toAbsolutePath());
+        }
+        Files.createDirectories(outputDir);
+
+        Map<String, Histogram> histograms = new TreeMap<>();
+        Map<String, List<String>> environment = new LinkedHashMap<>();
+        TestDurationStore durations = TestDurationStore.load(perfDataDir.resolve(TestDurationStore.FILE_NAME));
+        int copied = 0;
+
+        for (Path shard : shards) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(shard, Files::isRegularFile)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    switch (name) {
+                        case HistogramFiles.FILE_NAME:
+                            HistogramFiles.mergeInto(histograms, HistogramFiles.read(file));
+                            break;
+                        case ENVIRONMENT_FILE:
+                            readEnvironment(file).forEach((k, v) ->
+                                    environment.computeIfAbsent(k, key -> new ArrayList<>()).add(v));
+                            break;
+                        case TestDurationStore.FILE_NAME:
+                            TestDurationStore.load(file).snapshot().forEach(durations::put);
+                            break;
+                        default:
+                            Files.copy(file, outputDir.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+                            copied++;
+                    }
+                }
+            }
+        }
+
+        Path categories = shardsDir.resolve(CATEGORIES_FILE);
+        if (Files.exists(categories)) {
+            Files.copy(categories, outputDir.resolve(CATEGORIES_FILE), StandardCopyOption.REPLACE_EXISTING);
+        }
+        HistogramFiles.write(outputDir.resolve(HistogramFiles.FILE_NAME), histograms);
+        durations.save();
+        durations.saveTo(outputDir.resolve(TestDurationStore.FILE_NAME));
+        writeEnvironment(outputDir.resolve(ENVIRONMENT_FILE), environment, histograms, shards.size());
+
+        log.info("Merged {} shards ({} files) into {}", shards.size(), copied, outputDir.toAbsolutePath());
+    }
+
+    private static List<Path> shardDirectories(Path shardsDir) throws IOException {
+        if (!Files.isDirectory(shardsDir)) {
+            return List.of();
+        }
+        try (Stream<Path> dirs = Files.list(shardsDir)) {
+            List<Path> shards = new ArrayList<>();
+            dirs.filter(Files::isDirectory)
+                    .filter(p -> p.getFileName().toString().startsWith(SHARD_DIR_PREFIX))
+                    .sorted()
+                    .forEach(shards::add);
+            return shards;
+        }
+    }
+
+    /**
+     * environment.properties is written line by line with keys that may contain spaces
+     * ("Base URL"), so it is split on the first '=' rather than loaded as java.util.Properties.
+     */
+    private static Map<String, String> readEnvironment(Path file) throws IOException {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file)) {
+            int eq = line.indexOf('=');
+            if (line.startsWith("#") || eq <= 0) {
+                continue;
+            }
+            values.put(line.substring(0, eq), line.substring(eq + 1));
+        }
+        return values;
+    }
+
+    private static void writeEnvironment(Path file, Map<String, List<String>> environment,
+                                         Map<String, Histogram> histograms, int shardCount) throws IOException {
+        Map<String, String> merged = new TreeMap<>();
+        environment.forEach((key, values) -> {
+            if (key.startsWith(METRIC_PREFIX)) {
+                String metric = key.substring(METRIC_PREFIX.length());
+                if (!histograms.containsKey(metric)) {
+                    merged.put(key, sumOrJoin(values));
+                }
+            } else {
+                merged.put(key, String.join(", ", new LinkedHashSet<>(values)));
+            }
+        });
+        histograms.forEach((name, h) -> merged.put(METRIC_PREFIX + name, Metrics.describe(h)));
+        merged.put("Shards", String.valueOf(shardCount));
+
+        try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(file))) {
+            pw.println("# Allure Environment (merged from " + shardCount + " shards)");
+            merged.forEach((k, v) -> pw.println(k + "=" + v));
+        }
+    }
+
+    /**
+     * Counters are summed across shards; anything non-numeric is listed.
+     */
+    private static String sumOrJoin(List<String> values) {
+        long sum = 0;
+        for (String value : values) {
+            try {
+                sum += Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return String.join(", ", values);
+            }
+        }
+        return String.valueOf(sum);
+    }
+}
@@ -0,0 +1,61 @@
+package spribe.task.support.sharding;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shard selected with the 'shard' system property, e.g. -Dshard=2/5 (second of five shards, 1-based).
+ */
+public final class ShardSpec {
+
+    private static final Pattern FORMAT = Pattern.compile("^\\s*(\\d+)\\s*/\\s*(\\d+)\\s*$");
+
+    private final int index;
+    private final int total;
+
+    private ShardSpec(int index, int total) {
+        this.index = index;
+        this.total = total;
+    }
+
+    /**
+     * Returns the shard of the current process, or empty when the suite is not sharded.
+     */
+    public static Optional<ShardSpec> current() {
+        String value = System.getProperty("shard");
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(parse(value));
+    }
+
+    public static ShardSpec parse(String value) {
+        Matcher m = FORMAT.matcher(value);
+        if (!m.matches()) {
+            throw new IllegalArgumentException("Invalid shard '" + value + "', expected {index}/{total}, e.g. 2/5");
+        }
+        int index = Integer.parseInt(m.group(1));
+        int total = Integer.parseInt(m.group(2));
+        if (total < 1 || index < 1 || index > total) {
+            throw new IllegalArgumentException("Invalid shard '" + value + "', index must be within 1.." + total);
+        }
+        return new ShardSpec(index, total);
+    }
+
+    /**
+     * 1-based shard index.
+     */
+    public int index() {
+        return index;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+}
@@ -0,0 +1,143 @@
+package spribe.task.support.soak;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares every closed soak window with a baseline taken from the start of the run.
+ * Window 0 is treated as warm-up; windows 1..baselineWindows form the baseline.
+ * Each condition alerts once when it starts holding and again only after it has cleared.
+ */
+final class DriftDetector {
+
+    // p99 of fewer samples is too noisy to compare
+    private static final long MIN_SAMPLES = 20;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+    // heap after GC moves in steps, a trend needs a long enough series before it means anything
+    private static final int MIN_TREND_WINDOWS = 10;
+    private static final long MIN_TREND_SPAN_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private final SoakSettings settings;
+    private final Set<String> active = new HashSet<>();
+    private Map<String, Histogram> baselineLatency;
+    private double baselineThreads;
+
+    DriftDetector(SoakSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * @param windows all windows closed so far, the last one being the window to check
+     */
+    List<SoakAlert> check(List<SoakWindow> windows) {
+        SoakWindow current = windows.get(windows.size() - 1);
+        List<SoakAlert> alerts = new ArrayList<>();
+
+        double errorPercent = current.errorRate() * 100.0;
+        raise(alerts, current, "ERROR_RATE", "all", errorPercent > settings.errorRatePercent(),
+                String.format("%.2f%% of %d requests failed (threshold %.2f%%)",
+                        errorPercent, current.totalRequests(), settings.errorRatePercent()));
+        raise(alerts, current, "STALE_READ", "all", current.staleReads() > 0,
+                current.staleReads() + " deleted players were still returned by get");
+
+        // per-response attachments would pile up in the one soak test result, the count must stay flat
+        if (windows.size() > 1) {
+            long before = windows.get(windows.size() - 2).attachments();
+            raise(alerts, current, "ATTACHMENT_GROWTH", "all", before >= 0 && current.attachments() > before,
+                    String.format("Allure attachments of the soak test went from %d to %d", before,
+                            current.attachments()));
+        }
+
+        int baselineEnd = settings.baselineWindows() + 1;
+        if (windows.size() == baselineEnd) {
+            buildBaseline(windows.subList(1, baselineEnd));
+        }
+        if (baselineLatency == null || current.index() < baselineEnd) {
+            return alerts;
+        }
+
+        current.latency().forEach((op, h) -> {
+            Histogram baseline = baselineLatency.get(op);
+            if (baseline == null || baseline.getTotalCount() < MIN_SAMPLES || h.getTotalCount() < MIN_SAMPLES) {
+                return;
+            }
+            double limit = baseline.getValueAtPercentile(99) * (1 + settings.latencyDriftPercent() / 100.0);
+            long p99 = h.getValueAtPercentile(99);
+            raise(alerts, current, "LATENCY_DRIFT", op, p99 > limit,
+                    String.format("%s p99 %.1fms vs baseline %.1fms (+%.0f%% allowed)", op, millis(p99),
+                            millis(baseline.getValueAtPercentile(99)), settings.latencyDriftPercent()));
+        });
+
+        double threadGrowth = current.jvm().threads() - baselineThreads;
+        raise(alerts, current, "THREAD_GROWTH", "all", threadGrowth > settings.threadGrowth(),
+                String.format("%d live threads vs baseline %.0f", current.jvm().threads(), baselineThreads));
+
+        List<SoakWindow> trend = windows.subList(1, windows.size());
+        if (trend.size() < MIN_TREND_WINDOWS
+                || current.endEpochMs() - trend.get(0).startEpochMs() < MIN_TREND_SPAN_MS) {
+            return alerts;
+        }
+        double heapSlope = heapAfterGcSlopeMbPerHour(trend);
+        raise(alerts, current, "HEAP_GROWTH", "all", heapSlope > settings.heapGrowthMbPerHour(),
+                String.format("heap after GC grows %.1f MB/h (threshold %.1f MB/h), now %.1f MB", heapSlope,
+                        settings.heapGrowthMbPerHour(), current.jvm().heapAfterGcBytes() / BYTES_PER_MB));
+        return alerts;
+    }
+
+    private void buildBaseline(List<SoakWindow> windows) {
+        Map<String, Histogram> merged = new TreeMap<>();
+        double threads = 0;
+        for (SoakWindow window : windows) {
+            window.latency().forEach((op, h) -> merged.merge(op, h.copy(), (a, b) -> {
+                a.add(b);
+                return a;
+            }));
+            threads += window.jvm().threads();
+        }
+        baselineLatency = merged;
+        baselineThreads = threads / windows.size();
+    }
+
+    private void raise(List<SoakAlert> alerts, SoakWindow window, String kind, String subject,
+                       boolean condition, String message) {
+        String key = kind + ":" + subject;
+        if (!condition) {
+            active.remove(key);
+        } else if (active.add(key)) {
+            alerts.add(new SoakAlert(window.index(), kind, message));
+        }
+    }
+
+    /**
+     * Least-squares slope of heap-after-GC over time.
+     */
+    static double heapAfterGcSlopeMbPerHour(List<SoakWindow> windows) {
+        int n = windows.size();
+        if (n < 3) {
+            return 0.0;
+        }
+        double t0 = windows.get(0).endEpochMs();
+        double sumX = 0, sumY = 0, sumXY = 0, sumXX = 0;
+        for (SoakWindow w : windows) {
+            double x = (w.endEpochMs() - t0) / (double) TimeUnit.HOURS.toMillis(1);
+            double y = w.jvm().heapAfterGcBytes() / BYTES_PER_MB;
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+        }
+        double denominator = n * sumXX - sumX * sumX;
+        return denominator == 0 ? 0.0 : (n * sumXY - sumX * sumY) / denominator;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
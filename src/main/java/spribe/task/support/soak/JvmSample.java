@@ -0,0 +1,37 @@
+package spribe.task.support.soak;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Point-in-time view of the client JVM: heap, GC activity and live threads.
+ * Heap after GC (sum over heap pools of the usage left by their last collection)
+ * is the leak signal; plain heap usage mostly reflects allocation rate.
+ */
+public record JvmSample(long heapUsedBytes, long heapAfterGcBytes, long gcCount, long gcTimeMs, int threads) {
+
+    public static JvmSample take() {
+        long afterGc = 0L;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && usage != null) {
+                afterGc += usage.getUsed();
+            }
+        }
+        long gcCount = 0L;
+        long gcTime = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0L, gc.getCollectionCount());
+            gcTime += Math.max(0L, gc.getCollectionTime());
+        }
+        return new JvmSample(
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                afterGc,
+                gcCount,
+                gcTime,
+                ManagementFactory.getThreadMXBean().getThreadCount());
+    }
+}
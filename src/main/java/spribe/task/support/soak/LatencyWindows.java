@@ -0,0 +1,69 @@
+package spribe.task.support.soak;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency and error counts, cut into consecutive windows.
+ * Only successful calls go into the latency histograms, so fast failures during an outage do not
+ * pull the percentiles down; failed calls are counted as errors instead.
+ * Recording is wait-free (HdrHistogram {@link Recorder}); {@link #roll()} swaps in fresh interval
+ * histograms so each window only contains its own samples.
+ */
+final class LatencyWindows {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ConcurrentMap<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> requests = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder staleReads = new LongAdder();
+    private final AtomicLong windowStart = new AtomicLong(System.currentTimeMillis());
+    private JvmSample previousJvm = JvmSample.take();
+    private int index;
+
+    void record(String operation, long nanos, boolean error) {
+        Recorder recorder = recorders.computeIfAbsent(operation, op -> new Recorder(SIGNIFICANT_DIGITS));
+        requests.computeIfAbsent(operation, op -> new LongAdder()).increment();
+        if (error) {
+            errors.computeIfAbsent(operation, op -> new LongAdder()).increment();
+        } else {
+            recorder.recordValue(Math.max(0L, nanos));
+        }
+    }
+
+    void staleRead() {
+        staleReads.increment();
+    }
+
+    /**
+     * Closes the current window and starts the next one. Called from a single scheduler thread.
+     *
+     * @param attachments  Allure attachment count of the soak test at this point, -1 when unknown
+     */
+    synchronized SoakWindow roll(long attachments) {
+        long end = System.currentTimeMillis();
+        long start = windowStart.getAndSet(end);
+
+        Map<String, Histogram> latency = new TreeMap<>();
+        recorders.forEach((op, recorder) -> latency.put(op, recorder.getIntervalHistogram()));
+        Map<String, Long> requestCounts = new TreeMap<>();
+        requests.forEach((op, count) -> requestCounts.put(op, count.sumThenReset()));
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((op, count) -> errorCounts.put(op, count.sumThenReset()));
+
+        JvmSample jvm = JvmSample.take();
+        SoakWindow window = new SoakWindow(index++, start, end, latency, requestCounts, errorCounts,
+                staleReads.sumThenReset(), jvm,
+                jvm.gcCount() - previousJvm.gcCount(), jvm.gcTimeMs() - previousJvm.gcTimeMs(), attachments);
+        previousJvm = jvm;
+        return window;
+    }
+}
@@ -0,0 +1,15 @@
+package spribe.task.support.soak;
+
+/**
+ * A threshold crossed during a soak run. Raised once when the condition starts holding.
+ *
+ * @param window index of the window in which the condition was first seen
+ * @param kind   LATENCY_DRIFT, ERROR_RATE, STALE_READ, HEAP_GROWTH, THREAD_GROWTH or ATTACHMENT_GROWTH
+ */
+public record SoakAlert(int window, String kind, String message) {
+
+    @Override
+    public String toString() {
+        return "[window " + window + "] " + kind + ": " + message;
+    }
+}
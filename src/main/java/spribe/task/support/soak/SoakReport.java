@@ -0,0 +1,118 @@
+package spribe.task.support.soak;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a soak run: the closed windows and the alerts raised while running.
+ */
+public final class SoakReport {
+
+    private final SoakSettings settings;
+    private final List<SoakWindow> windows;
+    private final List<SoakAlert> alerts;
+
+    SoakReport(SoakSettings settings, List<SoakWindow> windows, List<SoakAlert> alerts) {
+        this.settings = settings;
+        this.windows = windows;
+        this.alerts = alerts;
+    }
+
+    public List<SoakWindow> windows() {
+        return windows;
+    }
+
+    public List<SoakAlert> alerts() {
+        return alerts;
+    }
+
+    public boolean hasAlerts() {
+        return !alerts.isEmpty();
+    }
+
+    public String summary() {
+        long requests = windows.stream().mapToLong(SoakWindow::totalRequests).sum();
+        long errors = windows.stream().mapToLong(SoakWindow::totalErrors).sum();
+        return String.format("%d windows of %s, %d requests, %d errors, %d alerts",
+                windows.size(), settings.window(), requests, errors, alerts.size());
+    }
+
+    /**
+     * One row per window: traffic, errors, p50/p99 per operation and client JVM state.
+     */
+    public String toCsv() {
+        TreeSet<String> operations = new TreeSet<>();
+        windows.forEach(w -> operations.addAll(w.latency().keySet()));
+
+        StringBuilder csv = new StringBuilder("window,start,requests,errors,staleReads,errorRate");
+        operations.forEach(op -> csv.append(',').append(op).append(".p50ms,").append(op).append(".p99ms"));
+        csv.append(",heapUsedMb,heapAfterGcMb,gcCount,gcTimeMs,threads,attachments\n");
+
+        for (SoakWindow w : windows) {
+            csv.append(w.index()).append(',').append(w.startEpochMs()).append(',')
+                    .append(w.totalRequests()).append(',').append(w.totalErrors()).append(',')
+                    .append(w.staleReads()).append(',')
+                    .append(String.format(Locale.ROOT, "%.4f", w.errorRate()));
+            for (String op : operations) {
+                Histogram h = w.latency().get(op);
+                csv.append(',').append(h == null ? "" : millis(h.getValueAtPercentile(50)))
+                        .append(',').append(h == null ? "" : millis(h.getValueAtPercentile(99)));
+            }
+            csv.append(',').append(w.jvm().heapUsedBytes() >> 20)
+                    .append(',').append(w.jvm().heapAfterGcBytes() >> 20)
+                    .append(',').append(w.gcCount())
+                    .append(',').append(w.gcTimeMs())
+                    .append(',').append(w.jvm().threads())
+                    .append(',').append(w.attachments())
+                    .append('\n');
+        }
+        return csv.toString();
+    }
+
+    public String alertsText() {
+        if (alerts.isEmpty()) {
+            return "No alerts";
+        }
+        StringBuilder text = new StringBuilder();
+        alerts.forEach(alert -> text.append(alert).append('\n'));
+        return text.toString();
+    }
+
+    /**
+     * Writes every window as tagged interval histograms in the HdrHistogram log format,
+     * which HistogramLogProcessor and HdrHistogram plotting tools read directly.
+     */
+    public void writeHistogramLog(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file); PrintStream ps = new PrintStream(out)) {
+            HistogramLogWriter writer = new HistogramLogWriter(ps);
+            long startMs = windows.isEmpty() ? 0L : windows.get(0).startEpochMs();
+            writer.outputStartTime(startMs);
+            writer.setBaseTime(startMs);
+            writer.outputLegend();
+            for (SoakWindow w : windows) {
+                for (Map.Entry<String, Histogram> entry : w.latency().entrySet()) {
+                    Histogram h = entry.getValue().copy();
+                    h.setTag(entry.getKey());
+                    h.setStartTimeStamp(w.startEpochMs());
+                    h.setEndTimeStamp(w.endEpochMs());
+                    writer.outputIntervalHistogram(h);
+                }
+            }
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
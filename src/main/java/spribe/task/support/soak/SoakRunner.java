@@ -0,0 +1,224 @@
+package spribe.task.support.soak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.ExecutableItem;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.core.Endpoint;
+import spribe.task.api.core.JacksonProvider;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.services.PlayersService;
+import spribe.task.support.metrics.Metrics;
+import spribe.task.util.TestDataGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a create / get / update / delete / get-after-delete mix running against player-controller
+ * for the configured duration and cuts the observations into rolling windows.
+ * Every closed window is checked by a {@link DriftDetector}; alerts are logged as they happen
+ * and returned in the {@link SoakReport}.
+ *
+ * Status checks here only count errors instead of asserting, so a failing call never stops the run.
+ * A worker whose create fails pauses before its next cycle, starting at {@link SoakSettings#failureBackoff()}
+ * and doubling up to {@link SoakSettings#maxFailureBackoff()}, so an outage is not hammered by every worker.
+ */
+public final class SoakRunner {
+    private static final Logger log = LoggerFactory.getLogger(SoakRunner.class);
+
+    private final PlayersService service;
+    private final SoakSettings settings;
+    private final LatencyWindows windows = new LatencyWindows();
+    private final DriftDetector detector;
+    private final List<SoakWindow> closed = Collections.synchronizedList(new ArrayList<>());
+    private final List<SoakAlert> alerts = Collections.synchronizedList(new ArrayList<>());
+    // Allure test result the workers report into: they inherit the test thread's Allure context
+    private volatile String testCase;
+
+    public SoakRunner(PlayersService service, SoakSettings settings) {
+        this.service = service;
+        this.settings = settings;
+        this.detector = new DriftDetector(settings);
+    }
+
+    public SoakReport run() throws InterruptedException {
+        long deadline = System.nanoTime() + settings.duration().toNanos();
+        testCase = Allure.getLifecycle().getCurrentTestCase().orElse(null);
+        log.info("Soak run started: {} with {} workers, {} windows", settings.duration(), settings.workers(),
+                settings.window());
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.workers(), daemon("soak-worker"));
+        ScheduledExecutorService roller = Executors.newSingleThreadScheduledExecutor(daemon("soak-window"));
+        long windowMs = settings.window().toMillis();
+        roller.scheduleAtFixedRate(this::closeWindow, windowMs, windowMs, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < settings.workers(); i++) {
+            workers.submit(() -> {
+                try {
+                    long backoffMs = 0;
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        if (cycle()) {
+                            backoffMs = 0;
+                            continue;
+                        }
+                        backoffMs = nextBackoffMs(backoffMs);
+                        Metrics.increment("soak.backoffs");
+                        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                        Thread.sleep(Math.max(0L, Math.min(backoffMs, remainingMs)));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable t) {
+                    log.error("Soak worker stopped", t);
+                    throw t;
+                }
+            });
+        }
+        workers.shutdown();
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (!workers.awaitTermination(remainingMs + windowMs, TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+        }
+        roller.shutdown();
+        roller.awaitTermination(windowMs, TimeUnit.MILLISECONDS);
+        closeWindow();
+
+        SoakReport report = new SoakReport(settings, List.copyOf(closed), List.copyOf(alerts));
+        log.info("Soak run finished: {}", report.summary());
+        return report;
+    }
+
+    /**
+     * One create / get / update / delete / get-after-delete round.
+     *
+     * @return false when the create failed and the worker should back off
+     */
+    private boolean cycle() {
+        String supervisor = PlayersService.defaultSupervisor();
+        Integer id = call(Endpoint.CREATE,
+                () -> service.create(supervisor, TestDataGenerator.generateValidPlayer(Role.USER.getValue())).raw(),
+                resp -> resp.statusCode() == 200 ? resp.jsonPath().getInt("id") : null);
+        if (id == null) {
+            return false;
+        }
+        call(Endpoint.GET, () -> service.getById(id).raw(), resp -> expect(resp, 200));
+        call(Endpoint.UPDATE,
+                () -> service.update(supervisor, id, TestDataGenerator.generateUpdatePlayerWithNewScreenName()).raw(),
+                resp -> expect(resp, 200));
+        if (call(Endpoint.DELETE, () -> service.delete(supervisor, id).raw(), resp -> expect(resp, 204)) == null) {
+            return true;
+        }
+        // any status is fine here, only a returned player is an error
+        Response afterDelete = call(Endpoint.GET, () -> service.getById(id).raw(), resp -> resp);
+        if (afterDelete != null && returnsPlayer(afterDelete, id)) {
+            windows.staleRead();
+            Metrics.increment("soak.staleReads");
+            log.warn("Player {} is still returned by get after delete", id);
+        }
+        return true;
+    }
+
+    private long nextBackoffMs(long currentMs) {
+        long initialMs = settings.failureBackoff().toMillis();
+        long next = currentMs == 0 ? initialMs : currentMs * 2;
+        return Math.min(next, settings.maxFailureBackoff().toMillis());
+    }
+
+    /**
+     * Times one request; it counts as an error if it throws or the check returns null.
+     * Errors are counted apart from the latency of successful calls.
+     */
+    private <T> T call(Endpoint endpoint, Supplier<Response> request, Function<Response, T> check) {
+        long start = System.nanoTime();
+        T result = null;
+        try {
+            result = check.apply(request.get());
+        } catch (Exception e) {
+            // RestAssured rethrows I/O failures (e.g. SocketException) without declaring them
+            Metrics.increment("soak.exceptions");
+            log.debug("Soak {} call failed", endpoint, e);
+        }
+        windows.record(endpoint.key(), System.nanoTime() - start, result == null);
+        return result;
+    }
+
+    private static Response expect(Response resp, int status) {
+        return resp.statusCode() == status ? resp : null;
+    }
+
+    private void closeWindow() {
+        SoakWindow window = windows.roll(attachments());
+        if (window.totalRequests() == 0 && !closed.isEmpty()) {
+            return;
+        }
+        List<SoakAlert> raised;
+        synchronized (closed) {
+            closed.add(window);
+            raised = detector.check(new ArrayList<>(closed));
+        }
+        alerts.addAll(raised);
+        raised.forEach(alert -> {
+            Metrics.increment("soak.alerts");
+            log.warn("Soak alert {}", alert);
+        });
+        log.info("Soak window {}: {} requests, {} errors, heap after GC {} MB, {} threads", window.index(),
+                window.totalRequests(), window.totalErrors(), window.jvm().heapAfterGcBytes() >> 20,
+                window.jvm().threads());
+    }
+
+    /**
+     * Attachments of the soak test result and its steps, -1 when the run is not inside an Allure test.
+     */
+    private long attachments() {
+        String uuid = testCase;
+        if (uuid == null) {
+            return -1;
+        }
+        AtomicLong count = new AtomicLong(-1);
+        Allure.getLifecycle().updateTestCase(uuid, result -> count.set(countAttachments(result)));
+        return count.get();
+    }
+
+    private static long countAttachments(ExecutableItem item) {
+        long count = item.getAttachments() == null ? 0 : item.getAttachments().size();
+        if (item.getSteps() != null) {
+            for (ExecutableItem step : List.copyOf(item.getSteps())) {
+                count += countAttachments(step);
+            }
+        }
+        return count;
+    }
+
+    private static boolean returnsPlayer(Response resp, int id) {
+        if (resp.statusCode() != 200) {
+            return false;
+        }
+        try {
+            JsonNode body = JacksonProvider.mapper().readTree(resp.asString());
+            return body != null && body.path("id").asInt(Integer.MIN_VALUE) == id;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
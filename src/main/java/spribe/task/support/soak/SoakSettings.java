@@ -0,0 +1,58 @@
+package spribe.task.support.soak;
+
+import spribe.task.common.env.TestConfig;
+
+import java.time.Duration;
+
+/**
+ * Soak run parameters, see the soak.* keys of TestConfig.
+ *
+ * @param failureBackoff      pause of a worker after a failed create, doubled on each further failure
+ * @param maxFailureBackoff   cap of that pause
+ * @param baselineWindows     windows after the first (warm-up) one that later windows are compared against
+ * @param latencyDriftPercent allowed p99 growth over the baseline
+ * @param errorRatePercent    allowed share of failed requests per window
+ * @param heapGrowthMbPerHour allowed heap-after-GC growth trend
+ * @param threadGrowth        allowed growth of live client threads over the baseline
+ */
+public record SoakSettings(Duration duration,
+                           Duration window,
+                           int workers,
+                           Duration failureBackoff,
+                           Duration maxFailureBackoff,
+                           int baselineWindows,
+                           double latencyDriftPercent,
+                           double errorRatePercent,
+                           double heapGrowthMbPerHour,
+                           int threadGrowth) {
+
+    public SoakSettings {
+        if (window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("Soak window must be positive: " + window);
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("Soak workers must be at least 1: " + workers);
+        }
+        if (failureBackoff.isNegative() || maxFailureBackoff.compareTo(failureBackoff) < 0) {
+            throw new IllegalArgumentException("Soak failure backoff must be between 0 and its maximum: "
+                    + failureBackoff + ", " + maxFailureBackoff);
+        }
+        if (baselineWindows < 1) {
+            throw new IllegalArgumentException("Soak baseline windows must be at least 1: " + baselineWindows);
+        }
+    }
+
+    public static SoakSettings fromConfig(TestConfig config) {
+        return new SoakSettings(
+                Duration.ofMinutes(config.soakDurationMinutes()),
+                Duration.ofSeconds(config.soakWindowSeconds()),
+                config.soakWorkers(),
+                Duration.ofMillis(config.soakFailureBackoffMs()),
+                Duration.ofMillis(config.soakFailureBackoffMaxMs()),
+                config.soakBaselineWindows(),
+                config.soakLatencyDriftPercent(),
+                config.soakErrorRatePercent(),
+                config.soakHeapGrowthMbPerHour(),
+                config.soakThreadGrowth());
+    }
+}
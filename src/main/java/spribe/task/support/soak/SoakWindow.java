@@ -0,0 +1,43 @@
+package spribe.task.support.soak;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * Everything observed during one rolling window of a soak run.
+ *
+ * @param latency        per-operation latency (nanoseconds) of the successful calls of this window only
+ * @param requests       per-operation request count
+ * @param errors         per-operation count of unexpected statuses and exceptions
+ * @param staleReads     players still returned by get after a successful delete
+ * @param jvm            client JVM state at the end of the window
+ * @param gcCount        collections during the window
+ * @param gcTimeMs       collection time during the window
+ * @param attachments    Allure attachments held by the soak test result at the end of the window, -1 outside a test
+ */
+public record SoakWindow(int index,
+                         long startEpochMs,
+                         long endEpochMs,
+                         Map<String, Histogram> latency,
+                         Map<String, Long> requests,
+                         Map<String, Long> errors,
+                         long staleReads,
+                         JvmSample jvm,
+                         long gcCount,
+                         long gcTimeMs,
+                         long attachments) {
+
+    public long totalRequests() {
+        return requests.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum() + staleReads;
+    }
+
+    public double errorRate() {
+        long total = totalRequests();
+        return total == 0 ? 0.0 : totalErrors() / (double) total;
+    }
+}
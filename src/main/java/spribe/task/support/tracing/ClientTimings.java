@@ -0,0 +1,30 @@
+package spribe.task.support.tracing;
+
+/**
+ * Phase timestamps (System.nanoTime) of the request being sent from the current thread,
+ * filled in by {@link TimedHttpClientFactory}. A phase that did not happen stays 0.
+ */
+final class ClientTimings {
+
+    private static final ThreadLocal<ClientTimings> CURRENT = new ThreadLocal<>();
+
+    final long start = System.nanoTime();
+    long sendStart;
+    long sendEnd;
+    long headersReceived;
+    long bodyReceived;
+
+    static ClientTimings begin() {
+        ClientTimings timings = new ClientTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static ClientTimings current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,121 @@
+package spribe.task.support.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import spribe.task.api.core.JacksonProvider;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes finished spans as OTLP/JSON, one ExportTraceServiceRequest per line -
+ * the format of the OpenTelemetry Collector file exporter, which its otlpjsonfile receiver
+ * and most trace viewers can import. Spans are batched and written when the batch is full
+ * or on {@link #flush()}.
+ */
+final class OtlpJsonExporter {
+
+    private static final String SCOPE = "spribe.task.support.tracing";
+
+    private final Path file;
+    private final int batchSize;
+    private final Map<String, String> resource;
+    private final ObjectMapper mapper = JacksonProvider.mapper();
+    private final List<Span> pending = new ArrayList<>();
+
+    OtlpJsonExporter(Path file, int batchSize, Map<String, String> resource) {
+        this.file = file;
+        this.batchSize = Math.max(1, batchSize);
+        this.resource = Map.copyOf(resource);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    synchronized void export(Span span) throws IOException {
+        pending.add(span);
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    synchronized void flush() throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        String line = mapper.writeValueAsString(request(pending));
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            out.write(line);
+            out.write('\n');
+        }
+        pending.clear();
+    }
+
+    private ObjectNode request(List<Span> spans) {
+        ObjectNode root = mapper.createObjectNode();
+        ObjectNode resourceSpans = root.putArray("resourceSpans").addObject();
+        ArrayNode resourceAttributes = resourceSpans.putObject("resource").putArray("attributes");
+        resource.forEach((key, value) -> attribute(resourceAttributes, key, value));
+
+        ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+        scopeSpans.putObject("scope").put("name", SCOPE);
+        ArrayNode out = scopeSpans.putArray("spans");
+        spans.forEach(span -> write(out.addObject(), span));
+        return root;
+    }
+
+    // OTLP/JSON: ids are hex, 64-bit integers (timestamps, intValue) are strings
+    private void write(ObjectNode node, Span span) {
+        node.put("traceId", span.context().traceId());
+        node.put("spanId", span.context().spanId());
+        if (span.parentSpanId() != null) {
+            node.put("parentSpanId", span.parentSpanId());
+        }
+        node.put("name", span.name());
+        node.put("kind", span.kind().otlpValue());
+        node.put("startTimeUnixNano", Long.toString(span.startEpochNanos()));
+        node.put("endTimeUnixNano", Long.toString(span.endEpochNanos()));
+
+        ArrayNode attributes = node.putArray("attributes");
+        span.attributes().forEach((key, value) -> attribute(attributes, key, value));
+
+        if (!span.events().isEmpty()) {
+            ArrayNode events = node.putArray("events");
+            span.events().forEach(event -> events.addObject()
+                    .put("timeUnixNano", Long.toString(event.epochNanos()))
+                    .put("name", event.name()));
+        }
+        if (span.isError()) {
+            node.putObject("status").put("code", 2);
+        }
+    }
+
+    private static void attribute(ArrayNode attributes, String key, Object value) {
+        ObjectNode attribute = attributes.addObject();
+        attribute.put("key", key);
+        ObjectNode typed = attribute.putObject("value");
+        if (value instanceof Integer || value instanceof Long) {
+            typed.put("intValue", value.toString());
+        } else if (value instanceof Boolean flag) {
+            typed.put("boolValue", flag);
+        } else if (value instanceof Double number) {
+            typed.put("doubleValue", number);
+        } else {
+            typed.put("stringValue", String.valueOf(value));
+        }
+    }
+}
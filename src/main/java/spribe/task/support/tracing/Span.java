@@ -0,0 +1,127 @@
+package spribe.task.support.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A client-side span. Timestamps are taken from System.nanoTime() and converted to epoch nanoseconds
+ * relative to the span start, so durations inside one span are exact.
+ * A span is started and ended on the thread that owns it.
+ */
+public final class Span {
+
+    public enum Kind {
+        INTERNAL(1),
+        CLIENT(3);
+
+        private final int otlpValue;
+
+        Kind(int otlpValue) {
+            this.otlpValue = otlpValue;
+        }
+
+        int otlpValue() {
+            return otlpValue;
+        }
+    }
+
+    record Event(String name, long epochNanos) {
+    }
+
+    private final String name;
+    private final Kind kind;
+    private final TraceContext context;
+    private final Span parent;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private final List<Event> events = new ArrayList<>(4);
+    private long endEpochNanos;
+    private boolean error;
+
+    Span(String name, Kind kind, TraceContext context, Span parent) {
+        Instant now = Instant.now();
+        this.startNanoTime = System.nanoTime();
+        this.startEpochNanos = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+        this.name = name;
+        this.kind = kind;
+        this.context = context;
+        this.parent = parent;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public TraceContext context() {
+        return context;
+    }
+
+    Span parent() {
+        return parent;
+    }
+
+    public String parentSpanId() {
+        return parent == null ? null : parent.context.spanId();
+    }
+
+    public Span setAttribute(String key, Object value) {
+        if (value != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds an event at the given System.nanoTime().
+     */
+    public Span addEvent(String eventName, long nanoTime) {
+        events.add(new Event(eventName, epochNanos(nanoTime)));
+        return this;
+    }
+
+    public Span markError() {
+        error = true;
+        return this;
+    }
+
+    void end(long nanoTime) {
+        endEpochNanos = epochNanos(nanoTime);
+    }
+
+    long startEpochNanos() {
+        return startEpochNanos;
+    }
+
+    long endEpochNanos() {
+        return endEpochNanos;
+    }
+
+    long durationNanos() {
+        return endEpochNanos - startEpochNanos;
+    }
+
+    Map<String, Object> attributes() {
+        return attributes;
+    }
+
+    List<Event> events() {
+        return events;
+    }
+
+    boolean isError() {
+        return error;
+    }
+
+    private long epochNanos(long nanoTime) {
+        return startEpochNanos + (nanoTime - startNanoTime);
+    }
+}
@@ -0,0 +1,112 @@
+package spribe.task.support.tracing;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * RestAssured HttpClient factory whose request executor stamps the phases of every exchange into
+ * {@link ClientTimings}: request written and flushed, response headers read, response body consumed.
+ * RestAssured still builds a DefaultHttpClient per request, so this only replaces its executor.
+ */
+@SuppressWarnings("deprecation")
+final class TimedHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    @Override
+    public HttpClient createHttpClient() {
+        return new DefaultHttpClient() {
+            @Override
+            protected HttpRequestExecutor createRequestExecutor() {
+                return new TimedRequestExecutor();
+            }
+        };
+    }
+
+    private static final class TimedRequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws IOException, HttpException {
+            ClientTimings timings = ClientTimings.current();
+            if (timings != null) {
+                timings.sendStart = System.nanoTime();
+            }
+            HttpResponse response = super.doSendRequest(request, conn, context);
+            if (timings != null) {
+                timings.sendEnd = System.nanoTime();
+            }
+            return response;
+        }
+
+        @Override
+        protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws HttpException, IOException {
+            HttpResponse response = super.doReceiveResponse(request, conn, context);
+            ClientTimings timings = ClientTimings.current();
+            if (timings != null) {
+                timings.headersReceived = System.nanoTime();
+                HttpEntity entity = response.getEntity();
+                if (entity != null) {
+                    response.setEntity(new TimedEntity(entity, timings));
+                }
+            }
+            return response;
+        }
+    }
+
+    private static final class TimedEntity extends HttpEntityWrapper {
+        private final ClientTimings timings;
+
+        TimedEntity(HttpEntity entity, ClientTimings timings) {
+            super(entity);
+            this.timings = timings;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b < 0) {
+                        received();
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n < 0) {
+                        received();
+                    }
+                    return n;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    received();
+                    super.close();
+                }
+            };
+        }
+
+        private void received() {
+            if (timings.bodyReceived == 0L) {
+                timings.bodyReceived = System.nanoTime();
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package spribe.task.support.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C trace context of one span: 16-byte trace id and 8-byte span id, both lower-case hex.
+ */
+public record TraceContext(String traceId, String spanId) {
+
+    private static final String VERSION = "00";
+    private static final String SAMPLED = "01";
+
+    static TraceContext newTrace() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new TraceContext(hex(nonZero(random)) + hex(random.nextLong()), hex(nonZero(random)));
+    }
+
+    TraceContext child() {
+        return new TraceContext(traceId, hex(nonZero(ThreadLocalRandom.current())));
+    }
+
+    /**
+     * Value of the traceparent header, always sampled.
+     */
+    public String traceparent() {
+        return VERSION + "-" + traceId + "-" + spanId + "-" + SAMPLED;
+    }
+
+    // all-zero ids are invalid in W3C trace context
+    private static long nonZero(ThreadLocalRandom random) {
+        long value;
+        do {
+            value = random.nextLong();
+        } while (value == 0L);
+        return value;
+    }
+
+    private static String hex(long value) {
+        String digits = Long.toHexString(value);
+        return "0".repeat(16 - digits.length()) + digits;
+    }
+}
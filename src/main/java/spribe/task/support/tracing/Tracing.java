@@ -0,0 +1,137 @@
+package spribe.task.support.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.TestConfig;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Client-side tracing of test runs: a trace per test method, a span per PlayersService step
+ * and a client span per HTTP request, whose context is sent as the W3C traceparent header.
+ * The current span is kept per thread; requests from threads outside a test
+ * (worker pools of load and race tests) start a trace of their own.
+ *
+ * Finished spans are exported to tracing.export.file as OTLP/JSON, see {@link OtlpJsonExporter}.
+ * Start methods return null when tracing.enabled is false, and {@link #end(Span)} ignores null.
+ */
+public final class Tracing {
+    private static final Logger log = LoggerFactory.getLogger(Tracing.class);
+
+    private static final boolean ENABLED;
+    private static final OtlpJsonExporter EXPORTER;
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Span> LAST_CLIENT = new ThreadLocal<>();
+
+    static {
+        TestConfig config = ConfigFactoryProvider.config();
+        ENABLED = config.tracingEnabled();
+        EXPORTER = ENABLED
+                ? new OtlpJsonExporter(Path.of(config.tracingExportFile()), config.tracingExportBatchSize(),
+                        Map.of("service.name", config.tracingServiceName(),
+                                "deployment.environment", System.getProperty("env", "prod")))
+                : null;
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(Tracing::flush, "tracing-flush"));
+        }
+    }
+
+    private Tracing() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts the root span of a new trace and makes it current on this thread.
+     */
+    public static Span startTest(String name) {
+        if (!ENABLED) {
+            return null;
+        }
+        Span span = new Span(name, Span.Kind.INTERNAL, TraceContext.newTrace(), null);
+        CURRENT.set(span);
+        return span;
+    }
+
+    /**
+     * Starts a child of the current span (or a new trace) and makes it current until it ends.
+     */
+    public static Span startStep(String name) {
+        if (!ENABLED) {
+            return null;
+        }
+        Span span = child(name, Span.Kind.INTERNAL);
+        CURRENT.set(span);
+        return span;
+    }
+
+    /**
+     * Starts the span of an outgoing request; it does not become current.
+     */
+    public static Span startClient(String name) {
+        if (!ENABLED) {
+            return null;
+        }
+        Span span = child(name, Span.Kind.CLIENT);
+        LAST_CLIENT.set(span);
+        return span;
+    }
+
+    public static void end(Span span) {
+        end(span, System.nanoTime());
+    }
+
+    /**
+     * Ends the span at the given System.nanoTime(), restores its parent as current and queues it for export.
+     */
+    public static void end(Span span, long nanoTime) {
+        if (span == null) {
+            return;
+        }
+        span.end(nanoTime);
+        if (CURRENT.get() == span) {
+            if (span.parent() == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(span.parent());
+            }
+        }
+        try {
+            EXPORTER.export(span);
+        } catch (IOException e) {
+            log.warn("Failed to export spans to {}: {}", EXPORTER.file(), e.toString());
+        }
+    }
+
+    /**
+     * traceparent of the last request sent from this thread, to correlate logs with backend traces.
+     */
+    public static Optional<String> lastTraceparent() {
+        Span span = LAST_CLIENT.get();
+        return span == null ? Optional.empty() : Optional.of(span.context().traceparent());
+    }
+
+    public static void flush() {
+        if (!ENABLED) {
+            return;
+        }
+        try {
+            EXPORTER.flush();
+        } catch (IOException e) {
+            log.warn("Failed to export spans to {}: {}", EXPORTER.file(), e.toString());
+        }
+    }
+
+    private static Span child(String name, Span.Kind kind) {
+        Span parent = CURRENT.get();
+        return parent == null
+                ? new Span(name, kind, TraceContext.newTrace(), null)
+                : new Span(name, kind, parent.context().child(), parent);
+    }
+}
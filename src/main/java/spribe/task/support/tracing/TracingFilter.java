@@ -0,0 +1,101 @@
+package spribe.task.support.tracing;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import spribe.task.support.metrics.Metrics;
+
+/**
+ * Opens a client span for every request, sends its context as the traceparent header and records
+ * the connect / send / wait / receive phases as span attributes, span events and http.* metrics:
+ * connect - from the filter until the request starts being written (connection lease and TCP connect),
+ * send - writing and flushing the request, wait - until the response headers arrive,
+ * receive - until the response body has been read.
+ *
+ * Runs before the other filters so the Allure request attachment shows the header.
+ * Requires the HttpClient factory from {@link #httpClientConfig(HttpClientConfig)} for the phases.
+ */
+public final class TracingFilter implements OrderedFilter {
+
+    public static final String TRACEPARENT = "traceparent";
+
+    private static final TracingFilter INSTANCE = new TracingFilter();
+
+    private TracingFilter() {}
+
+    public static TracingFilter instance() {
+        return INSTANCE;
+    }
+
+    public static HttpClientConfig httpClientConfig(HttpClientConfig config) {
+        return config.httpClientFactory(new TimedHttpClientFactory());
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Span span = Tracing.startClient(requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath());
+        if (span == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        requestSpec.header(TRACEPARENT, span.context().traceparent());
+        span.setAttribute("http.request.method", requestSpec.getMethod())
+                .setAttribute("url.full", requestSpec.getURI());
+
+        ClientTimings timings = ClientTimings.begin();
+        long end = 0L;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            end = System.nanoTime();
+            span.setAttribute("http.response.status_code", response.statusCode());
+            if (response.statusCode() >= 500) {
+                span.markError();
+            }
+            return response;
+        } catch (Throwable e) { // RestAssured rethrows I/O failures without declaring them
+            end = System.nanoTime();
+            span.markError().setAttribute("exception.type", e.getClass().getName());
+            throw e;
+        } finally {
+            ClientTimings.clear();
+            Tracing.end(span, phases(span, timings, end));
+        }
+    }
+
+    /**
+     * @return end of the exchange: the end of the response body if it was seen, else the filter end
+     */
+    private static long phases(Span span, ClientTimings t, long filterEnd) {
+        long end = t.bodyReceived > 0 ? t.bodyReceived : filterEnd;
+        if (t.sendStart > 0) {
+            phase(span, "connect", t.start, t.sendStart);
+            span.addEvent("request.send.start", t.sendStart);
+        }
+        if (t.sendEnd > 0) {
+            phase(span, "send", t.sendStart, t.sendEnd);
+            span.addEvent("request.sent", t.sendEnd);
+        }
+        if (t.headersReceived > 0) {
+            phase(span, "wait", t.sendEnd, t.headersReceived);
+            span.addEvent("response.headers", t.headersReceived);
+            phase(span, "receive", t.headersReceived, end);
+            span.addEvent("response.body", end);
+        }
+        return end;
+    }
+
+    private static void phase(Span span, String name, long from, long to) {
+        long nanos = Math.max(0L, to - from);
+        span.setAttribute("http.client." + name + ".ns", nanos);
+        Metrics.recordNanos("http." + name, nanos);
+    }
+}
@@ -0,0 +1,72 @@
+package spribe.task.support.traffic;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a {@link TrafficReplayer} run: recorded against replayed latency and status agreement per endpoint.
+ *
+ * @param speed         replay speed factor, 0 for "as fast as possible"
+ * @param recordedNanos time span of the recorded traffic
+ * @param replayedNanos wall time of the replay
+ */
+public record ReplayReport(double speed,
+                           long recordedNanos,
+                           long replayedNanos,
+                           int skipped,
+                           Map<String, EndpointStats> endpoints) {
+
+    public ReplayReport {
+        endpoints = Map.copyOf(endpoints);
+    }
+
+    public long requests() {
+        return endpoints.values().stream().mapToLong(EndpointStats::count).sum();
+    }
+
+    public long statusMismatches() {
+        return endpoints.values().stream().mapToLong(EndpointStats::statusMismatches).sum();
+    }
+
+    public long failures() {
+        return endpoints.values().stream().mapToLong(EndpointStats::failures).sum();
+    }
+
+    public double throughput() {
+        return replayedNanos == 0 ? 0 : requests() / (replayedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * @param statusMismatches replayed status differs from the recorded one
+     * @param failures         requests that did not get a response at all
+     */
+    public record EndpointStats(long count, long statusMismatches, long failures, Histogram recorded, Histogram replayed) {
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format(
+                "speed=%s, %d requests (%d skipped) in %.1fs, recorded span %.1fs, %.1f req/s, %d status mismatches, %d failures%n",
+                speed == 0 ? "max" : speed + "x", requests(), skipped, seconds(replayedNanos), seconds(recordedNanos),
+                throughput(), statusMismatches(), failures()));
+        sb.append(String.format("%n%-8s %7s %9s %8s %14s %14s %14s %14s%n", "endpoint", "count", "mismatch", "failed",
+                "recorded p50", "replayed p50", "recorded p99", "replayed p99"));
+        endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(e -> {
+            EndpointStats s = e.getValue();
+            sb.append(String.format("%-8s %7d %9d %8d %12.2fms %12.2fms %12.2fms %12.2fms%n", e.getKey(), s.count(),
+                    s.statusMismatches(), s.failures(),
+                    millis(s.recorded(), 50), millis(s.replayed(), 50), millis(s.recorded(), 99), millis(s.replayed(), 99)));
+        });
+        return sb.toString();
+    }
+
+    private static double millis(Histogram h, double percentile) {
+        return h.getTotalCount() == 0 ? 0 : h.getValueAtPercentile(percentile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,31 @@
+package spribe.task.support.traffic;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * One recorded player-controller call, stored as a single NDJSON line.
+ *
+ * @param run            start of the recording JVM (epoch ms); the log is appended to across runs
+ * @param offsetNanos    request start relative to the run start, used to reproduce inter-arrival timing
+ * @param endpoint       {@link spribe.task.api.core.Endpoint} key, or the raw path for unknown endpoints
+ * @param playerId       id from the path or the request body, if any
+ * @param responseId     id of the returned player (used to follow players created during the recording)
+ * @param responseBody   response body, cut to traffic.record.max.body.bytes; responseBytes is the full size
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TrafficEntry(long run,
+                           long offsetNanos,
+                           String endpoint,
+                           String method,
+                           String editor,
+                           Integer playerId,
+                           Map<String, String> query,
+                           String requestBody,
+                           int status,
+                           long latencyNanos,
+                           Integer responseId,
+                           int responseBytes,
+                           String responseBody) {
+}
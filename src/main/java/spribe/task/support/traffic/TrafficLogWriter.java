@@ -0,0 +1,89 @@
+package spribe.task.support.traffic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only line log on a FileChannel with a direct write buffer.
+ * Lines are copied into the buffer under a lock and reach the file only when the buffer fills,
+ * on {@link #flush()} or on {@link #close()}, so recording adds no syscall per request.
+ */
+final class TrafficLogWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private boolean closed;
+
+    TrafficLogWriter(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    synchronized void appendLine(byte[] line) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (buffer.remaining() < line.length + 1) {
+                drain();
+            }
+            if (line.length + 1 > buffer.capacity()) {
+                writeFully(ByteBuffer.wrap(line));
+                writeFully(ByteBuffer.wrap(new byte[]{'\n'}));
+                return;
+            }
+            buffer.put(line).put((byte) '\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write traffic log " + file, e);
+        }
+    }
+
+    synchronized void flush() throws IOException {
+        if (!closed) {
+            drain();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
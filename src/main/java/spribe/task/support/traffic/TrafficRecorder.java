@@ -0,0 +1,172 @@
+package spribe.task.support.traffic;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.core.Endpoint;
+import spribe.task.api.core.JacksonProvider;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.TestConfig;
+import spribe.task.support.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * RestAssured filter that appends every request and its response to an NDJSON traffic log
+ * (one {@link TrafficEntry} per line). Enabled with traffic.record.enabled and added to the shared spec
+ * by {@link spribe.task.api.core.RequestSpecFactory}; the log is flushed when the JVM exits.
+ *
+ * The filter runs after all other filters, so the recorded latency is the closest one to the wire.
+ * Replay the log with {@link TrafficReplayer}.
+ */
+public final class TrafficRecorder implements OrderedFilter {
+    private static final Logger log = LoggerFactory.getLogger(TrafficRecorder.class);
+
+    private static volatile TrafficRecorder instance;
+
+    private final TrafficLogWriter writer;
+    private final int maxBodyBytes;
+    private final long run = System.currentTimeMillis();
+    private final long originNanos = System.nanoTime();
+    private final ObjectMapper mapper = JacksonProvider.mapper();
+
+    TrafficRecorder(TrafficLogWriter writer, int maxBodyBytes) {
+        this.writer = writer;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Returns the recorder of this JVM, opening the configured log on first use.
+     */
+    public static TrafficRecorder instance() {
+        if (instance == null) {
+            synchronized (TrafficRecorder.class) {
+                if (instance == null) {
+                    instance = open(ConfigFactoryProvider.config());
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static TrafficRecorder open(TestConfig config) {
+        Path file = Path.of(config.trafficRecordFile());
+        try {
+            TrafficRecorder recorder = new TrafficRecorder(new TrafficLogWriter(file), config.trafficRecordMaxBodyBytes());
+            Runtime.getRuntime().addShutdownHook(new Thread(recorder::close, "traffic-recorder-close"));
+            log.info("Recording traffic to {}", file.toAbsolutePath());
+            return recorder;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open traffic log " + file.toAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long latency = System.nanoTime() - start;
+        try {
+            writer.appendLine(mapper.writeValueAsBytes(entry(requestSpec, response, start - originNanos, latency)));
+        } catch (RuntimeException | JsonProcessingException e) {
+            // a broken traffic log must not fail the test that produced the request
+            Metrics.increment("traffic.record.failed");
+            log.warn("Failed to record {} {}: {}", requestSpec.getMethod(), requestSpec.getURI(), e.toString());
+        }
+        return response;
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Failed to close traffic log {}: {}", writer.file(), e.toString());
+        }
+    }
+
+    private TrafficEntry entry(FilterableRequestSpecification request, Response response,
+                               long offsetNanos, long latencyNanos) {
+        String requestBody = bodyAsString(request.getBody());
+        Map<String, String> pathParams = request.getNamedPathParams();
+        Integer playerId = pathParams.containsKey("id")
+                ? parseInt(pathParams.get("id"))
+                : intField(requestBody, "playerId");
+
+        Map<String, String> query = request.getQueryParams().isEmpty() ? null : new TreeMap<>(request.getQueryParams());
+
+        byte[] responseBytes = response.asByteArray();
+        String responseBody = responseBytes.length == 0 ? null : new String(responseBytes, StandardCharsets.UTF_8);
+        Integer responseId = intField(responseBody, "id");
+        if (responseBody != null && responseBytes.length > maxBodyBytes) {
+            responseBody = maxBodyBytes <= 0 ? null : new String(responseBytes, 0, maxBodyBytes, StandardCharsets.UTF_8);
+        }
+
+        return new TrafficEntry(run, offsetNanos, endpointOf(request.getUserDefinedPath()), request.getMethod(),
+                pathParams.get("editor"), playerId, query, requestBody, response.statusCode(), latencyNanos,
+                responseId, responseBytes.length, responseBody);
+    }
+
+    /**
+     * Requests outside player-controller keep their raw path and are skipped on replay.
+     */
+    private static String endpointOf(String path) {
+        return Endpoint.ofPath(path).map(Endpoint::key).orElse(path);
+    }
+
+    private String bodyAsString(Object body) {
+        if (body == null) {
+            return null;
+        } else if (body instanceof String text) {
+            return text;
+        } else if (body instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        try {
+            return mapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(body);
+        }
+    }
+
+    private Integer intField(String json, String field) {
+        if (json == null || json.isEmpty() || json.charAt(0) != '{') {
+            return null;
+        }
+        try {
+            JsonNode value = mapper.readTree(json).get(field);
+            return value != null && value.canConvertToInt() ? value.intValue() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static Integer parseInt(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
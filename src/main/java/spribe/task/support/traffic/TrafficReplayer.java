@@ -0,0 +1,326 @@
+package spribe.task.support.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spribe.task.api.core.Endpoint;
+import spribe.task.api.core.JacksonProvider;
+import spribe.task.api.core.ResponseWrapper;
+import spribe.task.api.core.cache.PlayerReadCache;
+import spribe.task.api.model.request.Player;
+import spribe.task.api.services.PlayersService;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.TestConfig;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Re-issues a traffic log written by {@link TrafficRecorder} through {@link PlayersService}
+ * (so throttling and latency metrics apply as in a test run), keeping the original inter-arrival timing
+ * scaled by the speed factor; speed 0 sends everything as fast as the replay threads allow.
+ * Runs appended to the same log are replayed back to back.
+ *
+ * Players created during the recording are followed by id: calls on one recorded player are issued in
+ * recorded order, each after the previous one has finished, and use the id the server returned this time. Logins and screenNames of created
+ * players get a per-replay suffix so the traffic can be replayed against the same environment again;
+ * calls made as one of those players use the renamed editor.
+ *
+ * Usage: TrafficReplayer [file] [speed], defaults from traffic.replay.* in TestConfig.
+ */
+public final class TrafficReplayer {
+    private static final Logger log = LoggerFactory.getLogger(TrafficReplayer.class);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final PlayersService service;
+    private final double speed;
+    private final int threads;
+    private final String suffix = "_r" + Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36), 36);
+    private final ObjectMapper mapper = JacksonProvider.mapper();
+
+    private final Map<Integer, CompletableFuture<Integer>> createdIds = new HashMap<>();
+    private final Map<String, CompletableFuture<Integer>> createdLogins = new HashMap<>();
+    private final Map<Integer, CompletableFuture<Void>> lastCall = new HashMap<>();
+    private final Map<String, String> renamed = new ConcurrentHashMap<>();
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @param speed replay speed factor (2 = twice as fast as recorded), 0 for no pacing
+     */
+    public TrafficReplayer(PlayersService service, double speed, int threads) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("speed must not be negative: " + speed);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1: " + threads);
+        }
+        this.service = service;
+        this.speed = speed;
+        this.threads = threads;
+    }
+
+    public static TrafficReplayer fromConfig(TestConfig config) {
+        return new TrafficReplayer(new PlayersService(PlayerReadCache.disabled()),
+                parseSpeed(config.trafficReplaySpeed()), config.trafficReplayThreads());
+    }
+
+    public static void main(String[] args) throws IOException {
+        TestConfig config = ConfigFactoryProvider.config();
+        Path file = Path.of(args.length > 0 ? args[0] : config.trafficReplayFile());
+        TrafficReplayer replayer = args.length > 1
+                ? new TrafficReplayer(new PlayersService(PlayerReadCache.disabled()), parseSpeed(args[1]),
+                        config.trafficReplayThreads())
+                : fromConfig(config);
+        // printed rather than logged: exec:java runs without an SLF4J provider
+        System.out.println("Traffic replay of " + file.toAbsolutePath() + ":\n" + replayer.replay(file));
+    }
+
+    /**
+     * Accepts a factor such as 1, 2.5 or 10x; "max" or 0 disables pacing.
+     */
+    static double parseSpeed(String value) {
+        String speed = value.trim().toLowerCase();
+        if (speed.equals("max")) {
+            return 0;
+        }
+        if (speed.endsWith("x")) {
+            speed = speed.substring(0, speed.length() - 1);
+        }
+        try {
+            return Double.parseDouble(speed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Replay speed must be a number or 'max': " + value, e);
+        }
+    }
+
+    public ReplayReport replay(Path file) throws IOException {
+        List<TrafficEntry> timeline = timeline(read(file));
+        int skipped = 0;
+        long recordedSpan = timeline.isEmpty() ? 0 : timeline.get(timeline.size() - 1).offsetNanos();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "traffic-replay-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(timeline.size());
+        long start = System.nanoTime();
+        try {
+            for (TrafficEntry entry : timeline) {
+                Endpoint endpoint = endpoint(entry.endpoint());
+                if (endpoint == null) {
+                    skipped++;
+                    continue;
+                }
+                if (speed > 0) {
+                    sleepUntil(start + (long) (entry.offsetNanos() / speed));
+                }
+                inFlight.add(dispatch(endpoint, entry, pool));
+            }
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture<?>[]::new)).join();
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, ReplayReport.EndpointStats> endpoints = new TreeMap<>();
+        stats.forEach((key, s) -> endpoints.put(key, s.snapshot()));
+        return new ReplayReport(speed, recordedSpan, elapsed, skipped, endpoints);
+    }
+
+    /**
+     * Reads every entry; a line that is not a complete entry (e.g. cut off by a killed JVM) is skipped.
+     */
+    static List<TrafficEntry> read(Path file) throws IOException {
+        ObjectMapper mapper = JacksonProvider.mapper();
+        List<TrafficEntry> entries = new ArrayList<>();
+        int broken = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    entries.add(mapper.readValue(line, TrafficEntry.class));
+                } catch (IOException e) {
+                    broken++;
+                }
+            }
+        }
+        if (broken > 0) {
+            log.warn("Skipped {} unreadable lines in {}", broken, file);
+        }
+        return entries;
+    }
+
+    /**
+     * Orders entries by request start and shifts every run to begin where the previous one ended,
+     * so offsets become positions on a single timeline starting at 0.
+     */
+    static List<TrafficEntry> timeline(List<TrafficEntry> entries) {
+        Map<Long, List<TrafficEntry>> runs = new TreeMap<>();
+        entries.forEach(e -> runs.computeIfAbsent(e.run(), r -> new ArrayList<>()).add(e));
+
+        List<TrafficEntry> timeline = new ArrayList<>(entries.size());
+        long shift = 0;
+        for (List<TrafficEntry> run : runs.values()) {
+            run.sort(Comparator.comparingLong(TrafficEntry::offsetNanos));
+            long first = run.get(0).offsetNanos();
+            long last = first;
+            for (TrafficEntry e : run) {
+                timeline.add(withOffset(e, shift + e.offsetNanos() - first));
+                last = e.offsetNanos();
+            }
+            shift += last - first;
+        }
+        return timeline;
+    }
+
+    /**
+     * Called in timeline order on the scheduling thread, so the maps need no locking.
+     * A call on a recorded player starts only after the previous call on that player has finished.
+     */
+    private CompletableFuture<Void> dispatch(Endpoint endpoint, TrafficEntry entry, ExecutorService pool) {
+        CompletableFuture<?> previous = entry.playerId() == null ? null : lastCall.get(entry.playerId());
+        CompletableFuture<?> editor = entry.editor() == null ? null : createdLogins.get(entry.editor());
+        CompletableFuture<Integer> newId = entry.playerId() == null ? null : createdIds.get(entry.playerId());
+
+        CompletableFuture<Integer> created = new CompletableFuture<>();
+        if (endpoint == Endpoint.CREATE && entry.responseId() != null) {
+            createdIds.put(entry.responseId(), created);
+            String login = entry.query() == null ? null : entry.query().get("login");
+            if (login != null) {
+                createdLogins.putIfAbsent(login, created);
+            }
+        }
+
+        CompletableFuture<Void> call = CompletableFuture.allOf(settled(previous), settled(editor))
+                .thenRunAsync(() -> {
+                    Integer id = entry.playerId();
+                    if (newId != null && newId.getNow(null) != null) {
+                        id = newId.getNow(null);
+                    }
+                    created.complete(execute(endpoint, entry, id));
+                }, pool);
+
+        Integer player = endpoint == Endpoint.CREATE ? entry.responseId() : entry.playerId();
+        if (player != null) {
+            lastCall.put(player, call);
+        }
+        return call;
+    }
+
+    private static CompletableFuture<?> settled(CompletableFuture<?> future) {
+        return future == null ? CompletableFuture.completedFuture(null) : future.handle((v, e) -> null);
+    }
+
+    /**
+     * @return id of the player returned by the call, if any
+     */
+    private Integer execute(Endpoint endpoint, TrafficEntry entry, Integer id) {
+        Stats s = stats.computeIfAbsent(endpoint.key(), k -> new Stats());
+        s.recorded.recordValue(Math.max(0L, entry.latencyNanos()));
+        String editor = entry.editor() == null ? null : renamed.getOrDefault(entry.editor(), entry.editor());
+
+        long start = System.nanoTime();
+        try {
+            ResponseWrapper<?> response = switch (endpoint) {
+                case CREATE -> service.create(editor, createPayload(entry.query()));
+                case GET -> service.getById(id);
+                case GET_ALL -> service.getAll();
+                case UPDATE -> service.update(editor, id, updatePayload(entry.requestBody()));
+                case DELETE -> service.delete(editor, id);
+            };
+            s.replayed.recordValue(System.nanoTime() - start);
+            int status = response.raw().statusCode();
+            if (status != entry.status()) {
+                s.statusMismatches.increment();
+            }
+            return status == 200 && endpoint == Endpoint.CREATE ? response.raw().jsonPath().get("id") : null;
+        } catch (Exception e) { // RestAssured rethrows I/O failures without declaring them
+            s.replayed.recordValue(System.nanoTime() - start);
+            s.failures.increment();
+            log.debug("Replay of {} failed: {}", endpoint, e.toString());
+            return null;
+        }
+    }
+
+    private Player createPayload(Map<String, String> query) {
+        Map<String, String> q = query == null ? Map.of() : query;
+        Player player = new Player();
+        String age = q.get("age");
+        player.setAge(age == null ? null : Integer.valueOf(age));
+        player.setGender(q.get("gender"));
+        player.setLogin(rename(q.get("login")));
+        player.setPassword(q.get("password"));
+        player.setRole(q.get("role"));
+        player.setScreenName(rename(q.get("screenName")));
+        return player;
+    }
+
+    private Player updatePayload(String body) throws IOException {
+        Player player = body == null ? new Player() : mapper.readValue(body, Player.class);
+        player.setLogin(rename(player.getLogin()));
+        player.setScreenName(rename(player.getScreenName()));
+        return player;
+    }
+
+    private String rename(String value) {
+        return value == null || value.isEmpty() ? value : renamed.computeIfAbsent(value, v -> v + suffix);
+    }
+
+    private static Endpoint endpoint(String key) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.key().equals(key)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private static TrafficEntry withOffset(TrafficEntry e, long offsetNanos) {
+        return new TrafficEntry(e.run(), offsetNanos, e.endpoint(), e.method(), e.editor(), e.playerId(), e.query(),
+                e.requestBody(), e.status(), e.latencyNanos(), e.responseId(), e.responseBytes(), e.responseBody());
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static final class Stats {
+        final Histogram recorded = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        final Histogram replayed = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        final LongAdder statusMismatches = new LongAdder();
+        final LongAdder failures = new LongAdder();
+
+        ReplayReport.EndpointStats snapshot() {
+            return new ReplayReport.EndpointStats(replayed.getTotalCount(), statusMismatches.sum(), failures.sum(),
+                    recorded.copy(), replayed.copy());
+        }
+    }
+}
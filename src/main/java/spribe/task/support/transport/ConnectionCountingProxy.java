@@ -0,0 +1,118 @@
+package spribe.task.support.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plain TCP forwarder on a local port that counts the connections a client opens to the target:
+ * neither RestAssured's Apache client nor the JDK HttpClient expose their connections.
+ * Both directions are copied by blocking pump threads, so the proxy adds the same small cost to every transport.
+ * Counts start over with {@link #reset()}; connections accepted before it are not counted afterwards,
+ * as RestAssured's per-request clients leave theirs open until they are garbage collected.
+ */
+final class ConnectionCountingProxy implements AutoCloseable {
+
+    private final InetSocketAddress target;
+    private final ServerSocket server;
+    private final ExecutorService pumps = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "proxy-pump");
+        t.setDaemon(true);
+        return t;
+    });
+    private volatile Counts counts = new Counts();
+
+    private static final class Counts {
+        final AtomicLong opened = new AtomicLong();
+        final AtomicInteger open = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+    }
+
+    ConnectionCountingProxy(String targetHost, int targetPort) throws IOException {
+        this.target = new InetSocketAddress(targetHost, targetPort);
+        this.server = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "proxy-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int port() {
+        return server.getLocalPort();
+    }
+
+    long opened() {
+        return counts.opened.get();
+    }
+
+    int peak() {
+        return counts.peak.get();
+    }
+
+    void reset() {
+        counts = new Counts();
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            Socket client;
+            try {
+                client = server.accept();
+            } catch (IOException e) {
+                return;
+            }
+            Counts current = counts;
+            current.opened.incrementAndGet();
+            current.peak.accumulateAndGet(current.open.incrementAndGet(), Math::max);
+            pumps.execute(() -> forward(client, current));
+        }
+    }
+
+    private void forward(Socket client, Counts current) {
+        try (client; Socket upstream = new Socket()) {
+            client.setTcpNoDelay(true);
+            upstream.setTcpNoDelay(true);
+            upstream.connect(target);
+            Future<?> responses = pumps.submit(() -> pump(upstream, client));
+            pump(client, upstream);
+            responses.get();
+        } catch (IOException | ExecutionException e) {
+            // the client or the target went away, the other side is closed with it
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            current.open.decrementAndGet();
+        }
+    }
+
+    private static void pump(Socket from, Socket to) {
+        byte[] buffer = new byte[16 * 1024];
+        try {
+            InputStream in = from.getInputStream();
+            OutputStream out = to.getOutputStream();
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+            to.shutdownOutput();
+        } catch (IOException e) {
+            // closed while copying
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        pumps.shutdownNow();
+    }
+}
@@ -0,0 +1,180 @@
+package spribe.task.support.transport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import spribe.task.api.core.JacksonProvider;
+import spribe.task.api.core.cache.PlayerReadCache;
+import spribe.task.api.core.transport.Http2Transport;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.services.PlayersService;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.ConfigSnapshot;
+import spribe.task.common.env.TestConfig;
+import spribe.task.util.TestDataGenerator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Puts the same load through each {@link Http2Transport.Mode}: transport.bench.threads threads read one player
+ * by id (POST /player/get) until transport.bench.requests calls were made, after an unmeasured warm-up.
+ * Requests go through a local {@link ConnectionCountingProxy} in front of app.baseUrl, so next to throughput
+ * and tail latency the report shows how many connections each transport needed.
+ * The player is created before and deleted after the run through the regular PlayersService.
+ *
+ * Usage: TransportBenchmark [requests] [threads]
+ */
+public final class TransportBenchmark {
+
+    private final ConfigSnapshot settings;
+    private final List<Http2Transport.Mode> modes;
+    private final int requests;
+    private final int warmup;
+    private final int threads;
+    private final Duration timeout;
+
+    public TransportBenchmark(ConfigSnapshot settings, List<Http2Transport.Mode> modes, int requests, int warmup,
+                              int threads, Duration timeout) {
+        if (requests < 1 || threads < 1) {
+            throw new IllegalArgumentException("requests and threads must be positive: " + requests + ", " + threads);
+        }
+        this.settings = settings;
+        this.modes = List.copyOf(modes);
+        this.requests = requests;
+        this.warmup = warmup;
+        this.threads = threads;
+        this.timeout = timeout;
+    }
+
+    public static TransportBenchmark fromConfig(TestConfig config) {
+        return new TransportBenchmark(ConfigFactoryProvider.snapshot(), modes(config.transportBenchModes()),
+                config.transportBenchRequests(), config.transportBenchWarmup(), config.transportBenchThreads(),
+                Duration.ofMillis(config.apiTimeout()));
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        TestConfig config = ConfigFactoryProvider.config();
+        TransportBenchmark benchmark = args.length > 0
+                ? new TransportBenchmark(ConfigFactoryProvider.snapshot(), modes(config.transportBenchModes()),
+                        Integer.parseInt(args[0]), config.transportBenchWarmup(),
+                        args.length > 1 ? Integer.parseInt(args[1]) : config.transportBenchThreads(),
+                        Duration.ofMillis(config.apiTimeout()))
+                : fromConfig(config);
+        // printed rather than logged: exec:java runs without an SLF4J provider
+        System.out.println("Transport benchmark against " + config.baseUrl() + ", " + benchmark.run());
+    }
+
+    static List<Http2Transport.Mode> modes(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Http2Transport::mode)
+                .toList();
+    }
+
+    public TransportReport run() throws IOException, InterruptedException {
+        URI base = URI.create(ConfigFactoryProvider.config().baseUrl());
+        if (!"http".equalsIgnoreCase(base.getScheme())) {
+            throw new IllegalStateException("The benchmark proxy forwards plain http only: " + base);
+        }
+        PlayersService service = new PlayersService(PlayerReadCache.disabled());
+        String supervisor = settings.supervisorLogin();
+        Response created = service.create(supervisor, TestDataGenerator.generateValidPlayer(Role.USER.getValue())).raw();
+        int playerId = createdId(created);
+
+        List<TransportReport.Result> results = new ArrayList<>();
+        try (ConnectionCountingProxy proxy = new ConnectionCountingProxy(base.getHost(),
+                base.getPort() > 0 ? base.getPort() : 80)) {
+            for (Http2Transport.Mode mode : modes) {
+                results.add(measure(mode, proxy, playerId));
+            }
+        } finally {
+            service.delete(supervisor, playerId);
+        }
+        return new TransportReport(threads, results);
+    }
+
+    private TransportReport.Result measure(Http2Transport.Mode mode, ConnectionCountingProxy proxy, int playerId)
+            throws InterruptedException {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri("http://127.0.0.1:" + proxy.port())
+                .setContentType("application/json")
+                .setAccept("application/json");
+        if (mode != Http2Transport.Mode.HTTP_1_1) {
+            builder.addFilter(new Http2Transport(mode, timeout));
+        }
+        RequestSpecification spec = builder.build();
+        Map<String, Object> body = Map.of("playerId", playerId);
+
+        // connections are counted from the warm-up on: a multiplexing transport opens them there
+        proxy.reset();
+        load(spec, body, warmup, null, new AtomicLong(), new AtomicLong());
+        Histogram latency = new ConcurrentHistogram(3);
+        AtomicLong failures = new AtomicLong();
+        AtomicLong http2 = new AtomicLong();
+        long start = System.nanoTime();
+        load(spec, body, requests, latency, failures, http2);
+        long elapsed = System.nanoTime() - start;
+        return new TransportReport.Result(mode, requests, failures.get(), elapsed, proxy.opened(), proxy.peak(),
+                http2.get(), latency);
+    }
+
+    private void load(RequestSpecification spec, Map<String, Object> body, int count, Histogram latency,
+                      AtomicLong failures, AtomicLong http2) throws InterruptedException {
+        AtomicInteger remaining = new AtomicInteger(count);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    while (remaining.getAndDecrement() > 0) {
+                        long start = System.nanoTime();
+                        try {
+                            Response response = given().spec(spec).body(body).post(settings.endpointPlayerGet());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                            if (response.getStatusLine().startsWith("HTTP/2")) {
+                                http2.incrementAndGet();
+                            }
+                        } catch (Exception e) { // RestAssured rethrows I/O failures without declaring them
+                            failures.incrementAndGet();
+                        }
+                        if (latency != null) {
+                            latency.recordValue(System.nanoTime() - start);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "transport-bench-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        done.await();
+    }
+
+    private static int createdId(Response response) throws IOException {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Could not create the benchmark player: status " + response.statusCode());
+        }
+        JsonNode id = JacksonProvider.mapper().readTree(response.asString()).get("id");
+        if (id == null || !id.canConvertToInt()) {
+            throw new IllegalStateException("Created player has no id: " + response.asString());
+        }
+        return id.asInt();
+    }
+}
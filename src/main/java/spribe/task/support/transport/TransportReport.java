@@ -0,0 +1,48 @@
+package spribe.task.support.transport;
+
+import org.HdrHistogram.Histogram;
+import spribe.task.api.core.transport.Http2Transport;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a {@link TransportBenchmark} run, one row per transport.
+ */
+public record TransportReport(int threads, List<Result> results) {
+
+    public TransportReport {
+        results = List.copyOf(results);
+    }
+
+    /**
+     * @param connections  TCP connections opened, warm-up included
+     * @param peak         largest number of these connections open at the same time
+     * @param http2        responses that came back over HTTP/2
+     */
+    public record Result(Http2Transport.Mode mode, long requests, long failures, long elapsedNanos,
+                         long connections, int peak, long http2, Histogram latency) {
+
+        public double throughput() {
+            return elapsedNanos == 0 ? 0 : requests / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("%d threads%n%n", threads));
+        sb.append(String.format("%-11s %8s %7s %9s %6s %6s %8s %9s %9s %9s %9s%n", "transport", "requests", "failed",
+                "req/s", "conns", "peak", "over h2", "p50", "p99", "p99.9", "max"));
+        for (Result r : results) {
+            sb.append(String.format("%-11s %8d %7d %9.1f %6d %6d %8d %7.2fms %7.2fms %7.2fms %7.2fms%n", r.mode(),
+                    r.requests(), r.failures(), r.throughput(), r.connections(), r.peak(), r.http2(),
+                    millis(r.latency(), 50), millis(r.latency(), 99), millis(r.latency(), 99.9),
+                    millis(r.latency(), 100)));
+        }
+        return sb.toString();
+    }
+
+    private static double millis(Histogram h, double percentile) {
+        return h.getTotalCount() == 0 ? 0 : h.getValueAtPercentile(percentile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,54 @@
+package spribe.task.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Block of sequence numbers reserved for one process, so several JVMs generating players at the same time
+ * never produce the same login or screenName. The tag tells runs apart, the number tells players apart.
+ * Install with {@link TestDataGenerator#useRange(DataRange)}.
+ */
+public final class DataRange {
+
+    public static final int TAG_LENGTH = 3;
+    // screenNames keep their 8-character shape: 3 tag characters + 5 base-36 digits
+    static final int NUMBER_DIGITS = 5;
+    public static final long MAX_NUMBER = 36L * 36 * 36 * 36 * 36;
+
+    private final String tag;
+    private final long end;
+    private final AtomicLong next;
+
+    /**
+     * @param tag  {@value #TAG_LENGTH} lower-case alphanumeric characters, shared by all processes of a run
+     * @param from first number of the block
+     * @param to   end of the block (exclusive), at most {@link #MAX_NUMBER}
+     */
+    public DataRange(String tag, long from, long to) {
+        if (tag == null || !tag.matches("[a-z0-9]{" + TAG_LENGTH + "}")) {
+            throw new IllegalArgumentException("tag must be " + TAG_LENGTH + " lower-case alphanumerics: " + tag);
+        }
+        if (from < 0 || to <= from || to > MAX_NUMBER) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+        }
+        this.tag = tag;
+        this.end = to;
+        this.next = new AtomicLong(from);
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    long next() {
+        long number = next.getAndIncrement();
+        if (number >= end) {
+            throw new IllegalStateException("Data range " + tag + " exhausted at " + end);
+        }
+        return number;
+    }
+
+    String encode(long number) {
+        String digits = Long.toString(number, 36);
+        return tag + "0".repeat(NUMBER_DIGITS - digits.length()) + digits;
+    }
+}
@@ -4,7 +4,6 @@ import spribe.task.api.model.enums.Gender;
 import spribe.task.api.model.enums.Role;
 import spribe.task.api.model.request.Player;
 import spribe.task.common.env.ConfigFactoryProvider;
-import spribe.task.common.env.TestConfig;
 import net.datafaker.Faker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,16 +13,34 @@ import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Generates test data for Player entities.
- * Uses TestConfig for validation rules (age, password length, etc.)
+ * Uses the TestConfig snapshot for validation rules (age, password length, etc.)
  */
 public final class TestDataGenerator {
 
     private static final Logger log = LoggerFactory.getLogger(TestDataGenerator.class);
-    private static final Faker faker = new Faker(new Locale("en"));
-    private static final TestConfig config = ConfigFactoryProvider.config();
 
     private TestDataGenerator() {}
 
+    // Set in distributed load workers; null means random suffixes
+    private static volatile DataRange range;
+
+    /**
+     * Makes logins and screenNames come from a reserved number range instead of random suffixes,
+     * so they stay unique across processes. Pass null to go back to random suffixes.
+     */
+    public static void useRange(DataRange dataRange) {
+        range = dataRange;
+    }
+
+    // Faker loads its YAML locale data on creation, so it is only built on first use
+    private static final class FakerHolder {
+        static final Faker FAKER = new Faker(new Locale("en"));
+    }
+
+    private static Faker faker() {
+        return FakerHolder.FAKER;
+    }
+
     // ---------- PUBLIC API ----------
 
     public static Player generateValidPlayer() {
@@ -42,57 +59,6 @@ public final class TestDataGenerator {
         return player;
     }
 
-    public static Player generatePlayerWithInvalidAgeYoung() {
-        Player player = generateValidPlayer();
-        player.setAge(minAge() - 1);
-        return player;
-    }
-
-    public static Player generatePlayerWithInvalidAgeOld() {
-        Player player = generateValidPlayer();
-        player.setAge(maxAge() + 1);
-        return player;
-    }
-
-    public static Player generatePlayerWithInvalidGender() {
-        Player player = generateValidPlayer();
-        player.setGender("invalid_gender");
-        return player;
-    }
-
-    public static Player generatePlayerWithInvalidPasswordShort() {
-        Player player = generateValidPlayer();
-        player.setPassword(alphaNumLettersAndDigits(Math.max(1, minPwdLen() - 1)));
-        return player;
-    }
-
-    public static Player generatePlayerWithInvalidPasswordLong() {
-        Player player = generateValidPlayer();
-        int extra = ThreadLocalRandom.current().nextInt(1, 6);
-        player.setPassword(alphaNumLettersAndDigits(maxPwdLen() + extra));
-        return player;
-    }
-
-    public static Player generatePlayerWithInvalidPasswordNoNumbers() {
-        Player player = generateValidPlayer();
-        int len = randBetween(minPwdLen(), maxPwdLen());
-        player.setPassword(lettersOnly(len));
-        return player;
-    }
-
-    public static Player generatePlayerWithInvalidPasswordNoLetters() {
-        Player player = generateValidPlayer();
-        int len = randBetween(minPwdLen(), maxPwdLen());
-        player.setPassword(digitsOnly(len));
-        return player;
-    }
-
-    public static Player generatePlayerWithInvalidRole() {
-        Player player = generateValidPlayer();
-        player.setRole("invalid_role");
-        return player;
-    }
-
     public static Player generatePlayerWithDuplicateLogin(String existingLogin) {
         Player player = generateValidPlayer();
         player.setLogin(existingLogin);
@@ -123,24 +89,51 @@ public final class TestDataGenerator {
         return player;
     }
 
-    // ---------- INTERNAL HELPERS ----------
+    // ---------- FIELD VALUES (validation matrix) ----------
 
-    private static int randomAge() {
-        return randBetween(minAge(), maxAge());
+    public static String uniqueLogin() {
+        String base = faker().internet().username().replaceAll("[^a-zA-Z0-9_\\-]", "");
+        DataRange reserved = range;
+        String suffix = reserved != null
+                ? reserved.encode(reserved.next())
+                : Integer.toHexString(ThreadLocalRandom.current().nextInt(0xFFFF));
+        return (base + "_" + suffix).toLowerCase();
     }
 
-    private static String randomGender() {
-        return faker.options().option(Gender.MALE.getValue(), Gender.FEMALE.getValue());
+    public static String randomScreenName() {
+        DataRange reserved = range;
+        if (reserved != null) {
+            return reserved.encode(reserved.next());
+        }
+        return faker().internet().uuid().replace("-", "").substring(0, 8);
     }
 
-    private static String uniqueLogin() {
-        String base = faker.internet().username().replaceAll("[^a-zA-Z0-9_\\-]", "");
-        String suffix = Integer.toHexString(ThreadLocalRandom.current().nextInt(0xFFFF));
-        return (base + "_" + suffix).toLowerCase();
+    /**
+     * Exactly length letters and digits, at least one of each from length 2 on.
+     */
+    public static String passwordOfLength(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("Password length must be positive: " + length);
+        }
+        return length == 1 ? lettersOnly(1) : alphaNumLettersAndDigits(length);
+    }
+
+    public static String passwordWithoutNumbers(int length) {
+        return lettersOnly(length);
+    }
+
+    public static String passwordWithoutLetters(int length) {
+        return digitsOnly(length);
     }
 
-    private static String randomScreenName() {
-        return faker.internet().uuid().replace("-", "").substring(0, 8);
+    // ---------- INTERNAL HELPERS ----------
+
+    private static int randomAge() {
+        return randBetween(minAge(), maxAge());
+    }
+
+    private static String randomGender() {
+        return faker().options().option(Gender.MALE.getValue(), Gender.FEMALE.getValue());
     }
 
     private static String validPassword() {
@@ -187,8 +180,8 @@ public final class TestDataGenerator {
 
     // ---------- CONFIG READERS ----------
 
-    private static int minAge()      { return config.minAge(); }
-    private static int maxAge()      { return config.maxAge(); }
-    private static int minPwdLen()   { return config.minPasswordLength(); }
-    private static int maxPwdLen()   { return config.maxPasswordLength(); }
+    private static int minAge()      { return ConfigFactoryProvider.snapshot().minAge(); }
+    private static int maxAge()      { return ConfigFactoryProvider.snapshot().maxAge(); }
+    private static int minPwdLen()   { return ConfigFactoryProvider.snapshot().minPasswordLength(); }
+    private static int maxPwdLen()   { return ConfigFactoryProvider.snapshot().maxPasswordLength(); }
 }
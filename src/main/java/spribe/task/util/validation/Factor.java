@@ -0,0 +1,21 @@
+package spribe.task.util.validation;
+
+import java.util.List;
+
+/**
+ * A payload field and the levels it is tested with. At least one level must be valid, so any invalid level
+ * of another field can be tested with everything else valid.
+ */
+public record Factor(String field, List<Level> levels) {
+
+    public Factor {
+        levels = List.copyOf(levels);
+        if (levels.stream().noneMatch(Level::valid)) {
+            throw new IllegalArgumentException("Factor " + field + " needs a valid level");
+        }
+    }
+
+    public Factor(String field, Level... levels) {
+        this(field, List.of(levels));
+    }
+}
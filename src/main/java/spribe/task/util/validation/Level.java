@@ -0,0 +1,41 @@
+package spribe.task.util.validation;
+
+import spribe.task.api.model.request.Player;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * One value a {@link Factor} can take, e.g. age "min-1".
+ *
+ * @param status  HTTP status the API answers with: 200 for a valid level, 400 for an invalid one
+ *                unless {@link #rejectedWith(int)} says otherwise
+ * @param titles  lower-case fragments, one of which the error title of an invalid level must contain;
+ *                empty when any title will do
+ * @param apply   sets the value on a payload; called per case, so generated values (logins) stay unique
+ */
+public record Level(String name, boolean valid, int status, List<String> titles, Consumer<Player> apply) {
+
+    public Level {
+        titles = List.copyOf(titles);
+    }
+
+    public static Level valid(String name, Consumer<Player> apply) {
+        return new Level(name, true, 200, List.of(), apply);
+    }
+
+    public static Level invalid(String name, Consumer<Player> apply) {
+        return new Level(name, false, 400, List.of(), apply);
+    }
+
+    public static Level invalid(String name, List<String> titles, Consumer<Player> apply) {
+        return new Level(name, false, 400, titles, apply);
+    }
+
+    public Level rejectedWith(int status) {
+        if (valid) {
+            throw new IllegalStateException("Valid level " + name + " is not rejected");
+        }
+        return new Level(name, false, status, titles, apply);
+    }
+}
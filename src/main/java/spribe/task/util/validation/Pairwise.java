@@ -0,0 +1,154 @@
+package spribe.task.util.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Greedy pairwise covering array (AETG style) with negative values handled as PICT does: every pair of valid
+ * levels of two different factors appears in a row that is entirely valid, and every invalid level appears
+ * with every valid level of the other factors in rows where it is the only invalid one. A pair of valid levels
+ * in a row the API rejects is never accepted and checked, so such a row covers only the pairs of its invalid
+ * level; a rejection always has a single cause and is never masked by another invalid field.
+ *
+ * Each row is the best of a few candidates, each started from an uncovered pair and completed factor by factor
+ * with the valid level covering the most uncovered pairs. The seed is fixed, so the same factors always give
+ * the same rows (and test names).
+ */
+final class Pairwise {
+
+    private static final int CANDIDATES = 30;
+    private static final long SEED = 20_240_601L;
+
+    private Pairwise() {
+    }
+
+    /**
+     * @return per row the level index of each factor
+     */
+    static List<int[]> rows(List<Factor> factors) {
+        int n = factors.size();
+        if (n == 1) {
+            List<int[]> single = new ArrayList<>();
+            for (int l = 0; l < factors.get(0).levels().size(); l++) {
+                single.add(new int[]{l});
+            }
+            return single;
+        }
+        Set<Pair> uncovered = new LinkedHashSet<>();
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                for (int la = 0; la < size(factors, a); la++) {
+                    for (int lb = 0; lb < size(factors, b); lb++) {
+                        if (valid(factors, a, la) || valid(factors, b, lb)) {
+                            uncovered.add(new Pair(a, la, b, lb));
+                        }
+                    }
+                }
+            }
+        }
+        Random random = new Random(SEED);
+        List<int[]> rows = new ArrayList<>();
+        while (!uncovered.isEmpty()) {
+            List<Pair> open = new ArrayList<>(uncovered);
+            int[] best = null;
+            int bestGain = -1;
+            for (int c = 0; c < CANDIDATES; c++) {
+                int[] row = candidate(factors, open.get(random.nextInt(open.size())), uncovered, random);
+                int gain = covered(factors, row, uncovered).size();
+                if (gain > bestGain) {
+                    best = row;
+                    bestGain = gain;
+                }
+            }
+            uncovered.removeAll(covered(factors, best, uncovered));
+            rows.add(best);
+        }
+        return rows;
+    }
+
+    private static int[] candidate(List<Factor> factors, Pair start, Set<Pair> uncovered, Random random) {
+        int n = factors.size();
+        int[] row = new int[n];
+        Arrays.fill(row, -1);
+        row[start.a()] = start.la();
+        row[start.b()] = start.lb();
+        int invalid = !valid(factors, start.a(), start.la()) ? start.a()
+                : !valid(factors, start.b(), start.lb()) ? start.b() : -1;
+
+        List<Integer> order = new ArrayList<>();
+        for (int f = 0; f < n; f++) {
+            if (row[f] < 0) {
+                order.add(f);
+            }
+        }
+        Collections.shuffle(order, random);
+        for (int f : order) {
+            int bestLevel = -1;
+            int bestGain = -1;
+            for (int l = 0; l < size(factors, f); l++) {
+                // invalid levels only come from the starting pair
+                if (!valid(factors, f, l)) {
+                    continue;
+                }
+                int gain = 0;
+                for (int g = 0; g < n; g++) {
+                    if (g != f && row[g] >= 0 && (invalid < 0 || g == invalid)
+                            && uncovered.contains(Pair.of(f, l, g, row[g]))) {
+                        gain++;
+                    }
+                }
+                if (gain > bestGain || gain == bestGain && random.nextBoolean()) {
+                    bestLevel = l;
+                    bestGain = gain;
+                }
+            }
+            row[f] = bestLevel;
+        }
+        return row;
+    }
+
+    /**
+     * Pairs the row covers: all of them when it is entirely valid, otherwise only those of its invalid level.
+     */
+    private static List<Pair> covered(List<Factor> factors, int[] row, Set<Pair> uncovered) {
+        int invalid = -1;
+        for (int f = 0; f < row.length; f++) {
+            if (!valid(factors, f, row[f])) {
+                invalid = f;
+            }
+        }
+        List<Pair> pairs = new ArrayList<>();
+        for (int a = 0; a < row.length; a++) {
+            for (int b = a + 1; b < row.length; b++) {
+                Pair pair = new Pair(a, row[a], b, row[b]);
+                if ((invalid < 0 || a == invalid || b == invalid) && uncovered.contains(pair)) {
+                    pairs.add(pair);
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static int size(List<Factor> factors, int factor) {
+        return factors.get(factor).levels().size();
+    }
+
+    private static boolean valid(List<Factor> factors, int factor, int level) {
+        return factors.get(factor).levels().get(level).valid();
+    }
+
+    /**
+     * Levels la of factor a and lb of factor b, a < b.
+     */
+    private record Pair(int a, int la, int b, int lb) {
+
+        static Pair of(int f, int lf, int g, int lg) {
+            return f < g ? new Pair(f, lf, g, lg) : new Pair(g, lg, f, lf);
+        }
+    }
+}
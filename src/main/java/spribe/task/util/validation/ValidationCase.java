@@ -0,0 +1,71 @@
+package spribe.task.util.validation;
+
+import spribe.task.api.model.request.Player;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One row of a {@link ValidationMatrix}: a level per factor, with at most one of them invalid.
+ */
+public final class ValidationCase {
+
+    private final List<Factor> factors;
+    private final List<Level> levels;
+
+    ValidationCase(List<Factor> factors, List<Level> levels) {
+        this.factors = factors;
+        this.levels = List.copyOf(levels);
+    }
+
+    public boolean valid() {
+        return levels.stream().allMatch(Level::valid);
+    }
+
+    /**
+     * The field holding the invalid level, empty for a valid case.
+     */
+    public Optional<String> invalidField() {
+        for (int i = 0; i < levels.size(); i++) {
+            if (!levels.get(i).valid()) {
+                return Optional.of(factors.get(i).field());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Status the API must answer with: 200 for a valid case, otherwise the one of its invalid level.
+     */
+    public int expectedStatus() {
+        return levels.stream().filter(level -> !level.valid()).findFirst().map(Level::status).orElse(200);
+    }
+
+    /**
+     * Fragments the error title must contain one of, empty for a valid case or when any title will do.
+     */
+    public List<String> expectedTitles() {
+        return levels.stream().filter(level -> !level.valid()).findFirst().map(Level::titles).orElse(List.of());
+    }
+
+    /**
+     * Builds a fresh payload, generating unique values again on every call.
+     */
+    public Player payload() {
+        Player player = new Player();
+        levels.forEach(level -> level.apply().accept(player));
+        return player;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < levels.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(factors.get(i).field()).append('=').append(levels.get(i).name());
+        }
+        return sb.toString();
+    }
+}
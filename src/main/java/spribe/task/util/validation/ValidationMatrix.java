@@ -0,0 +1,151 @@
+package spribe.task.util.validation;
+
+import spribe.task.api.model.enums.Gender;
+import spribe.task.api.model.enums.Role;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.ConfigSnapshot;
+import spribe.task.util.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pairwise validation cases for create and update, built from the age and password limits of the config
+ * and the Gender / Role enums. Boundary values on both sides of every limit are levels of their own,
+ * and every invalid level is tested against each valid level of the other fields, one invalid field per case.
+ * Invalid levels whose error title names the problem (age, role) carry the fragments to look for.
+ *
+ * Example: cases(createFactors()) gives rows like "age=max+1, gender=female, role=admin, password=min, ...".
+ */
+public final class ValidationMatrix {
+
+    // the API words an out-of-range age as "... older than 16 ..." or "... younger than 60 ..."
+    private static final List<String> AGE_TITLES = List.of("age", "older than", "younger than");
+    // create rejects an out-of-range age with 400, update with 403
+    private static final int CREATE_AGE_STATUS = 400;
+    private static final int UPDATE_AGE_STATUS = 403;
+
+    private ValidationMatrix() {
+    }
+
+    /**
+     * Fields of a create payload; all of them are required, so a missing field is an invalid level.
+     */
+    public static List<Factor> createFactors() {
+        ConfigSnapshot c = ConfigFactoryProvider.snapshot();
+        List<Level> age = new ArrayList<>(ageLevels(c, CREATE_AGE_STATUS));
+        age.add(Level.invalid("missing", p -> p.setAge(null)));
+
+        List<Level> gender = new ArrayList<>(genderLevels());
+        gender.add(Level.invalid("missing", p -> p.setGender(null)));
+
+        List<Level> role = new ArrayList<>();
+        for (Role r : Role.values()) {
+            if (r == Role.ADMIN || r == Role.USER) {
+                role.add(Level.valid(r.getValue(), p -> p.setRole(r.getValue())));
+            } else if (r == Role.SUPERVISOR) {
+                // there is a single supervisor, another one cannot be created
+                role.add(Level.invalid(r.getValue(), List.of("role", "admin", "user"), p -> p.setRole(r.getValue())));
+            }
+        }
+        role.add(Level.invalid("invalid", List.of("role"), p -> p.setRole("invalid_role")));
+        role.add(Level.invalid("missing", p -> p.setRole(null)));
+
+        List<Level> password = new ArrayList<>(passwordLevels(c));
+        password.add(Level.invalid("missing", p -> p.setPassword(null)));
+
+        return List.of(
+                new Factor("age", age),
+                new Factor("gender", gender),
+                new Factor("role", role),
+                new Factor("password", password),
+                new Factor("login",
+                        Level.valid("unique", p -> p.setLogin(TestDataGenerator.uniqueLogin())),
+                        Level.invalid("missing", p -> p.setLogin(null))),
+                new Factor("screenName",
+                        Level.valid("unique", p -> p.setScreenName(TestDataGenerator.randomScreenName())),
+                        Level.invalid("missing", p -> p.setScreenName(null))));
+    }
+
+    /**
+     * Fields of a partial update; "unchanged" leaves a field out of the payload. Roles are not updated here,
+     * who may change a role is a permission question rather than validation.
+     */
+    public static List<Factor> updateFactors() {
+        ConfigSnapshot c = ConfigFactoryProvider.snapshot();
+        Level unchanged = Level.valid("unchanged", p -> { });
+        List<Level> age = new ArrayList<>(List.of(unchanged));
+        age.addAll(ageLevels(c, UPDATE_AGE_STATUS));
+        List<Level> gender = new ArrayList<>(List.of(unchanged));
+        gender.addAll(genderLevels());
+        List<Level> password = new ArrayList<>(List.of(unchanged));
+        password.addAll(passwordLevels(c));
+        return List.of(
+                new Factor("age", age),
+                new Factor("gender", gender),
+                new Factor("password", password),
+                new Factor("login", unchanged,
+                        Level.valid("new", p -> p.setLogin(TestDataGenerator.uniqueLogin()))),
+                new Factor("screenName", unchanged,
+                        Level.valid("new", p -> p.setScreenName(TestDataGenerator.randomScreenName()))));
+    }
+
+    public static List<ValidationCase> cases(List<Factor> factors) {
+        List<ValidationCase> cases = new ArrayList<>();
+        for (int[] row : Pairwise.rows(factors)) {
+            List<Level> levels = new ArrayList<>(row.length);
+            for (int f = 0; f < row.length; f++) {
+                levels.add(factors.get(f).levels().get(row[f]));
+            }
+            cases.add(new ValidationCase(factors, levels));
+        }
+        return cases;
+    }
+
+    /**
+     * Number of cases testing every combination of levels, for comparison.
+     */
+    public static long exhaustive(List<Factor> factors) {
+        return factors.stream().mapToLong(f -> f.levels().size()).reduce(1, Math::multiplyExact);
+    }
+
+    private static List<Level> ageLevels(ConfigSnapshot c, int rejectStatus) {
+        int min = c.minAge();
+        int max = c.maxAge();
+        return List.of(
+                Level.valid("min", p -> p.setAge(min)),
+                Level.valid("max", p -> p.setAge(max)),
+                Level.valid("mid", p -> p.setAge((min + max) / 2)),
+                Level.invalid("min-1", AGE_TITLES, p -> p.setAge(min - 1)).rejectedWith(rejectStatus),
+                Level.invalid("max+1", AGE_TITLES, p -> p.setAge(max + 1)).rejectedWith(rejectStatus));
+    }
+
+    private static List<Level> genderLevels() {
+        List<Level> levels = new ArrayList<>();
+        for (Gender g : Gender.values()) {
+            if (g != Gender.UNKNOWN) {
+                levels.add(Level.valid(g.getValue(), p -> p.setGender(g.getValue())));
+            }
+        }
+        levels.add(Level.invalid("invalid", p -> p.setGender("invalid_gender")));
+        return levels;
+    }
+
+    /**
+     * "min-1" is only a level when a shorter, non-empty password exists.
+     */
+    private static List<Level> passwordLevels(ConfigSnapshot c) {
+        int min = c.minPasswordLength();
+        int max = c.maxPasswordLength();
+        List<Level> levels = new ArrayList<>(List.of(
+                Level.valid("min", p -> p.setPassword(TestDataGenerator.passwordOfLength(min))),
+                Level.valid("max", p -> p.setPassword(TestDataGenerator.passwordOfLength(max)))));
+        if (min - 1 >= 1) {
+            levels.add(Level.invalid("min-1", p -> p.setPassword(TestDataGenerator.passwordOfLength(min - 1))));
+        }
+        levels.add(Level.invalid("max+1", p -> p.setPassword(TestDataGenerator.passwordOfLength(max + 1))));
+        levels.add(Level.invalid("no-digits", p -> p.setPassword(TestDataGenerator.passwordWithoutNumbers(min))));
+        levels.add(Level.invalid("no-letters", p -> p.setPassword(TestDataGenerator.passwordWithoutLetters(min))));
+        return levels;
+    }
+}
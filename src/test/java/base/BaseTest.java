@@ -2,15 +2,15 @@ package base;
 
 import spribe.task.api.core.RequestSpecFactory;
 import io.restassured.specification.RequestSpecification;
-import org.testng.annotations.BeforeClass;
 
 
 public abstract class BaseTest {
 
-    protected RequestSpecification spec;
-
-    @BeforeClass(alwaysRun = true)
-    public void setupSpec() {
-        spec = RequestSpecFactory.defaultSpec();
+    /**
+     * Built on first use rather than in a @BeforeClass hook, so classes that never send
+     * a request do not pay for RestAssured / Allure initialization.
+     */
+    protected RequestSpecification spec() {
+        return RequestSpecFactory.defaultSpec();
     }
 }
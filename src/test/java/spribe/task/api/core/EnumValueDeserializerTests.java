@@ -0,0 +1,44 @@
+package spribe.task.api.core;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import spribe.task.api.model.enums.Gender;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.model.response.PlayerResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+public class EnumValueDeserializerTests {
+
+    @Test(description = "Player response binds gender and role to the enums Test")
+    public void playerResponseBindsEnumsTest() throws IOException {
+        PlayerResponse player = JacksonProvider.mapper().readValue(
+                "{\"id\":1,\"gender\":\"Female\",\"role\":\"no_such_role\"}", PlayerResponse.class);
+
+        Assert.assertEquals(player.getGenderType(), Gender.FEMALE);
+        Assert.assertEquals(player.getGender(), "female");
+        Assert.assertEquals(player.getRoleType(), Role.UNKNOWN);
+    }
+
+    @Test(description = "Deserializer keeps its lookup through Java serialization Test")
+    public void lookupSurvivesSerializationTest() throws Exception {
+        EnumValueDeserializer<Role> original = new EnumValueDeserializer<>(Role.class, Role::fromValue, Role.UNKNOWN);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        EnumValueDeserializer<?> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (EnumValueDeserializer<?>) in.readObject();
+        }
+
+        try (var parser = JacksonProvider.mapper().createParser("\"admin\"")) {
+            parser.nextToken();
+            Assert.assertEquals(copy.deserialize(parser, null), Role.ADMIN);
+        }
+    }
+}
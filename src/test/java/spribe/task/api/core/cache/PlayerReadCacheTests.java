@@ -0,0 +1,90 @@
+package spribe.task.api.core.cache;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class PlayerReadCacheTests {
+
+    @Test(description = "Second read of a player is served from the cache Test")
+    public void secondReadIsHitTest() {
+        PlayerReadCache cache = PlayerReadCache.create(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Response> loader = counting(loads, 200);
+
+        Response first = cache.getById(7, loader);
+        Response second = cache.getById(7, loader);
+
+        Assert.assertEquals(loads.get(), 1);
+        Assert.assertSame(second, first);
+        Assert.assertEquals(second.asString(), "{\"id\":7}");
+        Assert.assertEquals(cache.stats().hitCount(), 1);
+    }
+
+    @Test(description = "Update of a player invalidates its entry and the list Test")
+    public void changeInvalidatesPlayerAndListTest() {
+        PlayerReadCache cache = PlayerReadCache.create(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Response> loader = counting(loads, 200);
+        cache.getById(7, loader);
+        cache.getAll(loader);
+
+        cache.onChange(7);
+        cache.getById(7, loader);
+        cache.getAll(loader);
+
+        Assert.assertEquals(loads.get(), 4);
+    }
+
+    @Test(description = "Failed reads are not cached Test")
+    public void failedReadIsNotCachedTest() {
+        PlayerReadCache cache = PlayerReadCache.create(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Response> loader = counting(loads, 500);
+
+        cache.getById(7, loader);
+        cache.getById(7, loader);
+
+        Assert.assertEquals(loads.get(), 2);
+    }
+
+    @Test(description = "Read in flight during an invalidation is not stored Test")
+    public void readRacingInvalidationIsNotStoredTest() {
+        PlayerReadCache cache = PlayerReadCache.create(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Response> racing = () -> {
+            // a delete through the same service lands while this read is on the wire
+            cache.onChange(7);
+            return counting(loads, 200).get();
+        };
+
+        cache.getById(7, racing);
+        cache.getById(7, counting(loads, 200));
+
+        Assert.assertEquals(loads.get(), 2);
+    }
+
+    @Test(description = "Disabled cache always loads Test")
+    public void disabledCacheAlwaysLoadsTest() {
+        PlayerReadCache cache = PlayerReadCache.disabled();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getById(7, counting(loads, 200));
+        cache.getById(7, counting(loads, 200));
+
+        Assert.assertEquals(loads.get(), 2);
+    }
+
+    private static Supplier<Response> counting(AtomicInteger loads, int status) {
+        return () -> {
+            loads.incrementAndGet();
+            return new ResponseBuilder().setStatusCode(status).setBody("{\"id\":7}")
+                    .setContentType("application/json").build();
+        };
+    }
+}
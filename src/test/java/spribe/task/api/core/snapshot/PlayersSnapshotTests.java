@@ -0,0 +1,65 @@
+package spribe.task.api.core.snapshot;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class PlayersSnapshotTests {
+
+    private static final String TWO_PLAYERS = "{\"players\":[{\"id\":1,\"screenName\":\"a\"},{\"id\":2,\"screenName\":\"b\"}]}";
+
+    @Test(description = "First poll reports every player as added and keeps the validators Test")
+    public void firstPollAddsEveryPlayerTest() {
+        PlayersDelta delta = PlayersSnapshot.next(null, response(200, TWO_PLAYERS, "\"v1\""));
+
+        Assert.assertTrue(delta.isChanged());
+        Assert.assertEquals(delta.added().size(), 2);
+        Assert.assertEquals(delta.snapshot().etag(), "\"v1\"");
+    }
+
+    @Test(description = "304 keeps the previous snapshot Test")
+    public void notModifiedKeepsPreviousSnapshotTest() {
+        PlayersSnapshot first = PlayersSnapshot.next(null, response(200, TWO_PLAYERS, "\"v1\"")).snapshot();
+
+        PlayersDelta delta = PlayersSnapshot.next(first, response(304, "", null));
+
+        Assert.assertFalse(delta.isChanged());
+        Assert.assertSame(delta.snapshot(), first);
+    }
+
+    @Test(description = "An identical body is reported unchanged without parsing Test")
+    public void identicalBodyIsUnchangedTest() {
+        PlayersSnapshot first = PlayersSnapshot.next(null, response(200, TWO_PLAYERS, null)).snapshot();
+
+        PlayersDelta delta = PlayersSnapshot.next(first, response(200, TWO_PLAYERS, "\"v2\""));
+
+        Assert.assertFalse(delta.isChanged());
+        Assert.assertSame(delta.snapshot().playersById(), first.playersById());
+        Assert.assertEquals(delta.snapshot().etag(), "\"v2\"");
+    }
+
+    @Test(description = "Delta lists added, updated and removed players Test")
+    public void deltaListsAddedUpdatedAndRemovedPlayersTest() {
+        PlayersSnapshot first = PlayersSnapshot.next(null, response(200, TWO_PLAYERS, null)).snapshot();
+
+        PlayersDelta delta = PlayersSnapshot.next(first, response(200,
+                "{\"players\":[{\"id\":1,\"screenName\":\"renamed\"},{\"id\":3,\"screenName\":\"c\"}]}", null));
+
+        Assert.assertTrue(delta.isChanged());
+        Assert.assertEquals(delta.added().get(0).getPlayerId(), Integer.valueOf(3));
+        Assert.assertEquals(delta.updated().get(0).getScreenName(), "renamed");
+        Assert.assertEquals(delta.removed(), List.of(2));
+    }
+
+    private static Response response(int status, String body, String etag) {
+        ResponseBuilder builder = new ResponseBuilder().setStatusCode(status).setBody(body)
+                .setContentType("application/json");
+        if (etag != null) {
+            builder.setHeader("ETag", etag);
+        }
+        return builder.build();
+    }
+}
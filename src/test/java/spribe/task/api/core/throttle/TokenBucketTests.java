@@ -0,0 +1,52 @@
+package spribe.task.api.core.throttle;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucketTests {
+
+    @Test(description = "Burst permits are available at once and the next one is not Test")
+    public void burstLimitsBackToBackPermitsTest() {
+        TokenBucket bucket = new TokenBucket(1, 3);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(bucket.tryAcquire(), "Permit " + (i + 1) + " of the burst");
+        }
+        Assert.assertFalse(bucket.tryAcquire(), "Permit beyond the burst must wait for a refill");
+    }
+
+    @Test(description = "Permits refill at the configured rate Test")
+    public void permitsRefillAtRateTest() {
+        TokenBucket bucket = new TokenBucket(50, 1);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 11; i++) {
+            bucket.acquire();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // the first permit is immediate, the other ten come 20ms apart
+        Assert.assertTrue(elapsedMs >= 190, "11 permits at 50/s took only " + elapsedMs + "ms");
+        Assert.assertTrue(elapsedMs < 1000, "11 permits at 50/s took " + elapsedMs + "ms");
+    }
+
+    @Test(description = "Interrupted acquire fails and gives its permit back Test")
+    public void interruptedAcquireFailsAndRefundsTest() {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        Assert.assertTrue(bucket.tryAcquire());
+
+        Thread.currentThread().interrupt();
+        try {
+            Assert.expectThrows(IllegalStateException.class, bucket::acquire);
+            Assert.assertEquals(bucket.tryAcquire(5, TimeUnit.SECONDS), -1L, "Interrupted wait must not claim");
+            Assert.assertTrue(Thread.currentThread().isInterrupted(), "Interrupt flag must stay set");
+        } finally {
+            Thread.interrupted();
+        }
+        // both refunded, so the next permit is one interval after the first, not three
+        long waited = bucket.tryAcquire(5, TimeUnit.SECONDS);
+        Assert.assertTrue(waited >= 0 && waited <= TimeUnit.SECONDS.toNanos(1), "Waited " + waited + "ns");
+    }
+}
@@ -0,0 +1,51 @@
+package spribe.task.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.common.env.ConfigSnapshot;
+import spribe.task.common.env.TestConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of reading the values a request / generated player needs:
+ * the Owner proxy versus the immutable snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigAccessBenchmark {
+
+    private final TestConfig proxy = ConfigFactoryProvider.config();
+
+    @Benchmark
+    public void ownerProxy(Blackhole bh) {
+        bh.consume(proxy.endpointPlayerCreate());
+        bh.consume(proxy.minAge());
+        bh.consume(proxy.maxAge());
+        bh.consume(proxy.minPasswordLength());
+        bh.consume(proxy.maxPasswordLength());
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole bh) {
+        ConfigSnapshot snapshot = ConfigFactoryProvider.snapshot();
+        bh.consume(snapshot.endpointPlayerCreate());
+        bh.consume(snapshot.minAge());
+        bh.consume(snapshot.maxAge());
+        bh.consume(snapshot.minPasswordLength());
+        bh.consume(snapshot.maxPasswordLength());
+    }
+}
@@ -0,0 +1,132 @@
+package spribe.task.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import spribe.task.api.core.JacksonProvider;
+import spribe.task.api.core.index.PlayerIndex;
+import spribe.task.api.core.validation.PlayersBulkValidator;
+import spribe.task.api.model.enums.Gender;
+import spribe.task.api.model.enums.Role;
+
+import java.io.ByteArrayInputStream;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning role/gender strings of a large get/all payload into enums,
+ * and of bulk-validating the whole payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumParsingBenchmark {
+
+    @Param({"100000", "500000"})
+    int players;
+
+    private String[] roles;
+    private String[] genders;
+    private byte[] rolesJson;
+    private PlayerIndex index;
+    private final ObjectMapper mapper = JacksonProvider.mapper();
+    private final PlayersBulkValidator validator = new PlayersBulkValidator(16, 60, ForkJoinPool.commonPool());
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String[] roleValues = {"user", "admin", "User", "supervisor", "bogus"};
+        String[] genderValues = {"male", "female", "FEMALE", "other"};
+        roles = new String[players];
+        genders = new String[players];
+        StringBuilder json = new StringBuilder("[");
+        StringBuilder all = new StringBuilder("{\"players\":[");
+        for (int i = 0; i < players; i++) {
+            roles[i] = new String(roleValues[i % roleValues.length]);
+            genders[i] = new String(genderValues[i % genderValues.length]);
+            json.append(i == 0 ? "" : ",").append('"').append(roles[i]).append('"');
+            all.append(i == 0 ? "" : ",")
+                    .append("{\"id\":").append(i + 1)
+                    .append(",\"age\":").append(16 + i % 45)
+                    .append(",\"gender\":\"").append(genders[i].toLowerCase(Locale.ROOT))
+                    .append("\",\"role\":\"").append(roles[i].toLowerCase(Locale.ROOT))
+                    .append("\",\"screenName\":\"sn").append(i).append("\"}");
+        }
+        rolesJson = json.append(']').toString().getBytes();
+        index = PlayerIndex.read(new ByteArrayInputStream(all.append("]}").toString().getBytes()), false);
+    }
+
+    @Benchmark
+    public void fromValueFastPath(Blackhole bh) {
+        for (int i = 0; i < players; i++) {
+            bh.consume(Role.fromValue(roles[i]));
+            bh.consume(Gender.fromValue(genders[i]));
+        }
+    }
+
+    @Benchmark
+    public void linearScanIgnoreCase(Blackhole bh) {
+        for (int i = 0; i < players; i++) {
+            bh.consume(scanRole(roles[i]));
+            bh.consume(scanGender(genders[i]));
+        }
+    }
+
+    @Benchmark
+    public void valueOfUpperCase(Blackhole bh) {
+        for (int i = 0; i < players; i++) {
+            bh.consume(valueOf(Role.class, roles[i]));
+            bh.consume(valueOf(Gender.class, genders[i]));
+        }
+    }
+
+    @Benchmark
+    public Role[] jacksonBindRoles() throws Exception {
+        return mapper.readValue(rolesJson, Role[].class);
+    }
+
+    @Benchmark
+    public Object bulkValidate() {
+        return validator.validate(index);
+    }
+
+    private static Role scanRole(String value) {
+        for (Role role : Role.values()) {
+            if (role.getValue().equalsIgnoreCase(value)) {
+                return role;
+            }
+        }
+        return Role.UNKNOWN;
+    }
+
+    private static Gender scanGender(String value) {
+        for (Gender gender : Gender.values()) {
+            if (gender.getValue().equalsIgnoreCase(value)) {
+                return gender;
+            }
+        }
+        return Gender.UNKNOWN;
+    }
+
+    private static <E extends Enum<E>> E valueOf(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Enum.valueOf(type, "UNKNOWN");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package spribe.task.support.race;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import spribe.task.support.race.LinearizabilityChecker.PlayerState;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recorded histories checked without the API: a delete followed by a get that answers 200 with no player
+ * (as get does for a missing player) is linearizable; the same get returning the player is a ghost delete.
+ */
+public class LinearizabilityCheckerTests {
+
+    private static final PlayerState INITIAL = new PlayerState(true, Map.of("age", "30"));
+
+    @Test(description = "Read 200 without the player after a delete is linearizable Test")
+    public void emptyReadAfterDeleteIsLinearizableTest() {
+        List<RaceOperation> history = List.of(
+                operation(0, RaceOperation.Type.DELETE, 0, 10, 204, false, Map.of()),
+                operation(1, RaceOperation.Type.READ, 20, 30, 200, false, Map.of()));
+
+        Assert.assertTrue(LinearizabilityChecker.check(INITIAL, history).isPresent(),
+                "An empty 200 after a completed delete should mean the player is gone");
+    }
+
+    @Test(description = "Read 200 without the player before any delete is not linearizable Test")
+    public void emptyReadOfExistingPlayerIsNotLinearizableTest() {
+        List<RaceOperation> history = List.of(
+                operation(0, RaceOperation.Type.READ, 0, 10, 200, false, Map.of()),
+                operation(1, RaceOperation.Type.DELETE, 20, 30, 204, false, Map.of()));
+
+        Assert.assertTrue(LinearizabilityChecker.check(INITIAL, history).isEmpty(),
+                "An empty 200 while the player exists should not be explained");
+    }
+
+    @Test(description = "Read returning the player after a delete is a ghost delete Test")
+    public void playerReadAfterDeleteIsGhostDeleteTest() {
+        List<RaceOperation> history = List.of(
+                operation(0, RaceOperation.Type.DELETE, 0, 10, 204, false, Map.of()),
+                operation(1, RaceOperation.Type.READ, 20, 30, 200, true, Map.of("age", "30")));
+
+        Assert.assertTrue(LinearizabilityChecker.check(INITIAL, history).isEmpty());
+        RaceAnomaly anomaly = RaceFuzzer.classify(0, 1, INITIAL.fields(), history, 0);
+        Assert.assertEquals(anomaly.kind(), "GHOST_DELETE", anomaly.toString());
+    }
+
+    @Test(description = "Empty read after a delete is not reported as a ghost delete Test")
+    public void emptyReadIsNotClassifiedAsGhostDeleteTest() {
+        List<RaceOperation> history = List.of(
+                operation(0, RaceOperation.Type.DELETE, 0, 10, 204, false, Map.of()),
+                operation(1, RaceOperation.Type.READ, 20, 30, 200, false, Map.of()));
+
+        RaceAnomaly anomaly = RaceFuzzer.classify(0, 1, INITIAL.fields(), history, 0);
+        Assert.assertNotEquals(anomaly.kind(), "GHOST_DELETE", anomaly.toString());
+    }
+
+    private static RaceOperation operation(int index, RaceOperation.Type type, long invoke, long complete,
+                                           int status, boolean found, Map<String, String> observed) {
+        return new RaceOperation(index, "supervisor", type, Map.of(), invoke, complete, status, found, observed);
+    }
+}
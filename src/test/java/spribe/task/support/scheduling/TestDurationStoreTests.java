@@ -0,0 +1,46 @@
+package spribe.task.support.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TestDurationStoreTests {
+
+    private static final String METHOD = "spribe.task.tests.players.ValidationMatrixTests.createValidationMatrixTest";
+
+    @Test(description = "Data provider invocations are summed before blending Test")
+    public void invocationsOfOneRunAreSummedBeforeBlendingTest() throws IOException {
+        Path dir = Files.createTempDirectory("durations");
+        Path file = dir.resolve(TestDurationStore.FILE_NAME);
+        Files.writeString(file, METHOD + "=1000\n");
+
+        TestDurationStore store = TestDurationStore.load(file);
+        for (int row = 0; row < 10; row++) {
+            store.record(METHOD, 300);
+        }
+        store.save();
+        store.save();
+
+        // one run of 3000ms blended once with the stored 1000ms, not ten runs of 300ms
+        Assert.assertEquals(TestDurationStore.load(file).get(METHOD).orElseThrow(), 2000L);
+    }
+
+    @Test(description = "A shard hands over only the tests it ran Test")
+    public void recordedSaveHoldsOnlyTheTestsOfThisRunTest() throws IOException {
+        Path dir = Files.createTempDirectory("durations");
+        Path file = dir.resolve(TestDurationStore.FILE_NAME);
+        Files.writeString(file, METHOD + "=1000\nother.Tests.test=500\n");
+
+        TestDurationStore store = TestDurationStore.load(file);
+        store.record(METHOD, 1000);
+        Path own = dir.resolve("shard.properties");
+        store.saveRecordedTo(own);
+
+        TestDurationStore handedOver = TestDurationStore.load(own);
+        Assert.assertEquals(handedOver.size(), 1);
+        Assert.assertEquals(handedOver.get(METHOD).orElseThrow(), 1000L);
+    }
+}
@@ -0,0 +1,36 @@
+package spribe.task.support.soak;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class LatencyWindowsTests {
+
+    @Test(description = "Failed calls are counted as errors and kept out of the latency histogram Test")
+    public void failuresAreCountedApartFromLatencyTest() {
+        LatencyWindows windows = new LatencyWindows();
+        windows.record("create", TimeUnit.MILLISECONDS.toNanos(40), false);
+        windows.record("create", TimeUnit.MILLISECONDS.toNanos(1), true);
+        windows.record("create", TimeUnit.MILLISECONDS.toNanos(1), true);
+
+        SoakWindow window = windows.roll(-1);
+
+        Assert.assertEquals(window.requests().get("create"), Long.valueOf(3));
+        Assert.assertEquals(window.errors().get("create"), Long.valueOf(2));
+        Assert.assertEquals(window.latency().get("create").getTotalCount(), 1);
+        Assert.assertTrue(window.latency().get("create").getMinValue() >= TimeUnit.MILLISECONDS.toNanos(39),
+                "Fast failures must not pull the latency down");
+    }
+
+    @Test(description = "An operation that only failed still shows up with an empty histogram Test")
+    public void onlyFailedOperationHasEmptyHistogramTest() {
+        LatencyWindows windows = new LatencyWindows();
+        windows.record("get", TimeUnit.MILLISECONDS.toNanos(1), true);
+
+        SoakWindow window = windows.roll(-1);
+
+        Assert.assertEquals(window.errors().get("get"), Long.valueOf(1));
+        Assert.assertEquals(window.latency().get("get").getTotalCount(), 0);
+    }
+}
@@ -0,0 +1,40 @@
+package spribe.task.tests.players;
+
+import io.qameta.allure.Allure;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.support.access.AccessMatrix;
+import spribe.task.support.access.AccessReport;
+
+/**
+ * Every editor role × target × operation cell of the access rules, run once by {@link AccessMatrix}
+ * on shared fixture players; each cell is then reported as its own test invocation.
+ */
+public class AccessRightsMatrixTests {
+
+    private AccessReport report;
+
+    @BeforeClass(alwaysRun = true)
+    public void runMatrix() throws InterruptedException {
+        report = AccessMatrix.fromConfig(ConfigFactoryProvider.config()).run();
+        Allure.addAttachment("Permission table", report.toString());
+    }
+
+    @DataProvider(name = "cells")
+    public Object[][] cells() {
+        return report.results().stream()
+                .filter(r -> r.ran() || r.note() == null || !r.note().startsWith("not run"))
+                .map(r -> new Object[]{r})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(description = "Access rights matrix Test", dataProvider = "cells")
+    public void accessRightsMatrixTest(AccessReport.Result result) {
+        Assert.assertTrue(result.ran(), result.cell() + " " + result.note());
+        Assert.assertEquals(result.status(), result.cell().expectedStatus(),
+                "Unexpected status for " + result.cell() + ", see the permission table");
+    }
+}
@@ -5,8 +5,13 @@ import spribe.task.api.model.enums.Role;
 import spribe.task.api.model.request.Player;
 import spribe.task.api.model.response.PlayerResponse;
 import spribe.task.api.services.PlayersService;
+import io.qameta.allure.Allure;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.support.race.RaceFuzzer;
+import spribe.task.support.race.RaceReport;
+import spribe.task.support.race.UniquenessStress;
 import spribe.task.util.TestDataGenerator;
 
 import java.util.Collections;
@@ -44,4 +49,30 @@ public class ConcurrencyTests {
 
         Assert.assertEquals(createdIds.size(), threads, "Expected unique IDs for each created player");
     }
+
+    @Test(description = "Concurrent updates and deletes of the same player are linearizable Test")
+    public void concurrentUpdatesAndDeletesOfSamePlayerAreLinearizableTest() throws Exception {
+        RaceReport report = RaceFuzzer.fromConfig(ConfigFactoryProvider.config()).run();
+        Allure.addAttachment("Race fuzzer report", report.toString());
+
+        Assert.assertTrue(report.isClean(), "Lost updates or ghost deletes found:\n" + report);
+    }
+
+    @Test(description = "Parallel creates with the same login accept only one player Test")
+    public void parallelCreatesWithSameLoginAcceptOnlyOneTest() throws Exception {
+        UniquenessStress.Result result = new UniquenessStress(playersService,
+                ConfigFactoryProvider.config().uniquenessStressThreads()).run(UniquenessStress.Field.LOGIN);
+        Allure.addAttachment("Shared login stress", result.toString());
+
+        Assert.assertEquals(result.acceptedCount(), 1, "Expected exactly one create to win the login\n" + result);
+    }
+
+    @Test(description = "Parallel creates with the same screenName accept only one player Test")
+    public void parallelCreatesWithSameScreenNameAcceptOnlyOneTest() throws Exception {
+        UniquenessStress.Result result = new UniquenessStress(playersService,
+                ConfigFactoryProvider.config().uniquenessStressThreads()).run(UniquenessStress.Field.SCREEN_NAME);
+        Allure.addAttachment("Shared screenName stress", result.toString());
+
+        Assert.assertEquals(result.acceptedCount(), 1, "Expected exactly one create to win the screenName\n" + result);
+    }
 }
@@ -0,0 +1,26 @@
+package spribe.task.tests.players;
+
+import io.qameta.allure.Allure;
+import org.testng.annotations.Test;
+import org.testng.asserts.SoftAssert;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.support.consistency.ConsistencyProbe;
+import spribe.task.support.consistency.ConsistencyReport;
+import spribe.task.support.consistency.WriteReadSequence;
+
+
+public class ConsistencyTests {
+
+    @Test(description = "Reads reflect create, update and delete writes within the consistency timeout Test")
+    public void readsConvergeAfterWritesTest() throws Exception {
+        ConsistencyReport report = ConsistencyProbe.fromConfig(ConfigFactoryProvider.config()).run();
+        Allure.addAttachment("Read-after-write staleness", report.toString());
+
+        SoftAssert soft = new SoftAssert();
+        for (WriteReadSequence sequence : WriteReadSequence.values()) {
+            soft.assertEquals(report.notConverged(sequence), 0L,
+                    sequence.key() + ": writes not visible within the timeout\n" + report);
+        }
+        soft.assertAll();
+    }
+}
@@ -112,42 +112,7 @@ public class CreatePlayerTests extends BaseTest {
     }
 
     // ---------- Negative (validation & permissions) ----------
-
-    @Test(description = "Age below 16 should be rejected Test")
-    public void ageBelowSixteenShouldBeRejectedTest() {
-        Player playerWithInvalidAge = TestDataGenerator.generatePlayerWithInvalidAgeYoung();
-
-        ResponseWrapper<PlayerResponse> createResponse =
-                playersService.create(PlayersService.defaultSupervisor(), playerWithInvalidAge)
-                        .expectStatus(400);
-
-        Assert.assertTrue(createResponse.asError(ErrorBody.class).getTitle().toLowerCase().contains("age"),
-                "Expected age validation error");
-    }
-
-    @Test(description = "Age above 60 should be rejected Test")
-    public void ageAboveSixtyShouldBeRejectedTest() {
-        Player playerWithInvalidAge = TestDataGenerator.generatePlayerWithInvalidAgeOld();
-
-        ResponseWrapper<PlayerResponse> createResponse =
-                playersService.create(PlayersService.defaultSupervisor(), playerWithInvalidAge)
-                        .expectStatus(400);
-
-        Assert.assertTrue(createResponse.asError(ErrorBody.class).getTitle().toLowerCase().contains("age"),
-                "Expected age validation error");
-    }
-
-    @Test(description = "Invalid role should be rejected Test")
-    public void invalidRoleShouldBeRejectedTest() {
-        Player playerWithInvalidRole = TestDataGenerator.generatePlayerWithInvalidRole();
-
-        ResponseWrapper<PlayerResponse> createResponse =
-                playersService.create(PlayersService.defaultSupervisor(), playerWithInvalidRole)
-                        .expectStatus(400);
-
-        Assert.assertTrue(createResponse.asError(ErrorBody.class).getTitle().toLowerCase().contains("role"),
-                "Expected role validation error");
-    }
+    // invalid and missing fields are covered by ValidationMatrixTests
 
     @Test(description = "Duplicate login should be rejected Test")
     public void duplicateLoginShouldBeRejectedTest() {
@@ -185,137 +150,6 @@ public class CreatePlayerTests extends BaseTest {
                 "Expected unique screenName error");
     }
 
-    @Test(description = "Password too short should be rejected Test")
-    public void passwordTooShortShouldBeRejectedTest() {
-        Player playerWithShortPassword = TestDataGenerator.generatePlayerWithInvalidPasswordShort();
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithShortPassword)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Password too long should be rejected Test")
-    public void passwordTooLongShouldBeRejectedTest() {
-        Player playerWithLongPassword = TestDataGenerator.generatePlayerWithInvalidPasswordLong();
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithLongPassword)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Password without numbers should be rejected Test")
-    public void passwordWithoutNumbersShouldBeRejectedTest() {
-        Player playerWithoutNumbers = TestDataGenerator.generatePlayerWithInvalidPasswordNoNumbers();
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithoutNumbers)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Password without letters should be rejected Test")
-    public void passwordWithoutLettersShouldBeRejectedTest() {
-        Player playerWithoutLetters = TestDataGenerator.generatePlayerWithInvalidPasswordNoLetters();
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithoutLetters)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Invalid gender should be rejected Test")
-    public void invalidGenderShouldBeRejectedTest() {
-        Player playerWithInvalidGender = TestDataGenerator.generatePlayerWithInvalidGender();
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithInvalidGender)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Cannot create user with supervisor role Test")
-    public void cannotCreateUserWithSupervisorRoleTest() {
-        
-        Player playerWithSupervisorRole = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
-        playerWithSupervisorRole.setRole(Role.SUPERVISOR.getValue());
-
-        ResponseWrapper<PlayerResponse> createResponse =
-                playersService.create(PlayersService.defaultSupervisor(), playerWithSupervisorRole)
-                        .expectStatus(400);
-
-        ErrorBody error = createResponse.asError(ErrorBody.class);
-        Assert.assertTrue(error.getTitle().toLowerCase().contains("role")
-                        || error.getTitle().toLowerCase().contains("admin")
-                        || error.getTitle().toLowerCase().contains("user"),
-                "Expected role validation error for supervisor role, got: " + error.getTitle());
-        
-    }
-
-    // ---------- Required Fields Validation ----------
-
-    @Test(description = "Create with missing login should be rejected Test")
-    public void createWithMissingLoginShouldBeRejectedTest() {
-        
-        Player playerWithMissingLogin = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
-        playerWithMissingLogin.setLogin(null);
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithMissingLogin)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Create with missing password should be rejected Test")
-    public void createWithMissingPasswordShouldBeRejectedTest() {
-        
-        Player playerWithMissingPassword = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
-        playerWithMissingPassword.setPassword(null);
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithMissingPassword)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Create with missing age should be rejected Test")
-    public void createWithMissingAgeShouldBeRejectedTest() {
-        
-        Player playerWithMissingAge = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
-        playerWithMissingAge.setAge(null);
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithMissingAge)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Create with missing gender should be rejected Test")
-    public void createWithMissingGenderShouldBeRejectedTest() {
-        
-        Player playerWithMissingGender = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
-        playerWithMissingGender.setGender(null);
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithMissingGender)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Create with missing role should be rejected Test")
-    public void createWithMissingRoleShouldBeRejectedTest() {
-        
-        Player playerWithMissingRole = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
-        playerWithMissingRole.setRole(null);
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithMissingRole)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Create with missing screenName should be rejected Test")
-    public void createWithMissingScreenNameShouldBeRejectedTest() {
-        
-        Player playerWithMissingScreenName = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
-        playerWithMissingScreenName.setScreenName(null);
-
-        ResponseWrapper<PlayerResponse> response = playersService.create(PlayersService.defaultSupervisor(), playerWithMissingScreenName)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
     // ---------- Boundary Value Tests ----------
 
     @Test(description = "Create with age 16 should succeed Test")
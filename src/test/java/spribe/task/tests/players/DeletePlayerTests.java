@@ -1,6 +1,7 @@
 package spribe.task.tests.players;
 
 import spribe.task.api.core.ResponseWrapper;
+import spribe.task.api.core.scan.ScanStrategy;
 import spribe.task.api.model.enums.Role;
 import spribe.task.api.model.error.ErrorBody;
 import spribe.task.api.model.request.Player;
@@ -16,6 +17,7 @@ import spribe.task.util.TestDataGenerator;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
 
 
 public class DeletePlayerTests extends BaseTest {
@@ -64,6 +66,34 @@ public class DeletePlayerTests extends BaseTest {
         Assert.assertNotNull(deleteResponse.raw(), "Delete response must be present");
     }
 
+    @Test(description = "Deleted player is not listed by get all Test")
+    public void deletedPlayerIsNotListedByGetAllTest() {
+        Player userToCreate = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
+        int createdUserId = playersService.create(PlayersService.defaultSupervisor(), userToCreate)
+                .expectStatus(200).asBody().getPlayerId();
+
+        playersService.delete(PlayersService.defaultSupervisor(), createdUserId).expectStatus(204);
+
+        Assert.assertFalse(playersService.indexAll(false).contains(createdUserId),
+                "Deleted player must not be listed by get all");
+    }
+
+    @Test(description = "Deleted player is not returned by a fan-out scan Test")
+    public void deletedPlayerIsNotReturnedByFanOutScanTest() {
+        Player userToCreate = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
+        int createdUserId = playersService.create(PlayersService.defaultSupervisor(), userToCreate)
+                .expectStatus(200).asBody().getPlayerId();
+
+        playersService.delete(PlayersService.defaultSupervisor(), createdUserId).expectStatus(204);
+
+        // a get/all scan first narrows the fan-out to the ids in use
+        playersService.scanAll(ScanStrategy.GET_ALL).count();
+        try (Stream<PlayerResponse> players = playersService.scanAll(ScanStrategy.FAN_OUT, createdUserId)) {
+            Assert.assertTrue(players.noneMatch(p -> Integer.valueOf(createdUserId).equals(p.getPlayerId())),
+                    "Deleted player must not be returned by the fan-out scan");
+        }
+    }
+
     // ---------- Negative ----------
 
     @Test(description = "Admin cannot delete himself Test")
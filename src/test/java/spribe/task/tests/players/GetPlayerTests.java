@@ -1,6 +1,7 @@
 package spribe.task.tests.players;
 
 import spribe.task.api.core.ResponseWrapper;
+import spribe.task.api.core.cache.PlayerReadCache;
 import spribe.task.api.model.enums.Role;
 import spribe.task.api.model.error.ErrorBody;
 import spribe.task.api.model.request.Player;
@@ -15,6 +16,7 @@ import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
 import spribe.task.util.TestDataGenerator;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -71,6 +73,27 @@ public class GetPlayerTests extends BaseTest {
         soft.assertAll();
     }
 
+    @Test(description = "Cached get by id is served once and refreshed after an update Test")
+    public void cachedGetByIdIsRefreshedAfterUpdateTest() {
+        PlayersService cachedService = new PlayersService(PlayerReadCache.create(100, Duration.ofMinutes(1)));
+        Player playerToCreate = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
+        int id = cachedService.create(PlayersService.defaultSupervisor(), playerToCreate)
+                .expectStatus(200).asBody().getPlayerId();
+        createdPlayerIdsForCleanup.add(id);
+
+        cachedService.getById(id).expectStatus(200);
+        cachedService.getById(id).expectStatus(200);
+        Player update = TestDataGenerator.generateUpdatePlayerWithNewScreenName();
+        cachedService.update(PlayersService.defaultSupervisor(), id, update).expectStatus(200);
+        PlayerResponse afterUpdate = cachedService.getById(id).expectStatus(200).asBody();
+
+        SoftAssert soft = new SoftAssert();
+        soft.assertEquals(cachedService.cache().stats().hitCount(), 1L, "Second read must be a cache hit");
+        soft.assertEquals(cachedService.cache().stats().missCount(), 2L, "Read after the update must go to the API");
+        soft.assertEquals(afterUpdate.getScreenName(), update.getScreenName(), "Read after the update must see it");
+        soft.assertAll();
+    }
+
     // ---------- Negative ----------
 
     @Test(description = "Get non-existent player by id should return 404 Test")
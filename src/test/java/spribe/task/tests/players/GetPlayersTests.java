@@ -1,14 +1,24 @@
 package spribe.task.tests.players;
 
 import spribe.task.api.core.ResponseWrapper;
+import spribe.task.api.core.index.PlayerIndex;
+import spribe.task.api.core.snapshot.PlayersDelta;
+import spribe.task.api.core.validation.PlayersBulkValidator;
+import spribe.task.api.core.validation.ValidationReport;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.model.request.Player;
+import spribe.task.api.model.response.PlayerResponse;
 import spribe.task.api.model.response.PlayersResponse;
 import spribe.task.api.services.PlayersService;
+import spribe.task.common.env.ConfigFactoryProvider;
 import base.BaseTest;
 import io.restassured.module.jsv.JsonSchemaValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.testng.asserts.SoftAssert;
+import spribe.task.util.TestDataGenerator;
 
 
 public class GetPlayersTests extends BaseTest {
@@ -29,4 +39,61 @@ public class GetPlayersTests extends BaseTest {
         PlayersResponse body = getAllResponse.asBody();
         Assert.assertNotNull(body, "PlayersResponse body must not be null");
     }
+
+    @Test(description = "Created player is listed by get all with matching fields Test")
+    public void createdPlayerIsListedByGetAllTest() {
+        Player playerToCreate = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
+        PlayerResponse createdPlayer = playersService.create(PlayersService.defaultSupervisor(), playerToCreate)
+                .expectStatus(200).asBody();
+
+        try {
+            PlayerIndex index = playersService.indexAll(false);
+            log.info("get/all index footprint: {}", index.footprint());
+
+            int id = createdPlayer.getPlayerId();
+            SoftAssert soft = new SoftAssert();
+            soft.assertTrue(index.contains(id), "Created player must be listed by get all");
+            soft.assertEquals(index.screenName(id), playerToCreate.getScreenName(), "Screen name should match");
+            soft.assertEquals(index.role(id), playerToCreate.getRole(), "Role should match");
+            soft.assertEquals(index.duplicateIds(), 0, "Player ids must be unique in get all");
+            soft.assertAll();
+        } finally {
+            playersService.delete(PlayersService.defaultSupervisor(), createdPlayer.getPlayerId()).raw();
+        }
+    }
+
+    @Test(description = "Polling get all reports created and deleted players Test")
+    public void pollingGetAllReportsCreatedAndDeletedPlayersTest() {
+        PlayersService poller = new PlayersService();
+        poller.pollAll();
+
+        Player playerToCreate = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
+        int id = playersService.create(PlayersService.defaultSupervisor(), playerToCreate)
+                .expectStatus(200).asBody().getPlayerId();
+        PlayersDelta afterCreate;
+        try {
+            afterCreate = poller.pollAll();
+        } finally {
+            playersService.delete(PlayersService.defaultSupervisor(), id).raw();
+        }
+        PlayersDelta afterDelete = poller.pollAll();
+
+        // other tests run in parallel, so only this player's changes are checked
+        SoftAssert soft = new SoftAssert();
+        soft.assertTrue(afterCreate.isChanged(), "Poll after create must report a change");
+        soft.assertTrue(afterCreate.added().stream().anyMatch(p -> p.getPlayerId() == id),
+                "Created player must be reported as added: " + afterCreate);
+        soft.assertTrue(afterDelete.removed().contains(id), "Deleted player must be reported as removed: " + afterDelete);
+        soft.assertAll();
+    }
+
+    @Test(description = "Get all players payload passes bulk integrity checks Test")
+    public void getAllPlayersPayloadPassesBulkIntegrityChecksTest() {
+        PlayerIndex index = playersService.indexAll(false);
+
+        ValidationReport report = PlayersBulkValidator.fromConfig(ConfigFactoryProvider.config()).validate(index);
+        log.info("Bulk validation of get all: {}", report);
+
+        Assert.assertTrue(report.isValid(), report.toString());
+    }
 }
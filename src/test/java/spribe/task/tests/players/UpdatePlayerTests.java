@@ -170,40 +170,7 @@ public class UpdatePlayerTests extends BaseTest {
     }
 
     // ---------- Negative ----------
-
-    @Test(description = "Update with invalid age should be rejected Test")
-    public void updateWithInvalidAgeShouldBeRejectedTest() {
-        Player invalidUpdatePayload = new Player();
-        invalidUpdatePayload.setAge(15);
-
-        ResponseWrapper<PlayerResponse> updateResponse =
-                playersService.update(PlayersService.defaultSupervisor(), createdUserId, invalidUpdatePayload)
-                        .expectStatus(403);
-
-        String errorTitleLower = updateResponse.asError(ErrorBody.class).getTitle().toLowerCase();
-        Assert.assertTrue(errorTitleLower.contains("older than 16") || errorTitleLower.contains("younger than 60")
-                || errorTitleLower.contains("age"), "Expected age validation error");
-    }
-
-    @Test(description = "Update with invalid gender should be rejected Test")
-    public void updateWithInvalidGenderShouldBeRejectedTest() {
-        Player invalidUpdatePayload = new Player();
-        invalidUpdatePayload.setGender("invalid_gender");
-
-        ResponseWrapper<PlayerResponse> response = playersService.update(PlayersService.defaultSupervisor(), createdUserId, invalidUpdatePayload)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
-
-    @Test(description = "Update with invalid password should be rejected Test")
-    public void updateWithInvalidPasswordShouldBeRejectedTest() {
-        Player invalidUpdatePayload = new Player();
-        invalidUpdatePayload.setPassword("short");
-
-        ResponseWrapper<PlayerResponse> response = playersService.update(PlayersService.defaultSupervisor(), createdUserId, invalidUpdatePayload)
-                .expectStatus(400);
-        Assert.assertNotNull(response.asError(ErrorBody.class), "Error body must be present");
-    }
+    // invalid field values are covered by ValidationMatrixTests
 
     @Test(description = "Update non-existent user should return 403 Test")
     public void updateNonExistentUserShouldReturn403Test() {
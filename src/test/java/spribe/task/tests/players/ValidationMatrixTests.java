@@ -0,0 +1,146 @@
+package spribe.task.tests.players;
+
+import spribe.task.api.core.ResponseWrapper;
+import spribe.task.api.model.enums.Role;
+import spribe.task.api.model.error.ErrorBody;
+import spribe.task.api.model.request.Player;
+import spribe.task.api.model.response.PlayerResponse;
+import spribe.task.api.services.PlayersService;
+import base.BaseTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.testng.asserts.SoftAssert;
+import spribe.task.util.TestDataGenerator;
+import spribe.task.util.validation.Factor;
+import spribe.task.util.validation.ValidationCase;
+import spribe.task.util.validation.ValidationMatrix;
+
+import java.util.List;
+
+/**
+ * Pairwise create / update validation cases from {@link ValidationMatrix}, run in parallel
+ * (data-provider-thread-count of the suite). Every invocation creates and removes its own players.
+ */
+public class ValidationMatrixTests extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidationMatrixTests.class);
+    private final PlayersService playersService = new PlayersService();
+
+    @DataProvider(name = "createCases", parallel = true)
+    public Object[][] createCases() {
+        return rows("Create", ValidationMatrix.createFactors());
+    }
+
+    @DataProvider(name = "updateCases", parallel = true)
+    public Object[][] updateCases() {
+        return rows("Update", ValidationMatrix.updateFactors());
+    }
+
+    @Test(description = "Create validation matrix Test", dataProvider = "createCases")
+    public void createValidationMatrixTest(ValidationCase validationCase) {
+        Player payload = validationCase.payload();
+        ResponseWrapper<PlayerResponse> response =
+                playersService.create(PlayersService.defaultSupervisor(), payload);
+        // a wrongly accepted payload is removed as well
+        PlayerResponse created = response.raw().statusCode() == 200 ? response.asBody() : null;
+        try {
+            response.expectStatus(validationCase.expectedStatus());
+            SoftAssert soft = new SoftAssert();
+            if (validationCase.valid()) {
+                soft.assertNotNull(created.getPlayerId(), "Player ID must not be null");
+                assertStored(soft, created, payload);
+            } else {
+                assertTitle(soft, response.asError(ErrorBody.class), validationCase);
+            }
+            soft.assertAll();
+        } finally {
+            delete(created != null ? created.getPlayerId() : null);
+        }
+    }
+
+    @Test(description = "Update validation matrix Test", dataProvider = "updateCases")
+    public void updateValidationMatrixTest(ValidationCase validationCase) {
+        Player original = TestDataGenerator.generateValidPlayer(Role.USER.getValue());
+        int playerId = playersService.create(PlayersService.defaultSupervisor(), original)
+                .expectStatus(200).asBody().getPlayerId();
+        try {
+            Player update = validationCase.payload();
+            ResponseWrapper<PlayerResponse> response =
+                    playersService.update(PlayersService.defaultSupervisor(), playerId, update);
+            int status = response.raw().statusCode();
+            PlayerResponse stored = playersService.getById(playerId).expectStatus(200).asBody();
+
+            SoftAssert soft = new SoftAssert();
+            if (validationCase.valid()) {
+                soft.assertEquals(status, 200, "Valid update must succeed");
+                assertStored(soft, stored, update);
+            } else {
+                soft.assertEquals(status, validationCase.expectedStatus(),
+                        "Invalid " + validationCase.invalidField().orElseThrow() + " must be rejected");
+                if (status == validationCase.expectedStatus()) {
+                    assertTitle(soft, response.asError(ErrorBody.class), validationCase);
+                }
+                assertStored(soft, stored, original);
+            }
+            soft.assertAll();
+        } finally {
+            delete(playerId);
+        }
+    }
+
+    private static Object[][] rows(String operation, List<Factor> factors) {
+        List<ValidationCase> cases = ValidationMatrix.cases(factors);
+        log.info("{} validation matrix: {} cases instead of {} combinations", operation, cases.size(),
+                ValidationMatrix.exhaustive(factors));
+        return cases.stream().map(c -> new Object[]{c}).toArray(Object[][]::new);
+    }
+
+    private static void assertTitle(SoftAssert soft, ErrorBody error, ValidationCase validationCase) {
+        String field = validationCase.invalidField().orElseThrow();
+        soft.assertNotNull(error, "Error body must be present for invalid " + field);
+        List<String> expected = validationCase.expectedTitles();
+        if (error == null || expected.isEmpty()) {
+            return;
+        }
+        String title = error.getTitle() != null ? error.getTitle().toLowerCase() : "";
+        soft.assertTrue(expected.stream().anyMatch(title::contains),
+                "Expected " + field + " validation error, got: " + error.getTitle());
+    }
+
+    /**
+     * Compares the fields the payload sets; null fields were not sent.
+     */
+    private static void assertStored(SoftAssert soft, PlayerResponse actual, Player expected) {
+        if (expected.getAge() != null) {
+            soft.assertEquals(actual.getAge(), expected.getAge(), "age");
+        }
+        if (expected.getGender() != null) {
+            soft.assertEquals(actual.getGender(), expected.getGender(), "gender");
+        }
+        if (expected.getLogin() != null) {
+            soft.assertEquals(actual.getLogin(), expected.getLogin(), "login");
+        }
+        if (expected.getPassword() != null) {
+            soft.assertEquals(actual.getPassword(), expected.getPassword(), "password");
+        }
+        if (expected.getRole() != null) {
+            soft.assertEquals(actual.getRole(), expected.getRole(), "role");
+        }
+        if (expected.getScreenName() != null) {
+            soft.assertEquals(actual.getScreenName(), expected.getScreenName(), "screenName");
+        }
+    }
+
+    private void delete(Integer playerId) {
+        if (playerId == null) {
+            return;
+        }
+        try {
+            playersService.delete(PlayersService.defaultSupervisor(), playerId).raw();
+        } catch (Exception e) {
+            log.warn("Failed to cleanup player with id={}: {}", playerId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package spribe.task.tests.soak;
+
+import io.qameta.allure.Allure;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import spribe.task.api.services.PlayersService;
+import spribe.task.common.env.ConfigFactoryProvider;
+import spribe.task.support.soak.SoakReport;
+import spribe.task.support.soak.SoakRunner;
+import spribe.task.support.soak.SoakSettings;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs only with the soak suite (mvn test -Psoak), not as part of testng.xml.
+ */
+public class SoakTests {
+
+    private final PlayersService playersService = new PlayersService();
+
+    @Test(description = "CRUD mix stays within latency, error rate and client resource thresholds Test")
+    public void crudMixSoakTest() throws Exception {
+        SoakReport report = new SoakRunner(playersService, SoakSettings.fromConfig(ConfigFactoryProvider.config()))
+                .run();
+
+        Allure.addAttachment("Soak windows", "text/csv", report.toCsv(), ".csv");
+        Allure.addAttachment("Soak alerts", report.alertsText());
+        Path histogramLog = Files.createTempFile("soak-latency", ".hlog");
+        try {
+            report.writeHistogramLog(histogramLog);
+            Allure.addAttachment("Soak latency histograms", "text/plain", Files.readString(histogramLog), ".hlog");
+        } finally {
+            Files.deleteIfExists(histogramLog);
+        }
+
+        Assert.assertFalse(report.hasAlerts(), report.summary() + "\n" + report.alertsText());
+    }
+}
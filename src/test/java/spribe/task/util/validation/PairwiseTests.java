@@ -0,0 +1,101 @@
+package spribe.task.util.validation;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PairwiseTests {
+
+    private static final List<Factor> FACTORS = List.of(
+            factor("age", 3, 2),
+            factor("gender", 2, 1),
+            factor("role", 2, 2),
+            factor("password", 2, 3),
+            factor("login", 1, 1));
+
+    @Test(description = "Valid pairs are covered by entirely valid rows Test")
+    public void validPairsAreCoveredByValidRowsTest() {
+        List<int[]> rows = Pairwise.rows(FACTORS);
+        for (int a = 0; a < FACTORS.size(); a++) {
+            for (int b = a + 1; b < FACTORS.size(); b++) {
+                for (int la = 0; la < levels(a); la++) {
+                    for (int lb = 0; lb < levels(b); lb++) {
+                        if (!valid(a, la) || !valid(b, lb)) {
+                            continue;
+                        }
+                        Assert.assertTrue(covers(rows, a, la, b, lb, true),
+                                "No valid row with " + name(a, la) + " and " + name(b, lb));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(description = "Invalid levels are tested one per row with every valid level Test")
+    public void invalidLevelsAreAloneWithEveryValidLevelTest() {
+        List<int[]> rows = Pairwise.rows(FACTORS);
+        for (int[] row : rows) {
+            long invalid = 0;
+            for (int f = 0; f < row.length; f++) {
+                invalid += valid(f, row[f]) ? 0 : 1;
+            }
+            Assert.assertTrue(invalid <= 1, "More than one invalid level in a row");
+        }
+        for (int a = 0; a < FACTORS.size(); a++) {
+            for (int la = 0; la < levels(a); la++) {
+                if (valid(a, la)) {
+                    continue;
+                }
+                for (int b = 0; b < FACTORS.size(); b++) {
+                    for (int lb = 0; b != a && lb < levels(b); lb++) {
+                        if (valid(b, lb)) {
+                            Assert.assertTrue(covers(rows, a, la, b, lb, false),
+                                    "No row with " + name(a, la) + " and " + name(b, lb));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean covers(List<int[]> rows, int a, int la, int b, int lb, boolean allValid) {
+        for (int[] row : rows) {
+            if (row[a] != la || row[b] != lb) {
+                continue;
+            }
+            boolean valid = true;
+            for (int f = 0; f < row.length; f++) {
+                valid &= valid(f, row[f]);
+            }
+            if (valid || !allValid) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Factor factor(String field, int valid, int invalid) {
+        List<Level> levels = new ArrayList<>();
+        for (int i = 0; i < valid; i++) {
+            levels.add(Level.valid("valid" + i, p -> { }));
+        }
+        for (int i = 0; i < invalid; i++) {
+            levels.add(Level.invalid("invalid" + i, p -> { }));
+        }
+        return new Factor(field, levels);
+    }
+
+    private static int levels(int factor) {
+        return FACTORS.get(factor).levels().size();
+    }
+
+    private static boolean valid(int factor, int level) {
+        return FACTORS.get(factor).levels().get(level).valid();
+    }
+
+    private static String name(int factor, int level) {
+        return FACTORS.get(factor).field() + "=" + FACTORS.get(factor).levels().get(level).name();
+    }
+}